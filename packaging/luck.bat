@@ -0,0 +1,5 @@
+@echo off
+rem Inicia o LUCK com o runtime reduzido e o arquivo CDS (classes ja carregadas
+rem e verificadas). O caminho do jar no CDS e relativo, entao roda desta pasta.
+cd /d "%~dp0"
+start "" bin\javaw -XX:SharedArchiveFile=lib/luck.jsa -Xshare:auto %LUCK_OPTS% -cp app/LUCK.jar Main %*
@@ -2,44 +2,86 @@ import core.*;
 import game.*;
 import javax.swing.*;
 import java.awt.*;
-import javax.imageio.ImageIO;
-import java.io.IOException;
 
 /**
  * Classe principal do jogo
  */
 public class Main {
+    // Imagens decodificadas em paralelo antes de as telas serem criadas
+    private static final String[] BACKGROUNDS = {
+        "/assets/bg-game.png",
+        "/assets/bg-menu.png"
+    };
+    // Sprites do atlas (ou imagens separadas, sem atlas)
+    private static final String[] SPRITES = {
+        "cartas", "dados", "red_deck", "pausar", "revolver", "ordenar", "reverter"
+    };
+    
     public static void main(String[] args) {
+        StartupTimeline.mark("main");
         SwingUtilities.invokeLater(() -> {
             // Cria a janela principal
+            StartupTimeline.Phase window = StartupTimeline.begin("janela (JFrame + splash)");
             JFrame frame = new JFrame("LUCK");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-            frame.setSize(Settings.GAME_WIDTH, Settings.GAME_HEIGHT);
-            frame.setLocationRelativeTo(null);
-            frame.setResizable(false);
-            
-            // Define o ícone da janela
-            try {
-                Image icon = ImageIO.read(Main.class.getResourceAsStream("/assets/revolver.png"));
-                frame.setIconImage(icon);
-            } catch (IOException e) {
-                System.err.println("Erro ao carregar ícone da janela: " + e.getMessage());
-            }
-            
-            // Cria o gerenciador de telas
-            ScreenManager screenManager = new ScreenManager(frame);
+            frame.setResizable(true);
             
-            // Registra as telas
-            screenManager.registerScreen("menu", new MenuScreen(screenManager));
-            screenManager.registerScreen("options", new OptionsScreen(screenManager));
-            screenManager.registerScreen("tutorial", new TutorialScreen(screenManager));
-            screenManager.registerScreen("game", new GameScreen(screenManager));
+            // Abertura leve enquanto os assets carregam
+            LoadingSplash splash = new LoadingSplash();
+            frame.setContentPane(splash);
             
-            // Inicia no menu principal
-            screenManager.changeScreen("menu");
+            // Ajusta a janela à resolução virtual; pode ser redimensionada depois
+            frame.pack();
+            frame.setMinimumSize(new Dimension(Settings.GAME_WIDTH / 2, Settings.GAME_HEIGHT / 2));
+            frame.setLocationRelativeTo(null);
             
             // Exibe a janela
             frame.setVisible(true);
+            window.end();
+            
+            // A música do menu é aberta no mesmo pool das imagens
+            Runnable[] tasks = { SoundManager::getInstance };
+            String[] sprites = Atlas.getInstance().imagePaths(SPRITES);
+            String[] images = new String[BACKGROUNDS.length + sprites.length];
+            System.arraycopy(BACKGROUNDS, 0, images, 0, BACKGROUNDS.length);
+            System.arraycopy(sprites, 0, images, BACKGROUNDS.length, sprites.length);
+            AssetPreloader.getInstance().start(images, tasks, splash::setProgress, () -> startGame(frame));
         });
     }
+    
+    /**
+     * Cria as telas com os assets já carregados (na EDT)
+     */
+    private static void startGame(JFrame frame) {
+        // Define o ícone da janela
+        StartupTimeline.Phase iconPhase = StartupTimeline.begin("ícone da janela");
+        Image icon = Atlas.getInstance().getImage("revolver");
+        if (icon != null) {
+            frame.setIconImage(icon);
+        } else {
+            System.err.println("Erro ao carregar ícone da janela");
+        }
+        iconPhase.end();
+        
+        // Cria o gerenciador de telas
+        StartupTimeline.Phase managerPhase = StartupTimeline.begin("ScreenManager");
+        ScreenManager screenManager = new ScreenManager(frame);
+        managerPhase.end();
+        
+        // Registra as telas (construídas só quando forem usadas)
+        screenManager.registerScreen("menu", () -> new MenuScreen(screenManager));
+        screenManager.registerScreen("options", () -> new OptionsScreen(screenManager));
+        screenManager.registerScreen("tutorial", () -> new TutorialScreen(screenManager));
+        screenManager.registerScreen("game", () -> new GameScreen(screenManager));
+        
+        // Inicia no menu principal e prepara o jogo enquanto o menu está parado
+        screenManager.changeScreen("menu");
+        screenManager.warmUp("game");
+        
+        // Inicia o loop central (lógica em passo fixo + repaint por frame)
+        StartupTimeline.mark("GameLoop");
+        GameLoop.getInstance().start(screenManager);
+        
+        frame.revalidate();
+    }
 }
@@ -0,0 +1,341 @@
+package core;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Renderização ativa: um Canvas com BufferStrategy pintado em ritmo fixo
+ *
+ * Quando ligada (em {@link Settings}), um Canvas cobre a janela e uma thread
+ * dedicada marca o ritmo dos frames, limitado ao FPS configurado (ou à taxa
+ * de atualização do monitor). A cada frame, a EDT pinta o palco e as camadas
+ * acima dele (diagnóstico e fade) no back buffer; a troca de buffers e o
+ * sync com o display ficam na thread de render, fora da EDT. Os repaints do
+ * palco deixam de ir ao RepaintManager, já que todo frame é pintado inteiro.
+ * Se o BufferStrategy não puder ser criado (ou sem display), o jogo continua
+ * no caminho passivo do Swing.
+ */
+public class ActiveRenderer {
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    private static final long SPIN_THRESHOLD_NANOS = 1_500_000; // Resto do intervalo em yield
+    private static final long STOP_TIMEOUT_MS = 500;
+
+    private static ActiveRenderer instance;
+
+    private JFrame frame;
+    private ScaledStage stage;
+    private Canvas canvas;
+    private BufferStrategy strategy;
+    private Thread renderThread;
+    private volatile boolean running = false;
+    private volatile long frameInterval; // Calculado na EDT, lido pela thread de render
+    private int intervalFps = -1; // Limite e tela usados no último cálculo (só na EDT)
+    private GraphicsConfiguration intervalConfig;
+    private final Runnable drawFrame = this::drawFrame;
+    private final ComponentAdapter resizeListener = new ComponentAdapter() {
+        @Override
+        public void componentResized(ComponentEvent e) {
+            layoutCanvas();
+        }
+    };
+
+    private ActiveRenderer() {
+    }
+
+    public static ActiveRenderer getInstance() {
+        if (instance == null) {
+            instance = new ActiveRenderer();
+        }
+        return instance;
+    }
+
+    /**
+     * Associa a janela e o palco; aplica o modo atual quando a janela abrir
+     */
+    public void attach(JFrame frame, ScaledStage stage) {
+        this.frame = frame;
+        this.stage = stage;
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                updateMode();
+            }
+
+            @Override
+            public void windowClosing(WindowEvent e) {
+                stop();
+            }
+        });
+        // Janela já aberta (ex.: criada atrás da tela de carregamento)
+        updateMode();
+    }
+
+    /**
+     * Retorna true se os frames estão sendo pintados pelo BufferStrategy
+     */
+    public boolean isActive() {
+        return running;
+    }
+
+    /**
+     * Liga ou desliga a renderização ativa conforme as configurações
+     */
+    public void updateMode() {
+        if (frame == null || !frame.isDisplayable()) return;
+        boolean wanted = Settings.getInstance().isActiveRendering();
+        if (wanted && !running) {
+            start();
+        } else if (!wanted && running) {
+            stop();
+        }
+    }
+
+    private void start() {
+        if (GraphicsEnvironment.isHeadless()) {
+            fallBack();
+            return;
+        }
+        canvas = new Canvas();
+        canvas.setFocusable(false); // Teclado continua com os componentes Swing
+        canvas.setIgnoreRepaint(true);
+        installMouseForwarding(canvas);
+
+        JLayeredPane layers = frame.getLayeredPane();
+        layers.add(canvas, JLayeredPane.DRAG_LAYER, 0);
+        layers.addComponentListener(resizeListener);
+        layoutCanvas();
+
+        try {
+            canvas.createBufferStrategy(2);
+            strategy = canvas.getBufferStrategy();
+        } catch (RuntimeException e) {
+            System.err.println("Renderização ativa indisponível, usando o Swing: " + e.getMessage());
+            strategy = null;
+        }
+        if (strategy == null) {
+            removeCanvas();
+            fallBack();
+            return;
+        }
+
+        stage.setExternallyRendered(true);
+        updateFrameInterval();
+        running = true;
+        renderThread = new Thread(this::renderLoop, "render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    /**
+     * Para a thread de render e volta ao caminho passivo (na EDT)
+     */
+    public void stop() {
+        if (!running) return;
+        running = false;
+        // A thread pode estar esperando esta EDT em invokeAndWait: a interrupção
+        // a libera, e o join garante que ela não chama mais show() no
+        // BufferStrategy descartado em removeCanvas
+        Thread thread = renderThread;
+        renderThread = null;
+        thread.interrupt();
+        try {
+            thread.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            System.err.println("Thread de render não terminou em " + STOP_TIMEOUT_MS + " ms");
+        }
+        stage.setExternallyRendered(false);
+        removeCanvas();
+        frame.getRootPane().repaint();
+    }
+
+    private void removeCanvas() {
+        JLayeredPane layers = frame.getLayeredPane();
+        layers.removeComponentListener(resizeListener);
+        layers.remove(canvas);
+        if (strategy != null) {
+            strategy.dispose();
+            strategy = null;
+        }
+        canvas = null;
+    }
+
+    private void layoutCanvas() {
+        if (canvas != null) {
+            JLayeredPane layers = frame.getLayeredPane();
+            canvas.setBounds(0, 0, layers.getWidth(), layers.getHeight());
+        }
+    }
+
+    /**
+     * Recalcula o intervalo entre frames se o limite de FPS ou a tela mudaram (na EDT)
+     */
+    private void updateFrameInterval() {
+        int fps = Settings.getInstance().getFpsCap();
+        GraphicsConfiguration config = frame.getGraphicsConfiguration();
+        if (fps != intervalFps || config != intervalConfig) {
+            intervalFps = fps;
+            intervalConfig = config;
+            frameInterval = frameIntervalNanos(fps, config);
+        }
+    }
+
+    /**
+     * Intervalo entre frames conforme o limite de FPS (0 = taxa do monitor)
+     */
+    private static long frameIntervalNanos(int fps, GraphicsConfiguration config) {
+        if (fps <= 0) {
+            int refresh = config != null ? config.getDevice().getDisplayMode().getRefreshRate() : DisplayMode.REFRESH_RATE_UNKNOWN;
+            fps = refresh > 0 ? refresh : DEFAULT_REFRESH_RATE;
+        }
+        return 1_000_000_000L / fps;
+    }
+
+    private void renderLoop() {
+        long next = System.nanoTime();
+        while (running) {
+            BufferStrategy current = strategy;
+            try {
+                do {
+                    do {
+                        SwingUtilities.invokeAndWait(drawFrame);
+                    } while (running && current.contentsRestored());
+                    if (!running) return;
+                    current.show();
+                    Toolkit.getDefaultToolkit().sync();
+                } while (running && current.contentsLost());
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                if (running) {
+                    System.err.println("Erro na renderização ativa, voltando ao Swing: " + e.getMessage());
+                    SwingUtilities.invokeLater(this::fallBack);
+                }
+                return;
+            }
+
+            // Ritmo por prazos absolutos; se atrasou mais de um frame, ressincroniza
+            long interval = frameInterval;
+            next += interval;
+            long now = System.nanoTime();
+            if (now - next > interval) {
+                next = now;
+            }
+            if (!waitUntil(next)) return;
+        }
+    }
+
+    /**
+     * Dorme até perto do prazo e completa com yield; false se interrompida
+     */
+    private boolean waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (!running) return false;
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                try {
+                    Thread.sleep((remaining - SPIN_THRESHOLD_NANOS) / 1_000_000);
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            } else {
+                Thread.yield();
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Pinta o palco e as camadas acima dele no back buffer (na EDT)
+     */
+    private void drawFrame() {
+        if (!running || strategy == null) return;
+        updateFrameInterval();
+        Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+        // O back buffer já é o buffer do frame; evita a cópia extra do RepaintManager
+        RepaintManager manager = RepaintManager.currentManager(stage);
+        boolean doubleBuffered = manager.isDoubleBufferingEnabled();
+        manager.setDoubleBufferingEnabled(false);
+        try {
+            JLayeredPane layers = frame.getLayeredPane();
+            // Índice maior = mais ao fundo
+            for (int i = layers.getComponentCount() - 1; i >= 0; i--) {
+                Component c = layers.getComponent(i);
+                if (c != canvas && c.isVisible()) {
+                    paintAt(g, c);
+                }
+            }
+            Component glass = frame.getGlassPane();
+            if (glass.isVisible()) {
+                paintAt(g, glass);
+            }
+        } finally {
+            manager.setDoubleBufferingEnabled(doubleBuffered);
+            g.dispose();
+        }
+    }
+
+    private static void paintAt(Graphics g, Component c) {
+        if (c.getWidth() <= 0 || c.getHeight() <= 0) return;
+        Graphics cg = g.create(c.getX(), c.getY(), c.getWidth(), c.getHeight());
+        try {
+            c.paint(cg);
+        } finally {
+            cg.dispose();
+        }
+    }
+
+    /**
+     * Volta a configuração para o Swing (que não reinicia a renderização ativa)
+     */
+    private void fallBack() {
+        Settings.getInstance().setActiveRendering(false);
+    }
+
+    /**
+     * Reenvia os eventos de mouse do Canvas ao palco (ou ao fade, que os bloqueia)
+     */
+    private void installMouseForwarding(Canvas target) {
+        MouseAdapter forwarder = new MouseAdapter() {
+            @Override public void mousePressed(MouseEvent e) { forward(e); }
+            @Override public void mouseReleased(MouseEvent e) { forward(e); }
+            @Override public void mouseClicked(MouseEvent e) { forward(e); }
+            @Override public void mouseEntered(MouseEvent e) { forward(e); }
+            @Override public void mouseExited(MouseEvent e) { forward(e); }
+            @Override public void mouseMoved(MouseEvent e) { forward(e); }
+            @Override public void mouseDragged(MouseEvent e) { forward(e); }
+            @Override public void mouseWheelMoved(MouseWheelEvent e) { forward(e); }
+        };
+        target.addMouseListener(forwarder);
+        target.addMouseMotionListener(forwarder);
+        target.addMouseWheelListener(forwarder);
+    }
+
+    private void forward(MouseEvent e) {
+        // Durante a transição o fade intercepta o mouse, como no caminho Swing
+        if (frame.getGlassPane().isVisible() || canvas == null) return;
+        Point p = SwingUtilities.convertPoint(canvas, e.getX(), e.getY(), stage);
+        MouseEvent copy;
+        if (e instanceof MouseWheelEvent) {
+            MouseWheelEvent w = (MouseWheelEvent) e;
+            copy = new MouseWheelEvent(stage, e.getID(), e.getWhen(), e.getModifiersEx(), p.x, p.y,
+                e.getXOnScreen(), e.getYOnScreen(), e.getClickCount(), e.isPopupTrigger(),
+                w.getScrollType(), w.getScrollAmount(), w.getWheelRotation(), w.getPreciseWheelRotation());
+        } else {
+            copy = new MouseEvent(stage, e.getID(), e.getWhen(), e.getModifiersEx(), p.x, p.y,
+                e.getXOnScreen(), e.getYOnScreen(), e.getClickCount(), e.isPopupTrigger(), e.getButton());
+        }
+        stage.dispatchEvent(copy);
+        canvas.setCursor(stage.getCursor());
+    }
+}
@@ -0,0 +1,87 @@
+package core;
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Carrega os assets em paralelo antes das telas serem criadas
+ *
+ * As imagens são decodificadas ao mesmo tempo em um pool limitado de threads
+ * (e tarefas extras, como abrir a música do menu, rodam no mesmo pool), de
+ * modo que a inicialização leva o tempo do asset mais lento e não a soma de
+ * todos. As imagens vão para o {@link ImageCache}, de onde as telas as pegam.
+ * Se uma imagem ainda está sendo carregada, o pedido espera por ela.
+ */
+public class AssetPreloader {
+    private static final int MAX_THREADS = 4;
+
+    /**
+     * Progresso da pré-carga, chamado na EDT
+     */
+    public interface Listener {
+        void progress(int done, int total);
+    }
+
+    private static AssetPreloader instance;
+
+    private AssetPreloader() {
+    }
+
+    public static synchronized AssetPreloader getInstance() {
+        if (instance == null) {
+            instance = new AssetPreloader();
+        }
+        return instance;
+    }
+
+    /**
+     * Inicia a carga das imagens e tarefas; onDone roda na EDT quando tudo terminar
+     */
+    public void start(String[] imagePaths, Runnable[] tasks, Listener listener, Runnable onDone) {
+        int total = imagePaths.length + tasks.length;
+        int threads = Math.max(1, Math.min(MAX_THREADS, Math.min(total, Runtime.getRuntime().availableProcessors())));
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "assets-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        long start = System.nanoTime();
+        StartupTimeline.Phase phase = StartupTimeline.begin("pré-carga (" + total + " itens)");
+        AtomicInteger done = new AtomicInteger();
+        Runnable step = () -> {
+            int finished = done.incrementAndGet();
+            SwingUtilities.invokeLater(() -> listener.progress(finished, total));
+        };
+
+        CompletableFuture<?>[] all = new CompletableFuture<?>[total];
+        int i = 0;
+        for (String path : imagePaths) {
+            all[i++] = ImageCache.getInstance().load(path, pool).whenComplete((image, error) -> {
+                if (error != null) {
+                    System.err.println("Erro na pré-carga de " + path + ": " + error);
+                }
+                step.run();
+            });
+        }
+        for (Runnable task : tasks) {
+            all[i++] = CompletableFuture.runAsync(task, pool).whenComplete((v, error) -> {
+                if (error != null) {
+                    System.err.println("Erro na pré-carga: " + error.getMessage());
+                }
+                step.run();
+            });
+        }
+
+        CompletableFuture.allOf(all).whenComplete((v, error) -> {
+            pool.shutdown();
+            phase.end();
+            System.out.printf("Assets carregados em %d ms (%d threads)%n", (System.nanoTime() - start) / 1_000_000, threads);
+            SwingUtilities.invokeLater(onDone);
+        });
+    }
+}
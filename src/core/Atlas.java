@@ -0,0 +1,194 @@
+package core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sprites por nome, a partir dos atlas gerados no build
+ *
+ * Com o índice gerado pelo {@link AtlasPacker}, cada sprite é uma região de
+ * uma página, e vários ícones compartilham uma única imagem decodificada e
+ * acelerada. Sem o índice (só "mvn compile", ou -Datlas.skip=true), cada
+ * nome vira a imagem separada "/assets/nome.png". As telas usam a mesma API
+ * nos dois casos.
+ */
+public class Atlas {
+    static final String INDEX = "/assets/atlas.txt";
+    static final String CARDS = "cartas";
+
+    private static Atlas instance;
+
+    /**
+     * Região de uma página do atlas (ou uma imagem inteira, sem atlas)
+     */
+    public static final class Sprite {
+        private final BufferedImage page;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private BufferedImage image; // Subimagem criada sob demanda
+
+        Sprite(BufferedImage page, int x, int y, int width, int height) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * Desenha o sprite direto da página, escalado para o retângulo informado
+         */
+        public void draw(Graphics2D g, int dx, int dy, int w, int h) {
+            g.drawImage(page, dx, dy, dx + w, dy + h, x, y, x + width, y + height, null);
+        }
+
+        /**
+         * O sprite como imagem própria (compartilha os pixels da página)
+         */
+        public BufferedImage getImage() {
+            if (image == null) {
+                image = x == 0 && y == 0 && width == page.getWidth() && height == page.getHeight()
+                    ? page : page.getSubimage(x, y, width, height);
+            }
+            return image;
+        }
+    }
+
+    /**
+     * Linha do índice, resolvida quando o sprite é pedido pela primeira vez
+     */
+    private static final class Entry {
+        final String page;
+        final int x;
+        final int y;
+        final int width;
+        final int height;
+
+        Entry(String page, int x, int y, int width, int height) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    private final Map<String, Entry> index = new HashMap<>();
+    private final Map<String, Sprite> sprites = new HashMap<>();
+
+    private Atlas() {
+        if (!readIndex()) {
+            System.out.println("Atlas não encontrado; usando imagens separadas");
+        }
+    }
+
+    public static synchronized Atlas getInstance() {
+        if (instance == null) {
+            instance = new Atlas();
+        }
+        return instance;
+    }
+
+    static String pageFile(String page) {
+        return "atlas-" + page + ".png";
+    }
+
+    /**
+     * Nome da versão reduzida do grid de cartas para cartas de largura x altura
+     */
+    static String cardMipName(int width, int height) {
+        return CARDS + "@" + width + "x" + height;
+    }
+
+    private boolean readIndex() {
+        try (InputStream is = Atlas.class.getResourceAsStream(INDEX)) {
+            if (is == null) return false;
+            BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] f = line.split("\\s+");
+                index.put(f[0], new Entry("/assets/" + f[1],
+                    Integer.parseInt(f[2]), Integer.parseInt(f[3]), Integer.parseInt(f[4]), Integer.parseInt(f[5])));
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erro ao ler o índice do atlas: " + e.getMessage());
+            index.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Retorna true se o sprite existe no atlas gerado (sem contar imagens separadas)
+     */
+    public synchronized boolean contains(String name) {
+        return index.containsKey(name);
+    }
+
+    /**
+     * Caminhos das imagens que contêm os sprites informados (para pré-carga)
+     */
+    public synchronized String[] imagePaths(String... names) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (String name : names) {
+            Entry entry = index.get(name);
+            paths.add(entry != null ? entry.page : "/assets/" + name + ".png");
+        }
+        return paths.toArray(new String[0]);
+    }
+
+    /**
+     * Sprite pelo nome, ou null se não houver região nem imagem com esse nome
+     */
+    public synchronized Sprite getSprite(String name) {
+        Sprite sprite = sprites.get(name);
+        if (sprite != null) return sprite;
+
+        // As páginas e imagens ficam adquiridas enquanto o jogo roda
+        Entry entry = index.get(name);
+        if (entry != null) {
+            BufferedImage page = ImageCache.getInstance().acquire(entry.page);
+            if (page != null) {
+                sprite = new Sprite(page, entry.x, entry.y, entry.width, entry.height);
+            }
+        } else {
+            BufferedImage image = ImageCache.getInstance().acquire("/assets/" + name + ".png");
+            if (image != null) {
+                sprite = new Sprite(image, 0, 0, image.getWidth(), image.getHeight());
+            }
+        }
+        if (sprite != null) {
+            sprites.put(name, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Atalho para a imagem de um sprite, ou null
+     */
+    public BufferedImage getImage(String name) {
+        Sprite sprite = getSprite(name);
+        return sprite != null ? sprite.getImage() : null;
+    }
+}
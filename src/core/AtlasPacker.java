@@ -0,0 +1,184 @@
+package core;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Empacota os ícones e sprite sheets em atlas, na etapa de build
+ *
+ * Roda no build do Maven (exec-maven-plugin, fase process-classes, então a
+ * partir de "mvn test" ou "mvn package") e grava as páginas e o índice junto
+ * dos assets compilados. Com -Datlas.skip=true o passo é pulado. Uso manual:
+ *
+ *   java -Djava.awt.headless=true -cp target/classes core.AtlasPacker assets target/classes/assets [--remove-packed]
+ *
+ * Com --remove-packed (usado pelo build) as imagens separadas que foram
+ * empacotadas são apagadas da pasta de saída, para o jar não levar cada uma
+ * duas vezes; o {@link Atlas} só as procura quando não há índice.
+ *
+ * As imagens de cada página são dispostas em prateleiras, da mais alta para
+ * a mais baixa. O índice ({@link Atlas#INDEX}) tem uma linha
+ * "nome página x y largura altura" por região. Também são geradas versões
+ * reduzidas do grid de cartas ("cartas@LxA") nos tamanhos fixos usados pelas
+ * telas. Elas usam vizinho mais próximo, igual ao CardRenderer, então o
+ * resultado é idêntico ao redimensionamento feito em tempo de execução.
+ */
+public class AtlasPacker {
+    private static final int MAX_WIDTH = 2048;
+    private static final int PADDING = 2; // Evita que a filtragem misture regiões vizinhas
+
+    // Páginas: nome seguido das imagens (sem extensão); separadas para decodificar em paralelo
+    private static final String[][] PAGES = {
+        {"ui", "pausar", "ordenar", "reverter", "revolver", "red_deck"},
+        {"sprites", "cartas", "dados"}
+    };
+
+    // Tamanhos de carta pré-reduzidos (tutorial)
+    private static final int[][] CARD_SIZES = {{70, 96}};
+
+    /**
+     * Região a ser posicionada em uma página
+     */
+    private static final class Region {
+        final String name;
+        final BufferedImage image;
+        int x;
+        int y;
+
+        Region(String name, BufferedImage image) {
+            this.name = name;
+            this.image = image;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || (args.length > 2 && !args[2].equals("--remove-packed"))) {
+            System.err.println("Uso: AtlasPacker <pasta de assets> <pasta de saída> [--remove-packed]");
+            System.exit(1);
+        }
+        File input = new File(args[0]);
+        File output = new File(args[1]);
+        boolean removePacked = args.length > 2;
+        if (removePacked && input.getCanonicalFile().equals(output.getCanonicalFile())) {
+            throw new IOException("--remove-packed apagaria as imagens originais em " + input);
+        }
+        if (!output.isDirectory() && !output.mkdirs()) {
+            throw new IOException("Não foi possível criar " + output);
+        }
+
+        long start = System.nanoTime();
+        try (PrintWriter index = new PrintWriter(new File(output, Atlas.INDEX.substring(Atlas.INDEX.lastIndexOf('/') + 1)), StandardCharsets.UTF_8)) {
+            index.println("# Gerado por core.AtlasPacker: nome página x y largura altura");
+            for (String[] page : PAGES) {
+                List<Region> regions = new ArrayList<>();
+                for (int i = 1; i < page.length; i++) {
+                    BufferedImage image = ImageIO.read(new File(input, page[i] + ".png"));
+                    if (image == null) {
+                        throw new IOException("Imagem inválida: " + page[i]);
+                    }
+                    regions.add(new Region(page[i], image));
+                    if (page[i].equals(Atlas.CARDS)) {
+                        for (int[] size : CARD_SIZES) {
+                            regions.add(new Region(Atlas.cardMipName(size[0], size[1]), scaleCardGrid(image, size[0], size[1])));
+                        }
+                    }
+                }
+                String file = Atlas.pageFile(page[0]);
+                BufferedImage sheet = pack(regions);
+                ImageIO.write(sheet, "png", new File(output, file));
+                for (Region r : regions) {
+                    index.printf("%s %s %d %d %d %d%n", r.name, file, r.x, r.y, r.image.getWidth(), r.image.getHeight());
+                }
+                System.out.printf("Atlas %s: %dx%d, %d regiões%n", file, sheet.getWidth(), sheet.getHeight(), regions.size());
+            }
+        }
+        if (removePacked) {
+            // Só depois do índice completo: se algo falhar acima, as imagens separadas continuam valendo
+            for (String[] page : PAGES) {
+                for (int i = 1; i < page.length; i++) {
+                    Files.deleteIfExists(new File(output, page[i] + ".png").toPath());
+                }
+            }
+        }
+        System.out.printf("Atlas gerados em %d ms%n", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Posiciona as regiões em prateleiras e desenha a página
+     */
+    private static BufferedImage pack(List<Region> regions) {
+        regions.sort(Comparator.comparingInt((Region r) -> r.image.getHeight()).reversed());
+        List<int[]> shelves = new ArrayList<>(); // {y, altura, x livre}
+        int height = 0;
+        int width = 0;
+        for (Region r : regions) {
+            int w = r.image.getWidth() + PADDING;
+            int h = r.image.getHeight() + PADDING;
+            if (w > MAX_WIDTH) {
+                throw new IllegalArgumentException("Imagem larga demais para o atlas: " + r.name);
+            }
+            int[] shelf = null;
+            for (int[] s : shelves) {
+                if (s[2] + w <= MAX_WIDTH && h <= s[1]) {
+                    shelf = s;
+                    break;
+                }
+            }
+            if (shelf == null) {
+                shelf = new int[] {height, h, 0};
+                shelves.add(shelf);
+                height += h;
+            }
+            r.x = shelf[2];
+            r.y = shelf[0];
+            shelf[2] += w;
+            width = Math.max(width, shelf[2]);
+        }
+
+        BufferedImage sheet = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sheet.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            for (Region r : regions) {
+                g.drawImage(r.image, r.x, r.y, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        return sheet;
+    }
+
+    /**
+     * Reduz o grid de cartas para cartas de largura x altura (vizinho mais próximo)
+     */
+    private static BufferedImage scaleCardGrid(BufferedImage cards, int width, int height) {
+        int cols = CardRenderer.COLS;
+        int rows = CardRenderer.ROWS;
+        BufferedImage scaled = new BufferedImage(cols * width, rows * height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            // Carta a carta, como o CardRenderer faz, para amostrar exatamente os mesmos pixels
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    int sx = col * CardRenderer.CARD_WIDTH;
+                    int sy = row * CardRenderer.CARD_HEIGHT;
+                    g.drawImage(cards, col * width, row * height, (col + 1) * width, (row + 1) * height,
+                        sx, sy, sx + CardRenderer.CARD_WIDTH, sy + CardRenderer.CARD_HEIGHT, null);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+}
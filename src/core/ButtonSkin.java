@@ -0,0 +1,279 @@
+package core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aparência de botão pré-renderizada em fatias e reaproveitada por todas as telas
+ *
+ * Cada combinação de quadro de hover, clique, altura e escala do dispositivo
+ * é pintada uma única vez em uma imagem estreita: as laterais (com cantos,
+ * borda e sombra) ficam com a largura de {@code capWidth} e o miolo, que é
+ * uniforme na horizontal, é esticado até a largura do botão. A altura faz
+ * parte da chave, então gradientes verticais nunca são esticados. A transição
+ * de hover usa {@link #HOVER_FRAMES} quadros interpolados, também em cache.
+ * Quando a escala do dispositivo muda as imagens anteriores são descartadas,
+ * e cada aparência guarda no máximo {@link #MAX_ENTRIES} imagens.
+ */
+public abstract class ButtonSkin {
+    public static final int HOVER_FRAMES = 6;
+    private static final int CENTER_WIDTH = 4; // Colunas do miolo na imagem fatiada
+    private static final int MAX_ENTRIES = 4 * 2 * HOVER_FRAMES; // Até quatro alturas por aparência
+
+    private static final Color YELLOW = new Color(255, 223, 0);
+    private static final Color BLUE = new Color(50, 90, 140, 210);
+    private static final Color BLUE_HOVER = new Color(90, 140, 190, 230);
+
+    /** Botões dos menus (menu principal e opções): borda engrossa no hover */
+    public static final ButtonSkin MENU = new RoundedSkin(BLUE, BLUE_HOVER, YELLOW, 2f, 3f, 1);
+    /** Botões do tutorial: borda fixa */
+    public static final ButtonSkin PANEL = new RoundedSkin(BLUE, BLUE_HOVER, YELLOW, 2f, 2f, 1);
+    /** Botões das telas de resultado do jogo */
+    public static final ButtonSkin DIALOG = new RoundedSkin(new Color(50, 90, 140, 220), new Color(90, 140, 190, 250), YELLOW, 3f, 3f, 2);
+
+    private static final Map<Color, ButtonSkin> raisedSkins = new HashMap<>();
+
+    /**
+     * Botão de ação com gradiente, sombra e relevo na cor informada (compartilhado por cor)
+     */
+    public static ButtonSkin raised(Color baseColor) {
+        return raisedSkins.computeIfAbsent(baseColor, RaisedSkin::new);
+    }
+
+    /**
+     * Imagem fatiada em cache para uma combinação de estado e altura
+     */
+    private static final class Entry {
+        final int frame;
+        final boolean pressed;
+        final int height;
+        final BufferedImage image;
+
+        Entry(int frame, boolean pressed, int height, BufferedImage image) {
+            this.frame = frame;
+            this.pressed = pressed;
+            this.height = height;
+            this.image = image;
+        }
+    }
+
+    private final int capWidth;
+    private final List<Entry> cache = new ArrayList<>();
+    private double cacheScale = 0; // Escala das imagens em cache
+
+    protected ButtonSkin(int capWidth) {
+        this.capWidth = capWidth;
+    }
+
+    /**
+     * Pinta o fundo do botão; hover vai de 0 (normal) a 1 (mouse em cima)
+     */
+    protected abstract void paintChrome(Graphics2D g, int width, int height, float hover, boolean pressed);
+
+    /**
+     * Retorna true se a aparência desenha o texto (em vez do ButtonUI)
+     */
+    public boolean paintsText() {
+        return false;
+    }
+
+    /**
+     * Desenha o texto do botão, quando {@link #paintsText()} é true
+     */
+    public void paintText(Graphics2D g, String text, Font font, int width, int height, float hover, boolean pressed) {
+    }
+
+    /**
+     * Progresso de hover de um quadro
+     */
+    public static float hoverOf(int frame) {
+        return frame / (float) (HOVER_FRAMES - 1);
+    }
+
+    /**
+     * Desenha o botão em (0, 0) com o tamanho informado
+     */
+    public void draw(Graphics2D g, int width, int height, int hoverFrame, boolean pressed) {
+        if (width <= 0 || height <= 0) return;
+        double scale = ImageUtils.getDeviceScale();
+        int capPx = (int) Math.round(capWidth * scale);
+        int widthPx = (int) Math.round(width * scale);
+        if (widthPx < 2 * capPx + 1) {
+            // Estreito demais para fatiar: pinta direto
+            paintChrome(g, width, height, hoverOf(hoverFrame), pressed);
+            return;
+        }
+
+        BufferedImage image = lookup(hoverFrame, pressed, height, scale);
+        int sliceWidth = image.getWidth();
+        int heightPx = image.getHeight();
+        int x = 0;
+        int y = 0;
+        if (scale != 1.0) {
+            g.scale(1.0 / scale, 1.0 / scale);
+        }
+        // Laterais 1:1 e miolo esticado (a partir de colunas longe das bordas)
+        g.drawImage(image, x, y, x + capPx, y + heightPx, 0, 0, capPx, heightPx, null);
+        g.drawImage(image, x + capPx, y, x + widthPx - capPx, y + heightPx,
+            capPx + 1, 0, sliceWidth - capPx - 1, heightPx, null);
+        g.drawImage(image, x + widthPx - capPx, y, x + widthPx, y + heightPx,
+            sliceWidth - capPx, 0, sliceWidth, heightPx, null);
+        if (scale != 1.0) {
+            g.scale(scale, scale);
+        }
+    }
+
+    private BufferedImage lookup(int frame, boolean pressed, int height, double scale) {
+        if (scale != cacheScale) {
+            // Imagens de outra escala não voltam a ser usadas
+            flush();
+            cacheScale = scale;
+        }
+        for (int i = 0; i < cache.size(); i++) {
+            Entry e = cache.get(i);
+            if (e.frame == frame && e.pressed == pressed && e.height == height) {
+                return e.image;
+            }
+        }
+        // Descarta a imagem mais antiga se o cache estiver cheio
+        if (cache.size() == MAX_ENTRIES) {
+            cache.remove(0).image.flush();
+        }
+        BufferedImage image = render(frame, pressed, height, scale);
+        cache.add(new Entry(frame, pressed, height, image));
+        return image;
+    }
+
+    private BufferedImage render(int frame, boolean pressed, int height, double scale) {
+        int capPx = (int) Math.round(capWidth * scale);
+        int sliceWidthPx = 2 * capPx + CENTER_WIDTH;
+        int logicalWidth = (int) Math.ceil(sliceWidthPx / scale);
+        BufferedImage image = ImageUtils.createCompatibleImage(sliceWidthPx, (int) Math.ceil(height * scale), Transparency.TRANSLUCENT);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.scale(scale, scale);
+            paintChrome(g, logicalWidth, height, hoverOf(frame), pressed);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Libera as imagens em cache (refeitas no próximo desenho)
+     */
+    public void flush() {
+        for (Entry e : cache) {
+            e.image.flush();
+        }
+        cache.clear();
+    }
+
+    static Color lerp(Color a, Color b, float t) {
+        if (t <= 0f) return a;
+        if (t >= 1f) return b;
+        return new Color(
+            Math.round(a.getRed() + (b.getRed() - a.getRed()) * t),
+            Math.round(a.getGreen() + (b.getGreen() - a.getGreen()) * t),
+            Math.round(a.getBlue() + (b.getBlue() - a.getBlue()) * t),
+            Math.round(a.getAlpha() + (b.getAlpha() - a.getAlpha()) * t));
+    }
+
+    /**
+     * Retângulo arredondado sólido com borda (menus, tutorial, resultados)
+     */
+    private static final class RoundedSkin extends ButtonSkin {
+        private static final int ARC = 15;
+        private final Color fill;
+        private final Color hoverFill;
+        private final Color border;
+        private final float stroke;
+        private final float hoverStroke;
+        private final int inset;
+
+        RoundedSkin(Color fill, Color hoverFill, Color border, float stroke, float hoverStroke, int inset) {
+            super(ARC);
+            this.fill = fill;
+            this.hoverFill = hoverFill;
+            this.border = border;
+            this.stroke = stroke;
+            this.hoverStroke = hoverStroke;
+            this.inset = inset;
+        }
+
+        @Override
+        protected void paintChrome(Graphics2D g, int width, int height, float hover, boolean pressed) {
+            g.setColor(lerp(fill, hoverFill, hover));
+            g.fillRoundRect(0, 0, width, height, ARC, ARC);
+            g.setStroke(new BasicStroke(stroke + (hoverStroke - stroke) * hover));
+            g.setColor(border);
+            g.drawRoundRect(inset, inset, width - 2 * inset - 1, height - 2 * inset - 1, ARC, ARC);
+        }
+    }
+
+    /**
+     * Botão de ação com gradiente, sombra, brilho interno e texto com sombra
+     */
+    private static final class RaisedSkin extends ButtonSkin {
+        private static final int ARC = 20;
+        private static final int SHADOW = 3;
+        private static final Color SHADOW_COLOR = new Color(0, 0, 0, 80);
+        private static final Color HIGHLIGHT = new Color(255, 255, 255, 100);
+        private static final Color TEXT_SHADOW = new Color(0, 0, 0, 50);
+        private final Color base;
+        private final Color darker;
+        private final Color darkest;
+        private final Color brighter;
+
+        RaisedSkin(Color base) {
+            super(ARC);
+            this.base = base;
+            this.darker = base.darker();
+            this.darkest = darker.darker();
+            this.brighter = base.brighter();
+        }
+
+        private static int offsetY(float hover, boolean pressed) {
+            return pressed ? 2 : -Math.round(hover);
+        }
+
+        @Override
+        protected void paintChrome(Graphics2D g, int width, int height, float hover, boolean pressed) {
+            g.setColor(SHADOW_COLOR);
+            g.fillRoundRect(SHADOW, SHADOW, width - SHADOW, height - SHADOW, ARC, ARC);
+
+            Color c1 = pressed ? darker : lerp(base, brighter, hover);
+            Color c2 = pressed ? darkest : lerp(darker, base, hover);
+            int yOffset = offsetY(hover, pressed);
+            g.setPaint(new GradientPaint(0, 0, c1, 0, height, c2));
+            g.fillRoundRect(0, yOffset, width - SHADOW, height - SHADOW, ARC, ARC);
+
+            // Borda interna brilhante (efeito 3D)
+            g.setStroke(new BasicStroke(1));
+            g.setColor(HIGHLIGHT);
+            g.drawRoundRect(1, yOffset + 1, width - SHADOW - 2, height - SHADOW - 2, ARC - 2, ARC - 2);
+        }
+
+        @Override
+        public boolean paintsText() {
+            return true;
+        }
+
+        @Override
+        public void paintText(Graphics2D g, String text, Font font, int width, int height, float hover, boolean pressed) {
+            g.setFont(font);
+            FontMetrics fm = g.getFontMetrics();
+            int textX = (width - SHADOW - fm.stringWidth(text)) / 2;
+            int textY = (height - SHADOW + fm.getAscent() - fm.getDescent()) / 2 + offsetY(hover, pressed);
+            g.setColor(TEXT_SHADOW);
+            g.drawString(text, textX + 1, textY + 1);
+            g.setColor(Color.WHITE);
+            g.drawString(text, textX, textY);
+        }
+    }
+}
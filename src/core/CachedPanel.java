@@ -0,0 +1,101 @@
+package core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Região da tela guardada em uma imagem e só redesenhada quando muda
+ *
+ * Usada para painéis do HUD cujo conteúdo depende de poucos valores: quem
+ * desenha informa uma chave que resume esses valores e a imagem só é refeita
+ * quando a chave, a posição, o tamanho ou a escala do dispositivo mudam. Nos
+ * demais frames o painel custa uma única cópia de imagem, sem alocar.
+ */
+public class CachedPanel {
+
+    /**
+     * Desenha o conteúdo do painel nas coordenadas de quem chama
+     */
+    public interface Painter {
+        void paint(Graphics2D g);
+    }
+
+    private final Painter painter;
+    private BufferedImage image;
+    private int imageX;
+    private int imageY;
+    private int imageWidth;
+    private int imageHeight;
+    private double imageScale = 1.0;
+    private long imageKey;
+    private boolean valid;
+
+    public CachedPanel(Painter painter) {
+        this.painter = painter;
+    }
+
+    /**
+     * Força o painel a ser refeito no próximo desenho
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Desenha a região (x, y, width, height), refazendo a imagem se a chave mudou
+     */
+    public void draw(Graphics2D g, int x, int y, int width, int height, long key) {
+        if (width <= 0 || height <= 0) return;
+        double scale = ImageUtils.getDeviceScale();
+        if (!valid || image == null || key != imageKey || x != imageX || y != imageY
+                || width != imageWidth || height != imageHeight || scale != imageScale) {
+            rebuild(x, y, width, height, scale, key);
+        }
+        ImageUtils.drawAtDeviceScale(g, image, x, y);
+    }
+
+    private void rebuild(int x, int y, int width, int height, double scale, long key) {
+        int pixelWidth = (int) Math.ceil(width * scale);
+        int pixelHeight = (int) Math.ceil(height * scale);
+        if (image == null || image.getWidth() != pixelWidth || image.getHeight() != pixelHeight) {
+            if (image != null) {
+                image.flush();
+            }
+            image = ImageUtils.createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT);
+        }
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, pixelWidth, pixelHeight);
+            g.setComposite(AlphaComposite.SrcOver);
+            g.scale(scale, scale);
+            g.translate(-x, -y);
+            g.setClip(x, y, width, height);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            painter.paint(g);
+        } finally {
+            g.dispose();
+        }
+        imageX = x;
+        imageY = y;
+        imageWidth = width;
+        imageHeight = height;
+        imageScale = scale;
+        imageKey = key;
+        valid = true;
+    }
+
+    /**
+     * Libera a imagem em cache
+     */
+    public void flush() {
+        if (image != null) {
+            image.flush();
+            image = null;
+        }
+        valid = false;
+    }
+}
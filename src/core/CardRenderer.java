@@ -1,31 +1,47 @@
 package core;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Renderiza cartas usando o sprite sheet de cartas
+ *
+ * Cada carta é copiada do sheet para uma imagem própria, compatível com o
+ * dispositivo (em vez de um getSubimage que compartilha o raster do sheet e
+ * impede a aceleração). As versões redimensionadas ficam em cache por
+ * tamanho, indexadas pelo ordinal da carta, e são desenhadas 1:1.
  */
 public class CardRenderer {
     private static CardRenderer instance;
     private BufferedImage cardSpriteSheet;
-    private Map<String, BufferedImage> cardCache;
+    
+    private static final Rank[] RANKS = Rank.values();
+    private static final Suit[] SUITS = Suit.values();
+    private static final int CARD_COUNT = 52;
+    private static final int MAX_SIZES = 8;
+    
+    // Sprites no tamanho original, por índice da carta
+    private final BufferedImage[] baseSprites = new BufferedImage[CARD_COUNT];
+    // Sprites redimensionados: sizeKeys[i] = (largura << 16) | altura
+    private final int[] sizeKeys = new int[MAX_SIZES];
+    private final BufferedImage[][] sizedSprites = new BufferedImage[MAX_SIZES][];
+    private int sizeCount = 0;
+    
+    // Versos pré-renderizados: tamanho lógico (mesma chave) e escala do dispositivo
+    private final int[] backKeys = new int[MAX_SIZES];
+    private final double[] backScales = new double[MAX_SIZES];
+    private final BufferedImage[] backImages = new BufferedImage[MAX_SIZES];
+    private int backCount = 0;
     
     // Dimensões das cartas no sprite sheet (medidas da imagem real)
     // A imagem tem 14 colunas e 5 linhas total
     // Cada carta tem 96x128 pixels (ajustado para evitar overlap)
-    private static final int CARD_WIDTH = 96;
-    private static final int CARD_HEIGHT = 128;
-    private static final int COLS = 13; // 13 ranks (A até K)
-    private static final int ROWS = 4;  // 4 suits (Hearts, Diamonds, Spades, Clubs)
+    static final int CARD_WIDTH = 96;
+    static final int CARD_HEIGHT = 128;
+    static final int COLS = 13; // 13 ranks (A até K)
+    static final int ROWS = 4;  // 4 suits (Hearts, Diamonds, Spades, Clubs)
     
     private CardRenderer() {
-        cardCache = new HashMap<>();
         loadSpriteSheet();
     }
     
@@ -37,43 +53,133 @@ public class CardRenderer {
     }
     
     private void loadSpriteSheet() {
-        try {
-            cardSpriteSheet = ImageIO.read(getClass().getResourceAsStream("/assets/cartas.png"));
+        StartupTimeline.Phase phase = StartupTimeline.begin("sheet de cartas");
+        cardSpriteSheet = Atlas.getInstance().getImage(Atlas.CARDS);
+        phase.end();
+        if (cardSpriteSheet != null) {
             System.out.println("Sprite sheet de cartas carregado!");
-        } catch (IOException e) {
-            System.err.println("Erro ao carregar sprite sheet de cartas: " + e.getMessage());
+        } else {
+            System.err.println("Erro ao carregar sprite sheet de cartas");
         }
     }
     
     /**
-     * Obtém a imagem de uma carta específica
+     * Índice da carta no cache (0 a 51)
+     */
+    private static int indexOf(Rank rank, Suit suit) {
+        return suit.ordinal() * RANKS.length + rank.ordinal();
+    }
+    
+    /**
+     * Obtém a imagem de uma carta específica no tamanho original
      */
     public BufferedImage getCardImage(PlayingCard card) {
-        if (cardSpriteSheet == null) {
-            return createPlaceholderCard(card);
+        int index = indexOf(card.getRankEnum(), card.getSuitEnum());
+        BufferedImage sprite = baseSprites[index];
+        if (sprite == null) {
+            sprite = extractCard(card.getRankEnum(), card.getSuitEnum());
+            baseSprites[index] = sprite;
         }
-        
-        String key = card.getRankEnum().name() + "_" + card.getSuitEnum().name();
-        
-        if (cardCache.containsKey(key)) {
-            return cardCache.get(key);
+        return sprite;
+    }
+    
+    /**
+     * Copia a carta do sprite sheet para uma imagem independente
+     */
+    private BufferedImage extractCard(Rank rank, Suit suit) {
+        if (cardSpriteSheet == null) {
+            return createPlaceholderCard(new PlayingCard(rank, suit));
         }
         
         // Calcula posição no sprite sheet
-        int col = getRankColumn(card.getRankEnum());
-        int row = getSuitRow(card.getSuitEnum());
-        
-        int x = col * CARD_WIDTH;
-        int y = row * CARD_HEIGHT;
+        int x = getRankColumn(rank) * CARD_WIDTH;
+        int y = getSuitRow(suit) * CARD_HEIGHT;
         
-        try {
-            BufferedImage cardImage = cardSpriteSheet.getSubimage(x, y, CARD_WIDTH, CARD_HEIGHT);
-            cardCache.put(key, cardImage);
-            return cardImage;
-        } catch (Exception e) {
-            System.err.println("Erro ao extrair carta: " + e.getMessage());
-            return createPlaceholderCard(card);
+        BufferedImage cardImage = ImageUtils.createCompatibleImage(CARD_WIDTH, CARD_HEIGHT, Transparency.TRANSLUCENT);
+        Graphics2D g = cardImage.createGraphics();
+        g.drawImage(cardSpriteSheet, 0, 0, CARD_WIDTH, CARD_HEIGHT, x, y, x + CARD_WIDTH, y + CARD_HEIGHT, null);
+        g.dispose();
+        return cardImage;
+    }
+    
+    /**
+     * Obtém a imagem de uma carta já redimensionada para o tamanho pedido
+     */
+    public BufferedImage getCardImage(PlayingCard card, int width, int height) {
+        if (width == CARD_WIDTH && height == CARD_HEIGHT) {
+            return getCardImage(card);
+        }
+        BufferedImage[] sprites = getSizedSprites(width, height);
+        int index = indexOf(card.getRankEnum(), card.getSuitEnum());
+        BufferedImage sprite = sprites[index];
+        if (sprite == null) {
+            sprite = extractMip(card, width, height);
+            if (sprite == null) {
+                sprite = scaleSprite(getCardImage(card), width, height);
+            }
+            sprites[index] = sprite;
+        }
+        return sprite;
+    }
+    
+    /**
+     * Gera antecipadamente as 52 cartas no tamanho informado
+     */
+    public void prewarm(int width, int height) {
+        for (Suit suit : SUITS) {
+            for (Rank rank : RANKS) {
+                getCardImage(new PlayingCard(rank, suit), width, height);
+            }
+        }
+    }
+    
+    private BufferedImage[] getSizedSprites(int width, int height) {
+        int key = (width << 16) | (height & 0xFFFF);
+        for (int i = 0; i < sizeCount; i++) {
+            if (sizeKeys[i] == key) {
+                return sizedSprites[i];
+            }
+        }
+        // Descarta o tamanho mais antigo se o cache estiver cheio
+        if (sizeCount == MAX_SIZES) {
+            System.arraycopy(sizeKeys, 1, sizeKeys, 0, MAX_SIZES - 1);
+            System.arraycopy(sizedSprites, 1, sizedSprites, 0, MAX_SIZES - 1);
+            sizeCount--;
         }
+        sizeKeys[sizeCount] = key;
+        sizedSprites[sizeCount] = new BufferedImage[CARD_COUNT];
+        return sizedSprites[sizeCount++];
+    }
+    
+    /**
+     * Copia a carta da versão reduzida gerada no build, se houver uma nesse tamanho
+     */
+    private BufferedImage extractMip(PlayingCard card, int width, int height) {
+        String name = Atlas.cardMipName(width, height);
+        if (!Atlas.getInstance().contains(name)) {
+            return null;
+        }
+        Atlas.Sprite mip = Atlas.getInstance().getSprite(name);
+        if (mip == null) {
+            return null;
+        }
+        int x = getRankColumn(card.getRankEnum()) * width;
+        int y = getSuitRow(card.getSuitEnum()) * height;
+        BufferedImage cardImage = ImageUtils.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g = cardImage.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(mip.getImage(), 0, 0, width, height, x, y, x + width, y + height, null);
+        g.dispose();
+        return cardImage;
+    }
+    
+    private BufferedImage scaleSprite(BufferedImage source, int width, int height) {
+        BufferedImage scaled = ImageUtils.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g = scaled.createGraphics();
+        // Mantém a interpolação padrão (vizinho mais próximo), como no desenho direto da pixel art
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
     }
     
     /**
@@ -141,27 +247,69 @@ public class CardRenderer {
      * Desenha uma carta em uma posição específica
      */
     public void drawCard(Graphics2D g, PlayingCard card, int x, int y, int width, int height) {
-        BufferedImage cardImage = getCardImage(card);
-        g.drawImage(cardImage, x, y, width, height, null);
+        double scale = ImageUtils.getDeviceScale();
+        if (scale == 1.0) {
+            BufferedImage cardImage = getCardImage(card, width, height);
+            g.drawImage(cardImage, x, y, null);
+            return;
+        }
+        // Janela escalada ou HiDPI: usa a versão já no tamanho do dispositivo
+        BufferedImage cardImage = getCardImage(card, (int) Math.round(width * scale), (int) Math.round(height * scale));
+        ImageUtils.drawAtDeviceScale(g, cardImage, x, y);
     }
     
     /**
-     * Desenha o verso de uma carta
+     * Desenha o verso de uma carta (pré-renderizado por tamanho, na escala do dispositivo)
      */
     public void drawCardBack(Graphics2D g, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        double scale = ImageUtils.getDeviceScale();
+        int key = (width << 16) | (height & 0xFFFF);
+        BufferedImage back = null;
+        for (int i = 0; i < backCount; i++) {
+            if (backKeys[i] == key && backScales[i] == scale) {
+                back = backImages[i];
+                break;
+            }
+        }
+        if (back == null) {
+            back = renderCardBack(width, height, scale);
+            if (backCount == MAX_SIZES) {
+                backImages[0].flush();
+                System.arraycopy(backKeys, 1, backKeys, 0, MAX_SIZES - 1);
+                System.arraycopy(backScales, 1, backScales, 0, MAX_SIZES - 1);
+                System.arraycopy(backImages, 1, backImages, 0, MAX_SIZES - 1);
+                backCount--;
+            }
+            backKeys[backCount] = key;
+            backScales[backCount] = scale;
+            backImages[backCount++] = back;
+        }
+        ImageUtils.drawAtDeviceScale(g, back, x, y);
+    }
+    
+    private BufferedImage renderCardBack(int width, int height, double scale) {
+        BufferedImage back = ImageUtils.createCompatibleImage((int) Math.round(width * scale),
+            (int) Math.round(height * scale), Transparency.TRANSLUCENT);
+        Graphics2D g = back.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.scale(scale, scale);
+        
         g.setColor(new Color(180, 0, 0));
-        g.fillRoundRect(x, y, width, height, 8, 8);
+        g.fillRoundRect(0, 0, width, height, 8, 8);
         g.setColor(Color.WHITE);
         g.setStroke(new BasicStroke(2));
-        g.drawRoundRect(x + 2, y + 2, width - 4, height - 4, 8, 8);
+        g.drawRoundRect(2, 2, width - 4, height - 4, 8, 8);
         
         // Desenha padrão no verso
         g.setColor(new Color(220, 220, 220, 100));
         for (int i = 0; i < 3; i++) {
             for (int j = 0; j < 5; j++) {
-                g.fillOval(x + 10 + i * 20, y + 10 + j * 20, 15, 15);
+                g.fillOval(10 + i * 20, 10 + j * 20, 15, 15);
             }
         }
+        g.dispose();
+        return back;
     }
     
     public int getCardWidth() {
@@ -0,0 +1,458 @@
+package core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Renderiza o tambor do revólver da roleta russa a partir de quadros em cache
+ *
+ * O tambor girando é pré-renderizado em passos fixos de {@link #ANGLE_STEP}
+ * graus, um conjunto de quadros por quantidade de balas visíveis. Os quadros
+ * do giro são gerados aos poucos por {@link #prerenderSpin} antes de ele
+ * começar (um quadro ausente ainda é gerado quando pedido); durante o giro
+ * basta copiar o quadro mais próximo, opcionalmente misturado com o seguinte
+ * para ângulos intermediários. A película que cobre o tambor usa uma rampa de opacidades
+ * pré-calculada e as câmaras sobre ela vêm de uma imagem em cache. Todas as
+ * imagens são geradas na escala do dispositivo e refeitas quando ela muda;
+ * os quadros do giro param em {@link #MAX_SPIN_SCALE} e os conjuntos mantidos
+ * cabem em {@link #SPIN_BUDGET_BYTES}: em 2x o conjunto com balas e o vazio
+ * ocupam uns 80 MB e em 4K cada conjunto passaria de 150 MB.
+ */
+public class CylinderRenderer {
+    private static CylinderRenderer instance;
+
+    public static final int CYLINDER_RADIUS = 120;
+    private static final int HOLE_DIST = 70;
+    private static final int HOLE_RADIUS = 25;
+
+    private static final int ANGLE_STEP = 5;
+    private static final int FRAME_COUNT = 360 / ANGLE_STEP;
+    private static final int EMPTY_FRAME_COUNT = 60 / ANGLE_STEP; // Sem balas o tambor se repete a cada 60°
+    private static final int MAX_VARIANTS = 7; // Um conjunto por quantidade de balas (0 a 6)
+    private static final double MAX_SPIN_SCALE = 2.0; // Acima disso o quadro do giro é ampliado ao desenhar
+    private static final long SPIN_BUDGET_BYTES = 96L << 20; // Memória dos conjuntos do giro (LRU)
+
+    // Margem para a borda antialiasada e a seta e o rótulo acima do tambor
+    private static final int FRAME_SIZE = CYLINDER_RADIUS * 2 + 8;
+    private static final int CAP_HEIGHT = FRAME_SIZE + 52;
+
+    private static final Font TARGET_FONT = new Font("Arial", Font.BOLD, 14);
+    private static final Color TARGET_COLOR = new Color(255, 100, 100);
+
+    private static final Color DRUM_BASE = new Color(40, 40, 40);
+    private static final Color BULLET_BRASS = new Color(218, 165, 32);
+    private static final Color BULLET_PRIMER = new Color(180, 180, 180);
+    private static final Color CHAMBER_EDGE = new Color(60, 60, 60, 100);
+    private static final Color LOADING_EDGE = new Color(80, 80, 80);
+    private static final Color CHAMBER_FILL = new Color(10, 10, 10, 220);
+    private static final Color CHAMBER_OUTLINE = new Color(80, 80, 80, 180);
+    private static final Color FILM_COLOR = new Color(60, 60, 60);
+
+    // Rampas pré-calculadas: película cinza e mistura entre quadros, sem alocar por quadro
+    private static final int FILM_LEVELS = 64;
+    private static final AlphaComposite[] FILM = new AlphaComposite[FILM_LEVELS + 1];
+    private static final int BLEND_LEVELS = 16;
+    private static final AlphaComposite[] BLEND = new AlphaComposite[BLEND_LEVELS + 1];
+
+    static {
+        for (int i = 0; i <= FILM_LEVELS; i++) {
+            FILM[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) i / FILM_LEVELS);
+        }
+        for (int i = 0; i <= BLEND_LEVELS; i++) {
+            BLEND[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) i / BLEND_LEVELS);
+        }
+    }
+
+    // Quadros do tambor girando: variantKeys[i] = balas visíveis
+    private final int[] variantKeys = new int[MAX_VARIANTS];
+    private final BufferedImage[][] variantFrames = new BufferedImage[MAX_VARIANTS][];
+    private int variantCount = 0;
+    private long variantBytes = 0; // Pixels reservados pelos conjuntos mantidos
+
+    // Tambor parado da fase de carregamento, por balas carregadas
+    private final BufferedImage[] loadingFrames = new BufferedImage[7];
+    private BufferedImage capImage;
+    private BufferedImage filmImage; // Película opaca, desenhada com a opacidade do quadro
+    private BufferedImage chambersImage; // Câmaras vazias sobre a película
+    private double frameScale = 1.0; // Escala do dispositivo das imagens em cache
+
+    private CylinderRenderer() {
+    }
+
+    public static CylinderRenderer getInstance() {
+        if (instance == null) {
+            instance = new CylinderRenderer();
+        }
+        return instance;
+    }
+
+    /**
+     * Desenha o tambor girando (base e câmaras) centrado em (cx, cy)
+     */
+    public void drawDrum(Graphics2D g, int cx, int cy, double angle, int bullets, boolean blend) {
+        checkScale();
+        bullets = Math.max(0, Math.min(6, bullets));
+        BufferedImage[] frames = getFrames(bullets);
+
+        double normalized = angle % 360.0;
+        if (normalized < 0) normalized += 360.0;
+        double position = normalized / ANGLE_STEP;
+        int index = (int) position % FRAME_COUNT;
+        float fraction = (float) (position - (int) position);
+
+        int x = cx - FRAME_SIZE / 2;
+        int y = cy - FRAME_SIZE / 2;
+        drawSpinFrame(g, getFrame(frames, index, bullets), x, y);
+
+        int level = Math.round(fraction * BLEND_LEVELS);
+        if (blend && level > 0) {
+            Composite old = g.getComposite();
+            g.setComposite(BLEND[level]);
+            drawSpinFrame(g, getFrame(frames, (index + 1) % FRAME_COUNT, bullets), x, y);
+            g.setComposite(old);
+        }
+    }
+
+    private void drawSpinFrame(Graphics2D g, BufferedImage frame, int x, int y) {
+        if (spinScale() == frameScale) {
+            ImageUtils.drawAtDeviceScale(g, frame, x, y);
+            return;
+        }
+        // Quadro em escala menor que a do dispositivo (4K): amplia sem filtro,
+        // o bilinear em software custa quatro vezes mais e o tambor está girando
+        Object hint = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(frame, x, y, FRAME_SIZE, FRAME_SIZE, null);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+            hint != null ? hint : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    }
+
+    /**
+     * Gera até maxFrames quadros ainda ausentes do giro com essas balas;
+     * devolve true quando o conjunto está completo
+     */
+    public boolean prerenderSpin(int bullets, int maxFrames) {
+        checkScale();
+        bullets = Math.max(0, Math.min(6, bullets));
+        BufferedImage[] frames = getFrames(bullets);
+        for (int i = 0; i < frames.length; i++) {
+            if (frames[i] == null) {
+                if (maxFrames-- <= 0) return false;
+                frames[i] = renderDrum(i * ANGLE_STEP, bullets);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cobre o tambor com a película cinza; opacity de 0 (invisível) a 1
+     */
+    public void drawFilm(Graphics2D g, int cx, int cy, double opacity) {
+        int level = (int) Math.round(Math.max(0.0, Math.min(1.0, opacity)) * FILM_LEVELS);
+        if (level == 0) return;
+        checkScale();
+        if (filmImage == null) {
+            filmImage = renderFilm();
+        }
+        Composite old = g.getComposite();
+        g.setComposite(FILM[level]);
+        ImageUtils.drawAtDeviceScale(g, filmImage, cx - FRAME_SIZE / 2, cy - FRAME_SIZE / 2);
+        g.setComposite(old);
+    }
+
+    /**
+     * Desenha as câmaras vazias por cima da película (tambor pronto para atirar)
+     */
+    public void drawChambers(Graphics2D g, int cx, int cy) {
+        checkScale();
+        if (chambersImage == null) {
+            chambersImage = renderChambers();
+        }
+        ImageUtils.drawAtDeviceScale(g, chambersImage, cx - FRAME_SIZE / 2, cy - FRAME_SIZE / 2);
+    }
+
+    /**
+     * Desenha borda, eixo e seta do tambor fechado (parte que não gira)
+     */
+    public void drawCap(Graphics2D g, int cx, int cy) {
+        checkScale();
+        if (capImage == null) {
+            capImage = renderCap();
+        }
+        ImageUtils.drawAtDeviceScale(g, capImage, cx - FRAME_SIZE / 2, cy - FRAME_SIZE / 2 - (CAP_HEIGHT - FRAME_SIZE));
+    }
+
+    /**
+     * Desenha o tambor aberto da fase de carregamento
+     */
+    public void drawLoading(Graphics2D g, int cx, int cy, int bulletsLoaded) {
+        checkScale();
+        bulletsLoaded = Math.max(0, Math.min(6, bulletsLoaded));
+        BufferedImage frame = loadingFrames[bulletsLoaded];
+        if (frame == null) {
+            frame = renderLoading(bulletsLoaded);
+            loadingFrames[bulletsLoaded] = frame;
+        }
+        ImageUtils.drawAtDeviceScale(g, frame, cx - FRAME_SIZE / 2, cy - FRAME_SIZE / 2);
+    }
+
+    /**
+     * Libera os quadros do giro (a roleta não está mais na tela)
+     */
+    public void releaseSpinFrames() {
+        for (int i = 0; i < variantCount; i++) {
+            flushAll(variantFrames[i]);
+            variantFrames[i] = null;
+        }
+        variantCount = 0;
+        variantBytes = 0;
+    }
+
+    /**
+     * Libera todas as imagens em cache
+     */
+    public void flush() {
+        releaseSpinFrames();
+        flushAll(loadingFrames);
+        if (capImage != null) {
+            capImage.flush();
+            capImage = null;
+        }
+        if (filmImage != null) {
+            filmImage.flush();
+            filmImage = null;
+        }
+        if (chambersImage != null) {
+            chambersImage.flush();
+            chambersImage = null;
+        }
+    }
+
+    private static void flushAll(BufferedImage[] images) {
+        for (int i = 0; i < images.length; i++) {
+            if (images[i] != null) {
+                images[i].flush();
+                images[i] = null;
+            }
+        }
+    }
+
+    private BufferedImage[] getFrames(int bullets) {
+        for (int i = 0; i < variantCount; i++) {
+            if (variantKeys[i] == bullets) {
+                BufferedImage[] frames = variantFrames[i];
+                // Move para o início (mais recente)
+                System.arraycopy(variantKeys, 0, variantKeys, 1, i);
+                System.arraycopy(variantFrames, 0, variantFrames, 1, i);
+                variantKeys[0] = bullets;
+                variantFrames[0] = frames;
+                return frames;
+            }
+        }
+        BufferedImage[] frames = new BufferedImage[bullets == 0 ? EMPTY_FRAME_COUNT : FRAME_COUNT];
+        long bytes = frames.length * spinFrameBytes();
+        // Descarta os conjuntos usados há mais tempo até o novo caber no orçamento
+        while (variantCount > 0 && variantBytes + bytes > SPIN_BUDGET_BYTES) {
+            variantCount--;
+            variantBytes -= variantFrames[variantCount].length * spinFrameBytes();
+            flushAll(variantFrames[variantCount]);
+            variantFrames[variantCount] = null;
+        }
+        variantBytes += bytes;
+        System.arraycopy(variantKeys, 0, variantKeys, 1, variantCount);
+        System.arraycopy(variantFrames, 0, variantFrames, 1, variantCount);
+        variantKeys[0] = bullets;
+        variantFrames[0] = frames;
+        variantCount++;
+        return frames;
+    }
+
+    private BufferedImage getFrame(BufferedImage[] frames, int index, int bullets) {
+        int slot = index % frames.length;
+        BufferedImage frame = frames[slot];
+        if (frame == null) {
+            frame = renderDrum(slot * ANGLE_STEP, bullets);
+            frames[slot] = frame;
+        }
+        return frame;
+    }
+
+    /**
+     * Escala dos quadros do giro: a do dispositivo, limitada a MAX_SPIN_SCALE
+     */
+    private double spinScale() {
+        return Math.min(frameScale, MAX_SPIN_SCALE);
+    }
+
+    private long spinFrameBytes() {
+        long side = (long) Math.ceil(FRAME_SIZE * spinScale());
+        return side * side * 4;
+    }
+
+    /**
+     * Descarta as imagens em cache se a escala do dispositivo mudou
+     */
+    private void checkScale() {
+        double scale = ImageUtils.getDeviceScale();
+        if (scale != frameScale) {
+            flush();
+            frameScale = scale;
+        }
+    }
+
+    /**
+     * Imagem transparente no tamanho do dispositivo para uma área lógica width x height
+     */
+    private BufferedImage createFrameImage(int width, int height) {
+        return createFrameImage(width, height, frameScale);
+    }
+
+    private static BufferedImage createFrameImage(int width, int height, double scale) {
+        return ImageUtils.createCompatibleImage((int) Math.ceil(width * scale),
+            (int) Math.ceil(height * scale), Transparency.TRANSLUCENT);
+    }
+
+    private Graphics2D createFrameGraphics(BufferedImage image) {
+        return createFrameGraphics(image, frameScale);
+    }
+
+    private static Graphics2D createFrameGraphics(BufferedImage image, double scale) {
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.scale(scale, scale);
+        return g;
+    }
+
+    private BufferedImage renderDrum(double angle, int bullets) {
+        BufferedImage image = createFrameImage(FRAME_SIZE, FRAME_SIZE, spinScale());
+        Graphics2D g = createFrameGraphics(image, spinScale());
+        int c = FRAME_SIZE / 2;
+        g.rotate(Math.toRadians(angle), c, c);
+
+        // Base escura do tambor
+        g.setColor(DRUM_BASE);
+        g.fillOval(c - CYLINDER_RADIUS, c - CYLINDER_RADIUS, CYLINDER_RADIUS * 2, CYLINDER_RADIUS * 2);
+
+        g.setStroke(new BasicStroke(2));
+        for (int i = 0; i < 6; i++) {
+            double theta = Math.toRadians(i * 60 - 90);
+            int hx = c + (int) (Math.cos(theta) * HOLE_DIST);
+            int hy = c + (int) (Math.sin(theta) * HOLE_DIST);
+
+            g.setColor(Color.BLACK);
+            g.fillOval(hx - HOLE_RADIUS, hy - HOLE_RADIUS, HOLE_RADIUS * 2, HOLE_RADIUS * 2);
+            if (i < bullets) {
+                drawBullet(g, hx, hy);
+            }
+            g.setColor(CHAMBER_EDGE);
+            g.drawOval(hx - HOLE_RADIUS, hy - HOLE_RADIUS, HOLE_RADIUS * 2, HOLE_RADIUS * 2);
+        }
+        g.dispose();
+        return image;
+    }
+
+    private BufferedImage renderLoading(int bulletsLoaded) {
+        BufferedImage image = createFrameImage(FRAME_SIZE, FRAME_SIZE);
+        Graphics2D g = createFrameGraphics(image);
+        int c = FRAME_SIZE / 2;
+
+        // Corpo
+        g.setColor(DRUM_BASE);
+        g.fillOval(c - CYLINDER_RADIUS, c - CYLINDER_RADIUS, CYLINDER_RADIUS * 2, CYLINDER_RADIUS * 2);
+        g.setColor(new Color(20, 20, 20));
+        g.setStroke(new BasicStroke(5));
+        g.drawOval(c - CYLINDER_RADIUS, c - CYLINDER_RADIUS, CYLINDER_RADIUS * 2, CYLINDER_RADIUS * 2);
+
+        // Eixo
+        g.setColor(new Color(10, 10, 10));
+        g.fillOval(c - 15, c - 15, 30, 30);
+
+        g.setStroke(new BasicStroke(2));
+        for (int i = 0; i < 6; i++) {
+            double theta = Math.toRadians(i * 60 - 90);
+            int hx = c + (int) (Math.cos(theta) * HOLE_DIST);
+            int hy = c + (int) (Math.sin(theta) * HOLE_DIST);
+
+            g.setColor(Color.BLACK);
+            g.fillOval(hx - HOLE_RADIUS, hy - HOLE_RADIUS, HOLE_RADIUS * 2, HOLE_RADIUS * 2);
+            if (i < bulletsLoaded) {
+                drawBullet(g, hx, hy);
+            }
+            g.setColor(LOADING_EDGE);
+            g.drawOval(hx - HOLE_RADIUS, hy - HOLE_RADIUS, HOLE_RADIUS * 2, HOLE_RADIUS * 2);
+        }
+        g.dispose();
+        return image;
+    }
+
+    private BufferedImage renderChambers() {
+        BufferedImage image = createFrameImage(FRAME_SIZE, FRAME_SIZE);
+        Graphics2D g = createFrameGraphics(image);
+        int c = FRAME_SIZE / 2;
+        g.setStroke(new BasicStroke(2));
+        for (int i = 0; i < 6; i++) {
+            double theta = Math.toRadians(i * 60 - 90);
+            int hx = c + (int) (Math.cos(theta) * HOLE_DIST);
+            int hy = c + (int) (Math.sin(theta) * HOLE_DIST);
+
+            g.setColor(CHAMBER_FILL);
+            g.fillOval(hx - HOLE_RADIUS, hy - HOLE_RADIUS, HOLE_RADIUS * 2, HOLE_RADIUS * 2);
+            g.setColor(CHAMBER_OUTLINE);
+            g.drawOval(hx - HOLE_RADIUS, hy - HOLE_RADIUS, HOLE_RADIUS * 2, HOLE_RADIUS * 2);
+        }
+        g.dispose();
+        return image;
+    }
+
+    private BufferedImage renderFilm() {
+        BufferedImage image = createFrameImage(FRAME_SIZE, FRAME_SIZE);
+        Graphics2D g = createFrameGraphics(image);
+        int c = FRAME_SIZE / 2;
+        g.setColor(FILM_COLOR);
+        g.fillOval(c - CYLINDER_RADIUS, c - CYLINDER_RADIUS, CYLINDER_RADIUS * 2, CYLINDER_RADIUS * 2);
+        g.dispose();
+        return image;
+    }
+
+    private BufferedImage renderCap() {
+        BufferedImage image = createFrameImage(FRAME_SIZE, CAP_HEIGHT);
+        Graphics2D g = createFrameGraphics(image);
+        int c = FRAME_SIZE / 2;
+        int cy = CAP_HEIGHT - FRAME_SIZE / 2;
+
+        // Borda do tambor fechado
+        g.setColor(new Color(30, 30, 30));
+        g.setStroke(new BasicStroke(4));
+        g.drawOval(c - CYLINDER_RADIUS, cy - CYLINDER_RADIUS, CYLINDER_RADIUS * 2, CYLINDER_RADIUS * 2);
+
+        // Eixo central
+        g.setColor(new Color(20, 20, 20));
+        g.fillOval(c - 15, cy - 15, 30, 30);
+
+        // Seta apontando para o topo (12 horas)
+        int arrowY = cy - CYLINDER_RADIUS - 10;
+        Polygon arrow = new Polygon();
+        arrow.addPoint(c - 15, arrowY - 20);
+        arrow.addPoint(c + 15, arrowY - 20);
+        arrow.addPoint(c, arrowY);
+        g.setColor(new Color(255, 50, 50));
+        g.fillPolygon(arrow);
+
+        // Rótulo acima da seta
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(TARGET_FONT);
+        g.setColor(TARGET_COLOR);
+        FontMetrics fm = g.getFontMetrics();
+        g.drawString("ALVO", c - fm.stringWidth("ALVO") / 2, arrowY - 25);
+
+        g.dispose();
+        return image;
+    }
+
+    private static void drawBullet(Graphics2D g, int hx, int hy) {
+        g.setColor(BULLET_BRASS);
+        g.fillOval(hx - HOLE_RADIUS + 2, hy - HOLE_RADIUS + 2, HOLE_RADIUS * 2 - 4, HOLE_RADIUS * 2 - 4);
+        g.setColor(BULLET_PRIMER);
+        g.fillOval(hx - 8, hy - 8, 16, 16);
+    }
+}
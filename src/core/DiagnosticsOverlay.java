@@ -0,0 +1,206 @@
+package core;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Painel de diagnóstico de desempenho (F3)
+ *
+ * Mostra o tempo de renderização dos últimos frames, o percentil 99, os
+ * pedidos de repaint por segundo, a latência da fila da EDT, as tarefas
+ * agendadas e o uso de heap. Quando desligado, as telas só testam a flag
+ * {@link #isActive()} e nada mais é medido.
+ */
+public class DiagnosticsOverlay extends JComponent {
+    private static final int HISTORY = 120; // Frames guardados no histórico
+    private static final int REFRESH_MS = 250;
+    private static final int PROBE_INTERVAL_MS = 250;
+    private static final int WIDTH = 250;
+    private static final int HEIGHT = 168;
+    private static final int MARGIN = 8;
+    private static final int GRAPH_HEIGHT = 40;
+    private static final double GRAPH_MAX_MS = 33.3; // Topo do gráfico (30 FPS)
+
+    private static final Color BACKGROUND = new Color(0, 0, 0, 190);
+    private static final Color TEXT = new Color(220, 220, 220);
+    private static final Color GOOD = new Color(46, 204, 113);
+    private static final Color WARN = new Color(241, 196, 15);
+    private static final Color BAD = new Color(231, 76, 60);
+    private static final Font FONT = new Font("Monospaced", Font.PLAIN, 12);
+
+    private static volatile boolean enabled = false;
+
+    // Histórico circular dos tempos de frame (apenas EDT)
+    private static final long[] frameNanos = new long[HISTORY];
+    private static int frameIndex = 0;
+    private static int frameCount = 0;
+    private static int repaintRequests = 0;
+    private static volatile long edtLatencyNanos = 0;
+
+    private final ScreenManager screenManager;
+    private final long[] sorted = new long[HISTORY];
+    private Scheduler.Task refreshTask;
+    private Thread probeThread;
+    private long lastRefreshNanos;
+    private int repaintsPerSecond;
+
+    public DiagnosticsOverlay(ScreenManager screenManager) {
+        this.screenManager = screenManager;
+        setOpaque(false);
+        setVisible(false);
+    }
+
+    /**
+     * Retorna true se as medições estão ativas
+     */
+    public static boolean isActive() {
+        return enabled;
+    }
+
+    /**
+     * Registra o tempo de renderização de um frame de uma tela
+     */
+    static void recordFrame(long nanos) {
+        frameNanos[frameIndex] = nanos;
+        frameIndex = (frameIndex + 1) % HISTORY;
+        if (frameCount < HISTORY) frameCount++;
+    }
+
+    /**
+     * Conta um pedido de repaint de uma tela
+     */
+    static void recordRepaint() {
+        repaintRequests++;
+    }
+
+    /**
+     * Liga ou desliga o painel
+     */
+    public void toggle() {
+        setActive(!enabled);
+    }
+
+    /**
+     * Liga ou desliga as medições e o painel
+     */
+    public void setActive(boolean on) {
+        if (on == enabled) return;
+        enabled = on;
+        setVisible(on);
+        if (on) {
+            frameCount = 0;
+            frameIndex = 0;
+            repaintRequests = 0;
+            repaintsPerSecond = 0;
+            lastRefreshNanos = System.nanoTime();
+            refreshTask = GameLoop.getInstance().getScheduler().repeat(REFRESH_MS, 0, this::refresh, null);
+            startProbe();
+        } else {
+            if (refreshTask != null) {
+                refreshTask.cancel();
+                refreshTask = null;
+            }
+            if (probeThread != null) {
+                probeThread.interrupt();
+                probeThread = null;
+            }
+        }
+    }
+
+    /**
+     * Mede a latência da EDT com um invokeLater periódico
+     */
+    private void startProbe() {
+        probeThread = new Thread(() -> {
+            while (enabled && !Thread.currentThread().isInterrupted()) {
+                long posted = System.nanoTime();
+                SwingUtilities.invokeLater(() -> edtLatencyNanos = System.nanoTime() - posted);
+                try {
+                    Thread.sleep(PROBE_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "edt-latency-probe");
+        probeThread.setDaemon(true);
+        probeThread.start();
+    }
+
+    private void refresh() {
+        long now = System.nanoTime();
+        double seconds = (now - lastRefreshNanos) / 1_000_000_000.0;
+        repaintsPerSecond = seconds > 0 ? (int) Math.round(repaintRequests / seconds) : 0;
+        repaintRequests = 0;
+        lastRefreshNanos = now;
+        repaint();
+    }
+
+    /**
+     * Posiciona o painel no canto inferior esquerdo da área informada
+     */
+    public void layoutIn(int width, int height) {
+        setBounds(MARGIN, height - HEIGHT - MARGIN, WIDTH, HEIGHT);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (!enabled) return;
+        Graphics2D g2 = (Graphics2D) g;
+        int x = 0;
+        int y = 0;
+
+        g2.setColor(BACKGROUND);
+        g2.fillRoundRect(x, y, WIDTH, HEIGHT, 10, 10);
+        g2.setFont(FONT);
+
+        // Estatísticas do histórico
+        int n = frameCount;
+        long last = n > 0 ? frameNanos[(frameIndex - 1 + HISTORY) % HISTORY] : 0;
+        long p99 = 0;
+        if (n > 0) {
+            System.arraycopy(frameNanos, 0, sorted, 0, n);
+            Arrays.sort(sorted, 0, n);
+            p99 = sorted[Math.min(n - 1, (int) Math.ceil(n * 0.99) - 1)];
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+        long maxMb = runtime.maxMemory() >> 20;
+
+        Screen screen = screenManager.getCurrentScreen();
+        int tasks = GameLoop.getInstance().getScheduler().getActiveCount()
+            + (screen != null ? screen.getScheduledTaskCount() : 0);
+
+        int ty = y + 18;
+        drawLine(g2, String.format("frame  %6.2f ms", last / 1e6), x, ty, colorFor(last));
+        drawLine(g2, String.format("p99    %6.2f ms", p99 / 1e6), x, ty += 16, colorFor(p99));
+        drawLine(g2, String.format("repaint %4d /s", repaintsPerSecond), x, ty += 16, TEXT);
+        drawLine(g2, String.format("edt    %6.2f ms", edtLatencyNanos / 1e6), x, ty += 16, colorFor(edtLatencyNanos));
+        drawLine(g2, String.format("tarefas %4d", tasks), x, ty += 16, TEXT);
+        drawLine(g2, String.format("heap   %d / %d MB", usedMb, maxMb), x, ty += 16, TEXT);
+
+        // Gráfico dos últimos frames (mais antigo à esquerda)
+        int graphY = y + HEIGHT - 8;
+        int graphWidth = WIDTH - 16;
+        for (int i = 0; i < n; i++) {
+            long nanos = frameNanos[(frameIndex - n + i + HISTORY) % HISTORY];
+            int h = (int) Math.min(GRAPH_HEIGHT, nanos / 1e6 / GRAPH_MAX_MS * GRAPH_HEIGHT);
+            int bx = i * graphWidth / HISTORY;
+            int bw = Math.max(1, (i + 1) * graphWidth / HISTORY - bx);
+            g2.setColor(colorFor(nanos));
+            g2.fillRect(x + 8 + bx, graphY - h, bw, Math.max(1, h));
+        }
+    }
+
+    private static void drawLine(Graphics2D g, String text, int x, int y, Color color) {
+        g.setColor(color);
+        g.drawString(text, x + 10, y);
+    }
+
+    private static Color colorFor(long nanos) {
+        if (nanos < 8_000_000L) return GOOD;
+        if (nanos < 16_700_000L) return WARN;
+        return BAD;
+    }
+}
@@ -1,14 +1,11 @@
 package core;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.IOException;
 
 public class DiceRenderer {
     private static DiceRenderer instance;
-    private BufferedImage spriteSheet;
     private BufferedImage[] faces;
     private int faceWidth;
     private int faceHeight;
@@ -25,48 +22,59 @@ public class DiceRenderer {
     }
 
     private void loadSpriteSheet() {
-        try {
-            spriteSheet = ImageIO.read(getClass().getResourceAsStream("/assets/dados.png"));
-            if (spriteSheet != null) {
-                int w = spriteSheet.getWidth();
-                int h = spriteSheet.getHeight();
-                faces = new BufferedImage[6];
-                
-                if (w > h * 4) {
-                    faceWidth = w / 6;
-                    faceHeight = h;
-                    for (int i = 0; i < 6; i++) {
-                        faces[i] = spriteSheet.getSubimage(i * faceWidth, 0, faceWidth, faceHeight);
-                    }
-                } else if (h > w * 4) {
-                    faceWidth = w;
-                    faceHeight = h / 6;
-                    for (int i = 0; i < 6; i++) {
-                        faces[i] = spriteSheet.getSubimage(0, i * faceHeight, faceWidth, faceHeight);
-                    }
-                } else if (w > h) {
-                    faceWidth = w / 3;
-                    faceHeight = h / 2;
-                    for (int i = 0; i < 6; i++) {
-                        int col = i % 3;
-                        int row = i / 3;
-                        faces[i] = spriteSheet.getSubimage(col * faceWidth, row * faceHeight, faceWidth, faceHeight);
-                    }
-                } else {
-                    faceWidth = w / 2;
-                    faceHeight = h / 3;
-                    for (int i = 0; i < 6; i++) {
-                        int col = i % 2;
-                        int row = i / 2;
-                        faces[i] = spriteSheet.getSubimage(col * faceWidth, row * faceHeight, faceWidth, faceHeight);
-                    }
+        StartupTimeline.Phase phase = StartupTimeline.begin("sheet de dados");
+        BufferedImage spriteSheet = Atlas.getInstance().getImage("dados");
+        phase.end();
+        if (spriteSheet != null) {
+            int w = spriteSheet.getWidth();
+            int h = spriteSheet.getHeight();
+            faces = new BufferedImage[6];
+            
+            if (w > h * 4) {
+                faceWidth = w / 6;
+                faceHeight = h;
+                for (int i = 0; i < 6; i++) {
+                    faces[i] = extractFace(spriteSheet, i * faceWidth, 0);
+                }
+            } else if (h > w * 4) {
+                faceWidth = w;
+                faceHeight = h / 6;
+                for (int i = 0; i < 6; i++) {
+                    faces[i] = extractFace(spriteSheet, 0, i * faceHeight);
+                }
+            } else if (w > h) {
+                faceWidth = w / 3;
+                faceHeight = h / 2;
+                for (int i = 0; i < 6; i++) {
+                    int col = i % 3;
+                    int row = i / 3;
+                    faces[i] = extractFace(spriteSheet, col * faceWidth, row * faceHeight);
+                }
+            } else {
+                faceWidth = w / 2;
+                faceHeight = h / 3;
+                for (int i = 0; i < 6; i++) {
+                    int col = i % 2;
+                    int row = i / 2;
+                    faces[i] = extractFace(spriteSheet, col * faceWidth, row * faceHeight);
                 }
             }
-        } catch (IOException e) {
-            System.err.println("Erro ao carregar sprite sheet do dado: " + e.getMessage());
+        } else {
+            System.err.println("Erro ao carregar sprite sheet do dado");
         }
     }
 
+    /**
+     * Copia a face do sprite sheet para uma imagem independente
+     */
+    private BufferedImage extractFace(BufferedImage spriteSheet, int x, int y) {
+        BufferedImage face = ImageUtils.createCompatibleImage(faceWidth, faceHeight, Transparency.TRANSLUCENT);
+        Graphics2D g = face.createGraphics();
+        g.drawImage(spriteSheet, 0, 0, faceWidth, faceHeight, x, y, x + faceWidth, y + faceHeight, null);
+        g.dispose();
+        return face;
+    }
+
     public void drawFace(Graphics2D g, int faceValue, int x, int y, int width, int height) {
         if (faces != null && faceValue >= 1 && faceValue <= 6) {
             g.drawImage(faces[faceValue - 1], x, y, width, height, null);
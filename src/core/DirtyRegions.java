@@ -0,0 +1,116 @@
+package core;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Acumula as regiões alteradas de um componente e as repinta de uma vez
+ *
+ * Em vez de repintar o painel inteiro a cada mudança, cada elemento
+ * invalida apenas o seu retângulo. Regiões que se sobrepõem são unidas e
+ * todas são enviadas ao RepaintManager em um único flush no fim do frame
+ * do GameLoop.
+ */
+public class DirtyRegions {
+    private static final int MAX_REGIONS = 8;
+
+    private final JComponent target;
+    private final Rectangle[] regions;
+    private int count = 0;
+    private boolean fullRepaint = false;
+    private boolean flushPending = false;
+
+    public DirtyRegions(JComponent target) {
+        this.target = target;
+        this.regions = new Rectangle[MAX_REGIONS];
+        for (int i = 0; i < MAX_REGIONS; i++) {
+            regions[i] = new Rectangle();
+        }
+    }
+
+    /**
+     * Marca um retângulo como alterado
+     */
+    public void add(Rectangle r) {
+        if (r != null) {
+            add(r.x, r.y, r.width, r.height);
+        }
+    }
+
+    /**
+     * Marca um retângulo como alterado
+     */
+    public void add(int x, int y, int width, int height) {
+        if (fullRepaint || width <= 0 || height <= 0) {
+            scheduleFlush();
+            return;
+        }
+
+        // Une com uma região existente que se sobreponha
+        for (int i = 0; i < count; i++) {
+            Rectangle r = regions[i];
+            if (x < r.x + r.width && r.x < x + width && y < r.y + r.height && r.y < y + height) {
+                union(r, x, y, width, height);
+                scheduleFlush();
+                return;
+            }
+        }
+
+        if (count < MAX_REGIONS) {
+            regions[count++].setBounds(x, y, width, height);
+        } else {
+            // Sem espaço: agrega na última região
+            union(regions[MAX_REGIONS - 1], x, y, width, height);
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * Marca o componente inteiro como alterado
+     */
+    public void addAll() {
+        fullRepaint = true;
+        count = 0;
+        scheduleFlush();
+    }
+
+    /**
+     * Retorna true se há alguma região pendente
+     */
+    public boolean isDirty() {
+        return fullRepaint || count > 0;
+    }
+
+    /**
+     * Envia as regiões acumuladas para o RepaintManager
+     */
+    public void flush() {
+        flushPending = false;
+        if (fullRepaint) {
+            target.repaint();
+        } else {
+            for (int i = 0; i < count; i++) {
+                Rectangle r = regions[i];
+                target.repaint(r.x, r.y, r.width, r.height);
+            }
+        }
+        fullRepaint = false;
+        count = 0;
+    }
+
+    private static void union(Rectangle r, int x, int y, int width, int height) {
+        int x2 = Math.max(r.x + r.width, x + width);
+        int y2 = Math.max(r.y + r.height, y + height);
+        r.x = Math.min(r.x, x);
+        r.y = Math.min(r.y, y);
+        r.width = x2 - r.x;
+        r.height = y2 - r.y;
+    }
+
+    private void scheduleFlush() {
+        if (!flushPending) {
+            flushPending = true;
+            GameLoop.getInstance().requestRepaint(this);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package core;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loop central do jogo com passo fixo de lógica
+ *
+ * Um único Timer do Swing (na EDT) dispara a cada frame. A cada disparo o
+ * tempo real decorrido é convertido em passos fixos de {@link #STEP_MS}:
+ * em cada passo o scheduler do sistema avança e a tela ativa recebe
+ * update(). Ao final do frame todas as regiões invalidadas são enviadas
+ * juntas ao RepaintManager, resultando em um único repaint por frame.
+ */
+public class GameLoop {
+    public static final int TICKS_PER_SECOND = 60;
+    public static final double STEP_MS = 1000.0 / TICKS_PER_SECOND;
+    private static final int MAX_TICKS_PER_FRAME = 5; // Evita "espiral da morte" após travadas
+    private static final int FRAME_DELAY_MS = 15;
+
+    private static GameLoop instance;
+
+    private final Timer timer;
+    private final Scheduler scheduler; // Tarefas do sistema (transições, áudio); nunca pausa
+    private final List<DirtyRegions> pendingRepaints = new ArrayList<>();
+    private ScreenManager screenManager;
+    private long lastFrameNanos = 0;
+    private double accumulator = 0;
+
+    private GameLoop() {
+        this.scheduler = new Scheduler();
+        this.timer = new Timer(FRAME_DELAY_MS, e -> frame());
+        this.timer.setCoalesce(true);
+    }
+
+    public static GameLoop getInstance() {
+        if (instance == null) {
+            instance = new GameLoop();
+        }
+        return instance;
+    }
+
+    /**
+     * Inicia o loop usando a tela ativa do gerenciador informado
+     */
+    public void start(ScreenManager screenManager) {
+        this.screenManager = screenManager;
+        if (!timer.isRunning()) {
+            lastFrameNanos = System.nanoTime();
+            accumulator = 0;
+            timer.start();
+        }
+    }
+
+    public void stop() {
+        timer.stop();
+        flushRepaints();
+    }
+
+    public boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    /**
+     * Scheduler global, usado por tarefas que não pausam com o jogo
+     */
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Agenda o flush das regiões para o fim do frame atual
+     */
+    void requestRepaint(DirtyRegions regions) {
+        if (!timer.isRunning()) {
+            // Sem loop ativo (ex.: antes do start): repinta no próximo ciclo da EDT
+            SwingUtilities.invokeLater(regions::flush);
+            return;
+        }
+        if (!pendingRepaints.contains(regions)) {
+            pendingRepaints.add(regions);
+        }
+    }
+
+    private void frame() {
+        long now = System.nanoTime();
+        accumulator += (now - lastFrameNanos) / 1_000_000.0;
+        lastFrameNanos = now;
+
+        int ticks = 0;
+        while (accumulator >= STEP_MS && ticks < MAX_TICKS_PER_FRAME) {
+            tick();
+            accumulator -= STEP_MS;
+            ticks++;
+        }
+        if (ticks == MAX_TICKS_PER_FRAME) {
+            accumulator = 0; // Descarta o atraso acumulado
+        }
+
+        flushRepaints();
+    }
+
+    private void tick() {
+        scheduler.update(STEP_MS);
+        Screen screen = screenManager != null ? screenManager.getCurrentScreen() : null;
+        if (screen != null) {
+            screen.update();
+        }
+    }
+
+    private void flushRepaints() {
+        for (int i = 0; i < pendingRepaints.size(); i++) {
+            pendingRepaints.get(i).flush();
+        }
+        pendingRepaints.clear();
+    }
+}
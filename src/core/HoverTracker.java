@@ -0,0 +1,143 @@
+package core;
+
+import java.awt.*;
+
+/**
+ * Índice de hit-test dos elementos com hover de uma tela
+ *
+ * Cada elemento tem um id, a área sensível ao mouse e a região que precisa
+ * ser repintada quando o hover entra ou sai dele. O movimento do mouse só
+ * resolve qual elemento está sob o cursor; as regiões são invalidadas apenas
+ * quando esse elemento muda, então arrastar o mouse sobre a mesma carta (ou
+ * sobre o fundo) não gera repaint algum.
+ */
+public class HoverTracker {
+    public static final int NONE = -1;
+
+    /**
+     * Diz se um elemento aceita hover no estado atual da tela
+     */
+    public interface Filter {
+        boolean isActive(int id);
+    }
+
+    private final DirtyRegions dirty;
+    private final Filter filter;
+    private final int[] ids;
+    private final Rectangle[] areas;
+    private final Rectangle[] regions;
+    private int count = 0;
+    private int hovered = NONE;
+    private int mouseX = Integer.MIN_VALUE;
+    private int mouseY = Integer.MIN_VALUE;
+
+    public HoverTracker(DirtyRegions dirty, Filter filter, int capacity) {
+        this.dirty = dirty;
+        this.filter = filter;
+        this.ids = new int[capacity];
+        this.areas = new Rectangle[capacity];
+        this.regions = new Rectangle[capacity];
+        for (int i = 0; i < capacity; i++) {
+            areas[i] = new Rectangle();
+            regions[i] = new Rectangle();
+        }
+    }
+
+    /**
+     * Define a área sensível de um elemento e a região repintada nas transições
+     */
+    public void set(int id, int x, int y, int width, int height, Rectangle repaintRegion) {
+        int index = indexOf(id);
+        if (index < 0) {
+            if (count == ids.length) {
+                System.err.println("HoverTracker cheio, elemento ignorado: " + id);
+                return;
+            }
+            index = count++;
+            ids[index] = id;
+        }
+        areas[index].setBounds(x, y, width, height);
+        regions[index].setBounds(repaintRegion != null ? repaintRegion : areas[index]);
+    }
+
+    /**
+     * Remove um elemento do índice
+     */
+    public void remove(int id) {
+        int index = indexOf(id);
+        if (index < 0) return;
+        count--;
+        ids[index] = ids[count];
+        areas[index].setBounds(areas[count]);
+        regions[index].setBounds(regions[count]);
+        if (hovered == id) {
+            hovered = NONE;
+        }
+    }
+
+    /**
+     * Atualiza a posição do mouse; retorna true se o elemento em hover mudou
+     */
+    public boolean mouseMoved(int x, int y) {
+        mouseX = x;
+        mouseY = y;
+        return refresh();
+    }
+
+    /**
+     * O mouse saiu da tela
+     */
+    public boolean mouseExited() {
+        return mouseMoved(Integer.MIN_VALUE, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Reavalia o hover na última posição do mouse (após mudar áreas ou estados)
+     */
+    public boolean refresh() {
+        int id = hitTest(mouseX, mouseY);
+        if (id == hovered) return false;
+        invalidate(hovered);
+        hovered = id;
+        invalidate(id);
+        return true;
+    }
+
+    /**
+     * Elemento ativo sob o ponto, ou {@link #NONE}
+     */
+    public int hitTest(int x, int y) {
+        for (int i = 0; i < count; i++) {
+            if (areas[i].contains(x, y) && filter.isActive(ids[i])) {
+                return ids[i];
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Elemento em hover, considerando o estado atual da tela
+     */
+    public int getHovered() {
+        return hovered != NONE && filter.isActive(hovered) ? hovered : NONE;
+    }
+
+    public boolean isHovered(int id) {
+        return id != NONE && getHovered() == id;
+    }
+
+    private void invalidate(int id) {
+        int index = indexOf(id);
+        if (index >= 0) {
+            dirty.add(regions[index]);
+        }
+    }
+
+    private int indexOf(int id) {
+        if (id == NONE) return -1;
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) return i;
+        }
+        return -1;
+    }
+}
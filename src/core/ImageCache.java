@@ -0,0 +1,281 @@
+package core;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Cache único das imagens dos recursos, indexado pelo caminho
+ *
+ * Cada imagem é decodificada uma única vez e convertida para o formato
+ * compatível com a tela. A versão convertida também é guardada no
+ * {@link PixelCache}, então as próximas execuções não decodificam de novo.
+ * Pedidos simultâneos pelo mesmo caminho aguardam a mesma decodificação. Quem chama {@link #acquire(String)} deve chamar
+ * {@link #release(String)} ao descartar a imagem. Sem referências, a imagem
+ * continua em memória enquanto couber no orçamento, liberando primeiro as
+ * menos recentes. Acima do orçamento ela fica só em uma SoftReference, que
+ * o GC pode recolher, e é decodificada de novo se for pedida depois disso.
+ */
+public class ImageCache {
+    private static final long DEFAULT_BUDGET_BYTES = 48L * 1024 * 1024;
+
+    private static ImageCache instance;
+
+    /**
+     * Estado de um caminho: a carga (em andamento ou pronta) e as referências
+     */
+    private static final class Entry {
+        CompletableFuture<BufferedImage> loading;
+        BufferedImage image; // Referência forte: em uso ou dentro do orçamento
+        SoftReference<BufferedImage> soft;
+        int refs;
+        long bytes;
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final LinkedHashMap<String, Entry> idle = new LinkedHashMap<>(); // Sem referências, da mais antiga à mais recente
+    private long idleBytes = 0;
+    private long budgetBytes = DEFAULT_BUDGET_BYTES;
+
+    private ImageCache() {
+    }
+
+    public static synchronized ImageCache getInstance() {
+        if (instance == null) {
+            instance = new ImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Memória máxima das imagens mantidas sem referências
+     */
+    public synchronized void setBudget(long bytes) {
+        this.budgetBytes = Math.max(0, bytes);
+        trim();
+    }
+
+    /**
+     * Inicia a carga no executor sem adquirir a imagem (pré-carga)
+     */
+    public CompletableFuture<BufferedImage> load(String path, Executor executor) {
+        CompletableFuture<BufferedImage> future;
+        boolean start = false;
+        synchronized (this) {
+            Entry entry = entries.computeIfAbsent(path, p -> new Entry());
+            BufferedImage cached = cached(entry);
+            if (cached != null) {
+                if (entry.refs == 0 && !idle.containsKey(path)) {
+                    keepIdle(path, entry);
+                }
+                return CompletableFuture.completedFuture(cached);
+            }
+            if (entry.loading == null) {
+                entry.loading = new CompletableFuture<>();
+                start = true;
+            }
+            future = entry.loading;
+        }
+        if (start) {
+            executor.execute(() -> decodeInto(path, future));
+        }
+        return future;
+    }
+
+    /**
+     * Imagem do recurso, decodificada se preciso; cada chamada conta uma referência
+     */
+    public BufferedImage acquire(String path) {
+        CompletableFuture<BufferedImage> future;
+        boolean start = false;
+        synchronized (this) {
+            Entry entry = entries.computeIfAbsent(path, p -> new Entry());
+            BufferedImage cached = cached(entry);
+            if (cached != null) {
+                retain(path, entry);
+                return cached;
+            }
+            if (entry.loading == null) {
+                entry.loading = new CompletableFuture<>();
+                start = true;
+            }
+            future = entry.loading;
+        }
+        if (start) {
+            decodeInto(path, future);
+        }
+
+        BufferedImage image;
+        try {
+            image = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            System.err.println("Erro ao carregar imagem " + path + ": " + e.getCause());
+            return null;
+        }
+        if (image == null) return null;
+        synchronized (this) {
+            Entry entry = entries.get(path);
+            if (entry.image == null) {
+                // Pode ter sido liberada e recolhida entre a carga e este ponto
+                store(entry, image);
+            }
+            retain(path, entry);
+            return entry.image;
+        }
+    }
+
+    /**
+     * Devolve uma referência obtida por {@link #acquire(String)}
+     */
+    public synchronized void release(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null || entry.refs == 0) {
+            System.err.println("Imagem liberada sem referência: " + path);
+            return;
+        }
+        entry.refs--;
+        if (entry.refs == 0 && entry.image != null) {
+            keepIdle(path, entry);
+        }
+    }
+
+    private BufferedImage cached(Entry entry) {
+        if (entry.image == null && entry.soft != null) {
+            entry.image = entry.soft.get();
+        }
+        return entry.image;
+    }
+
+    private void retain(String path, Entry entry) {
+        if (entry.refs == 0 && idle.remove(path) != null) {
+            idleBytes -= entry.bytes;
+        }
+        entry.refs++;
+    }
+
+    private void keepIdle(String path, Entry entry) {
+        idle.put(path, entry);
+        idleBytes += entry.bytes;
+        trim();
+    }
+
+    private void trim() {
+        Iterator<Entry> it = idle.values().iterator();
+        while (idleBytes > budgetBytes && it.hasNext()) {
+            Entry entry = it.next();
+            it.remove();
+            idleBytes -= entry.bytes;
+            entry.image = null; // Fica só a SoftReference
+        }
+    }
+
+    private void store(Entry entry, BufferedImage image) {
+        entry.image = image;
+        entry.soft = new SoftReference<>(image);
+        entry.bytes = 4L * image.getWidth() * image.getHeight();
+    }
+
+    private void decodeInto(String path, CompletableFuture<BufferedImage> future) {
+        BufferedImage image = null;
+        try {
+            image = read(path);
+        } catch (Throwable t) {
+            // OutOfMemoryError, erro de plugin do ImageIO etc.: o futuro precisa
+            // terminar, senão a pré-carga e quem espera em acquire() travam
+            synchronized (this) {
+                entries.get(path).loading = null;
+            }
+            future.completeExceptionally(t);
+            return;
+        }
+        synchronized (this) {
+            Entry entry = entries.get(path);
+            entry.loading = null;
+            if (image != null) {
+                store(entry, image);
+                if (entry.refs == 0) {
+                    keepIdle(path, entry);
+                }
+            }
+        }
+        future.complete(image);
+    }
+
+    /**
+     * Lê a imagem do cache de pixels em disco ou, se não houver, decodifica e converte
+     */
+    private static BufferedImage read(String path) {
+        byte[] data;
+        try (InputStream is = ImageCache.class.getResourceAsStream(path)) {
+            if (is == null) {
+                System.err.println("Imagem não encontrada: " + path);
+                return null;
+            }
+            data = is.readAllBytes();
+        } catch (IOException e) {
+            System.err.println("Erro ao carregar imagem " + path + ": " + e.getMessage());
+            return null;
+        }
+
+        String hash = PixelCache.hash(data);
+        StartupTimeline.Phase phase = StartupTimeline.begin("imagem " + path);
+        try {
+            BufferedImage cached = PixelCache.load(path, hash);
+            if (cached != null) {
+                return toCompatible(cached);
+            }
+            BufferedImage image;
+            try {
+                image = toCompatible(ImageIO.read(new ByteArrayInputStream(data)));
+            } catch (IOException e) {
+                System.err.println("Erro ao carregar imagem " + path + ": " + e.getMessage());
+                return null;
+            }
+            if (image != null) {
+                PixelCache.store(path, hash, image);
+            }
+            return image;
+        } finally {
+            phase.end();
+        }
+    }
+
+    /**
+     * Copia a imagem para o formato do dispositivo, evitando conversão a cada desenho
+     */
+    private static BufferedImage toCompatible(BufferedImage source) {
+        if (source == null) return null;
+        GraphicsConfiguration gc = ImageUtils.getDefaultConfiguration();
+        int transparency = source.getColorModel().getTransparency();
+        boolean compatible = gc != null
+            ? source.getColorModel().equals(gc.getColorModel(transparency))
+            : source.getType() == (transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        if (compatible) {
+            return source;
+        }
+        BufferedImage image = ImageUtils.createCompatibleImage(gc, source.getWidth(), source.getHeight(), transparency);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        source.flush();
+        return image;
+    }
+}
@@ -0,0 +1,74 @@
+package core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Utilitários para criação de imagens compatíveis com o dispositivo gráfico
+ */
+public class ImageUtils {
+    private static double deviceScale = 1.0;
+
+    private ImageUtils() {
+    }
+
+    /**
+     * Retorna a configuração gráfica padrão, ou null em ambiente headless
+     */
+    public static GraphicsConfiguration getDefaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDefaultConfiguration();
+    }
+
+    /**
+     * Cria uma imagem no formato nativo do dispositivo (acelerável pelo Java2D)
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        return createCompatibleImage(getDefaultConfiguration(), width, height, transparency);
+    }
+
+    /**
+     * Cria uma imagem compatível com a configuração informada
+     */
+    public static BufferedImage createCompatibleImage(GraphicsConfiguration gc, int width, int height, int transparency) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+        return new BufferedImage(width, height, type);
+    }
+
+    /**
+     * Escala entre coordenadas lógicas e pixels do dispositivo no frame sendo
+     * pintado (janela redimensionada e HiDPI). Definida pelo ScaledStage.
+     */
+    public static double getDeviceScale() {
+        return deviceScale;
+    }
+
+    static void setDeviceScale(double scale) {
+        deviceScale = scale > 0 ? scale : 1.0;
+    }
+
+    /**
+     * Desenha uma imagem já no tamanho do dispositivo, sem reescalá-la, com o
+     * canto em (x, y) nas coordenadas atuais do Graphics
+     */
+    public static void drawAtDeviceScale(Graphics2D g, Image image, int x, int y) {
+        double scale = deviceScale;
+        if (scale == 1.0) {
+            g.drawImage(image, x, y, null);
+            return;
+        }
+        // Desfaz a escala só para este desenho (sem copiar a transformação)
+        g.scale(1.0 / scale, 1.0 / scale);
+        g.drawImage(image, (int) Math.round(x * scale), (int) Math.round(y * scale), null);
+        g.scale(scale, scale);
+    }
+}
@@ -0,0 +1,69 @@
+package core;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Tela de abertura leve, exibida enquanto os assets são carregados
+ *
+ * Desenha apenas formas e texto (nenhuma imagem), então aparece antes de
+ * qualquer asset estar pronto; a barra avança a cada asset concluído.
+ */
+public class LoadingSplash extends JComponent {
+    private static final Color BACKGROUND = new Color(20, 25, 35);
+    private static final Color TITLE = new Color(255, 223, 0);
+    private static final Color BAR_BACKGROUND = new Color(50, 55, 70);
+    private static final Color BAR_FILL = new Color(255, 223, 0);
+    private static final Color TEXT = new Color(200, 200, 200);
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 72);
+    private static final Font TEXT_FONT = new Font("Arial", Font.PLAIN, 16);
+    private static final int BAR_WIDTH = 400;
+    private static final int BAR_HEIGHT = 12;
+
+    private int done = 0;
+    private int total = 1;
+
+    public LoadingSplash() {
+        setOpaque(true);
+        setPreferredSize(new Dimension(Settings.GAME_WIDTH, Settings.GAME_HEIGHT));
+    }
+
+    /**
+     * Atualiza a barra de progresso
+     */
+    public void setProgress(int done, int total) {
+        this.done = done;
+        this.total = Math.max(1, total);
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setColor(BACKGROUND);
+        g2.fillRect(0, 0, getWidth(), getHeight());
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int cx = getWidth() / 2;
+        int cy = getHeight() / 2;
+
+        g2.setFont(TITLE_FONT);
+        g2.setColor(TITLE);
+        FontMetrics fm = g2.getFontMetrics();
+        g2.drawString("LUCK", cx - fm.stringWidth("LUCK") / 2, cy - 30);
+
+        int barX = cx - BAR_WIDTH / 2;
+        int barY = cy + 10;
+        g2.setColor(BAR_BACKGROUND);
+        g2.fillRoundRect(barX, barY, BAR_WIDTH, BAR_HEIGHT, BAR_HEIGHT, BAR_HEIGHT);
+        g2.setColor(BAR_FILL);
+        g2.fillRoundRect(barX, barY, BAR_WIDTH * done / total, BAR_HEIGHT, BAR_HEIGHT, BAR_HEIGHT);
+
+        String text = "Carregando... " + (100 * done / total) + "%";
+        g2.setFont(TEXT_FONT);
+        g2.setColor(TEXT);
+        fm = g2.getFontMetrics();
+        g2.drawString(text, cx - fm.stringWidth(text) / 2, barY + BAR_HEIGHT + 30);
+    }
+}
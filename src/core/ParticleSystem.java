@@ -0,0 +1,411 @@
+package core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Sistema de partículas com pool pré-alocado (faíscas, fumaça, brilhos)
+ *
+ * As partículas vivem em arrays paralelos (uma posição por partícula, sem
+ * objeto por partícula), alocados uma única vez com a capacidade máxima, que
+ * também é o orçamento de partículas desenhadas por frame. Cada passo de
+ * lógica aceita no máximo {@code spawnBudget} partículas novas; o excedente
+ * de uma explosão é simplesmente descartado. As cores com transparência vêm
+ * de uma paleta pré-calculada e o desenho só troca de cor quando a entrada
+ * da paleta muda. Círculos vêm de carimbos pré-desenhados por cor e tamanho
+ * (na escala do dispositivo), com a opacidade dada por uma rampa de
+ * AlphaComposite: o fillOval antialiasado aloca a cada chamada. Assim
+ * emitir, atualizar e desenhar não alocam nada.
+ */
+public class ParticleSystem {
+    public static final int SHAPE_SQUARE = 0;
+    public static final int SHAPE_CIRCLE = 1;
+
+    private static final int ALPHA_LEVELS = 16;
+    private static final int MAX_COLORS = 16;
+    private static final int MAX_STAMP_SIZE = 64; // Círculos maiores são desenhados com fillOval
+    private static final AlphaComposite[] LEVEL_COMPOSITES = new AlphaComposite[ALPHA_LEVELS];
+
+    static {
+        for (int level = 0; level < ALPHA_LEVELS; level++) {
+            LEVEL_COMPOSITES[level] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) level / (ALPHA_LEVELS - 1));
+        }
+    }
+
+    /**
+     * Configuração de uma explosão de partículas (criada uma vez e reutilizada)
+     */
+    public static class Burst {
+        final Color color;
+        int count = 16;
+        int shape = SHAPE_SQUARE;
+        float minSpeed = 1f;
+        float maxSpeed = 4f;
+        float angle = 0f; // Graus; 0 = direita, -90 = para cima
+        float spread = 360f;
+        float minLife = 300f; // ms
+        float maxLife = 600f;
+        float startSize = 4f;
+        float endSize = 1f;
+        float gravity = 0f; // px por passo ao quadrado
+        float drag = 1f; // Fator aplicado à velocidade a cada passo
+        float radius = 0f; // Raio da área de origem
+
+        public Burst(Color color) {
+            this.color = color;
+        }
+
+        public Burst count(int count) {
+            this.count = count;
+            return this;
+        }
+
+        public Burst shape(int shape) {
+            this.shape = shape;
+            return this;
+        }
+
+        public Burst speed(float min, float max) {
+            this.minSpeed = min;
+            this.maxSpeed = max;
+            return this;
+        }
+
+        public Burst direction(float angle, float spread) {
+            this.angle = angle;
+            this.spread = spread;
+            return this;
+        }
+
+        public Burst life(float minMs, float maxMs) {
+            this.minLife = minMs;
+            this.maxLife = maxMs;
+            return this;
+        }
+
+        public Burst size(float start, float end) {
+            this.startSize = start;
+            this.endSize = end;
+            return this;
+        }
+
+        public Burst gravity(float gravity) {
+            this.gravity = gravity;
+            return this;
+        }
+
+        public Burst drag(float drag) {
+            this.drag = drag;
+            return this;
+        }
+
+        public Burst radius(float radius) {
+            this.radius = radius;
+            return this;
+        }
+    }
+
+    private final int capacity;
+    private final int spawnBudget;
+
+    // Estado das partículas (structure of arrays)
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] age;
+    private final float[] life;
+    private final float[] startSize;
+    private final float[] endSize;
+    private final float[] gravity;
+    private final float[] drag;
+    private final byte[] color;
+    private final byte[] shape;
+    private int count = 0;
+    private int spawnedThisStep = 0;
+
+    // Paleta: cada cor registrada com ALPHA_LEVELS opacidades pré-calculadas
+    private final Color[] baseColors = new Color[MAX_COLORS];
+    private final Color[][] palette = new Color[MAX_COLORS][];
+    private int colorCount = 0;
+
+    // Carimbos dos círculos: circleStamps[cor][tamanho], na cor base, criados sob demanda
+    private final BufferedImage[][] circleStamps = new BufferedImage[MAX_COLORS][];
+    private double stampScale = 0;
+
+    // Área ocupada antes e depois do último passo (para invalidação)
+    private final Rectangle dirtyBounds = new Rectangle();
+    private int seed = 0x2545F491;
+
+    public ParticleSystem(int capacity, int spawnBudget) {
+        this.capacity = capacity;
+        this.spawnBudget = spawnBudget;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.vx = new float[capacity];
+        this.vy = new float[capacity];
+        this.age = new float[capacity];
+        this.life = new float[capacity];
+        this.startSize = new float[capacity];
+        this.endSize = new float[capacity];
+        this.gravity = new float[capacity];
+        this.drag = new float[capacity];
+        this.color = new byte[capacity];
+        this.shape = new byte[capacity];
+    }
+
+    /**
+     * Emite uma explosão em (cx, cy), limitada pelo orçamento do passo e pela capacidade
+     */
+    public void emit(Burst burst, float cx, float cy) {
+        int colorIndex = paletteIndex(burst.color);
+        int n = Math.min(burst.count, Math.min(spawnBudget - spawnedThisStep, capacity - count));
+        if (n <= 0) return;
+        spawnedThisStep += n;
+
+        for (int k = 0; k < n; k++) {
+            int i = count++;
+            double theta = Math.toRadians(burst.angle + (nextFloat() - 0.5f) * burst.spread);
+            float speed = lerp(burst.minSpeed, burst.maxSpeed, nextFloat());
+            float offset = burst.radius * nextFloat();
+            float cos = (float) Math.cos(theta);
+            float sin = (float) Math.sin(theta);
+            x[i] = cx + cos * offset;
+            y[i] = cy + sin * offset;
+            vx[i] = cos * speed;
+            vy[i] = sin * speed;
+            age[i] = 0f;
+            life[i] = lerp(burst.minLife, burst.maxLife, nextFloat());
+            startSize[i] = burst.startSize;
+            endSize[i] = burst.endSize;
+            gravity[i] = burst.gravity;
+            drag[i] = burst.drag;
+            color[i] = (byte) colorIndex;
+            shape[i] = (byte) burst.shape;
+        }
+        includeLive(dirtyBounds);
+    }
+
+    /**
+     * Avança um passo de lógica; partículas mortas são removidas trocando com a última
+     */
+    public void update(double stepMs) {
+        spawnedThisStep = 0;
+        if (count == 0) {
+            dirtyBounds.setBounds(0, 0, 0, 0);
+            return;
+        }
+        // Região antiga entra na invalidação para apagar o rastro
+        dirtyBounds.setBounds(0, 0, 0, 0);
+        includeLive(dirtyBounds);
+
+        float dt = (float) stepMs;
+        int i = 0;
+        while (i < count) {
+            age[i] += dt;
+            if (age[i] >= life[i]) {
+                removeAt(i);
+                continue;
+            }
+            vy[i] += gravity[i];
+            vx[i] *= drag[i];
+            vy[i] *= drag[i];
+            x[i] += vx[i];
+            y[i] += vy[i];
+            i++;
+        }
+        includeLive(dirtyBounds);
+    }
+
+    /**
+     * Desenha as partículas vivas; a cor só muda quando a entrada da paleta muda
+     */
+    public void draw(Graphics2D g) {
+        double scale = ImageUtils.getDeviceScale();
+        if (scale != stampScale) {
+            flush();
+            stampScale = scale;
+        }
+        Composite original = g.getComposite();
+        int currentColor = -1;
+        int currentLevel = -1; // Opacidade do composite atual (-1 = original)
+        for (int i = 0; i < count; i++) {
+            float t = age[i] / life[i];
+            int level = (int) ((1f - t) * (ALPHA_LEVELS - 1) + 0.5f);
+            if (level <= 0) continue;
+            int index = color[i] & 0xFF;
+            int s = Math.max(1, (int) lerp(startSize[i], endSize[i], t));
+            int px = (int) x[i] - s / 2;
+            int py = (int) y[i] - s / 2;
+            if (shape[i] == SHAPE_CIRCLE && s <= MAX_STAMP_SIZE) {
+                if (level != currentLevel) {
+                    g.setComposite(LEVEL_COMPOSITES[level]);
+                    currentLevel = level;
+                }
+                ImageUtils.drawAtDeviceScale(g, circleStamp(index, s, scale), px, py);
+                continue;
+            }
+            if (currentLevel != -1) {
+                g.setComposite(original);
+                currentLevel = -1;
+            }
+            int entry = index * ALPHA_LEVELS + level;
+            if (entry != currentColor) {
+                g.setColor(palette[index][level]);
+                currentColor = entry;
+            }
+            if (shape[i] == SHAPE_CIRCLE) {
+                g.fillOval(px, py, s, s);
+            } else {
+                g.fillRect(px, py, s, s);
+            }
+        }
+        if (currentLevel != -1) {
+            g.setComposite(original);
+        }
+    }
+
+    /**
+     * Círculo antialiasado de diâmetro size na cor base, desenhado uma única vez
+     */
+    private BufferedImage circleStamp(int index, int size, double scale) {
+        BufferedImage[] stamps = circleStamps[index];
+        if (stamps == null) {
+            stamps = new BufferedImage[MAX_STAMP_SIZE + 1];
+            circleStamps[index] = stamps;
+        }
+        BufferedImage stamp = stamps[size];
+        if (stamp == null) {
+            int pixels = (int) Math.ceil(size * scale);
+            stamp = ImageUtils.createCompatibleImage(pixels, pixels, Transparency.TRANSLUCENT);
+            Graphics2D g = stamp.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.scale(scale, scale);
+            g.setColor(baseColors[index]);
+            g.fillOval(0, 0, size, size);
+            g.dispose();
+            stamps[size] = stamp;
+        }
+        return stamp;
+    }
+
+    /**
+     * Libera os carimbos dos círculos (refeitos no próximo desenho)
+     */
+    public void flush() {
+        for (BufferedImage[] stamps : circleStamps) {
+            if (stamps == null) continue;
+            for (int size = 0; size < stamps.length; size++) {
+                if (stamps[size] != null) {
+                    stamps[size].flush();
+                    stamps[size] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Região a repintar após o último passo (posições antigas e novas)
+     */
+    public Rectangle getDirtyBounds() {
+        return dirtyBounds;
+    }
+
+    public boolean isActive() {
+        return count > 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Remove todas as partículas
+     */
+    public void clear() {
+        count = 0;
+        spawnedThisStep = 0;
+        dirtyBounds.setBounds(0, 0, 0, 0);
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        age[i] = age[last];
+        life[i] = life[last];
+        startSize[i] = startSize[last];
+        endSize[i] = endSize[last];
+        gravity[i] = gravity[last];
+        drag[i] = drag[last];
+        color[i] = color[last];
+        shape[i] = shape[last];
+    }
+
+    /**
+     * Une a área das partículas vivas ao retângulo (sem alocar)
+     */
+    private void includeLive(Rectangle r) {
+        if (count == 0) return;
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            float half = Math.max(startSize[i], endSize[i]) / 2f + 1f;
+            minX = Math.min(minX, x[i] - half);
+            minY = Math.min(minY, y[i] - half);
+            maxX = Math.max(maxX, x[i] + half);
+            maxY = Math.max(maxY, y[i] + half);
+        }
+        int x1 = (int) Math.floor(minX);
+        int y1 = (int) Math.floor(minY);
+        int x2 = (int) Math.ceil(maxX);
+        int y2 = (int) Math.ceil(maxY);
+        if (r.width <= 0 || r.height <= 0) {
+            r.setBounds(x1, y1, x2 - x1, y2 - y1);
+        } else {
+            int rx2 = Math.max(r.x + r.width, x2);
+            int ry2 = Math.max(r.y + r.height, y2);
+            r.x = Math.min(r.x, x1);
+            r.y = Math.min(r.y, y1);
+            r.width = rx2 - r.x;
+            r.height = ry2 - r.y;
+        }
+    }
+
+    /**
+     * Índice da cor na paleta, criando as opacidades na primeira vez
+     */
+    private int paletteIndex(Color base) {
+        for (int i = 0; i < colorCount; i++) {
+            if (baseColors[i] == base) return i;
+        }
+        if (colorCount == MAX_COLORS) {
+            System.err.println("Paleta de partículas cheia, reaproveitando a última cor");
+            return MAX_COLORS - 1;
+        }
+        Color[] ramp = new Color[ALPHA_LEVELS];
+        for (int level = 0; level < ALPHA_LEVELS; level++) {
+            int alpha = base.getAlpha() * level / (ALPHA_LEVELS - 1);
+            ramp[level] = new Color(base.getRed(), base.getGreen(), base.getBlue(), alpha);
+        }
+        baseColors[colorCount] = base;
+        palette[colorCount] = ramp;
+        return colorCount++;
+    }
+
+    private float nextFloat() {
+        // xorshift: sem a sincronização do Random compartilhado
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed >>> 8) / (float) (1 << 24);
+    }
+
+    private static float lerp(float a, float b, float t) {
+        return a + (b - a) * t;
+    }
+}
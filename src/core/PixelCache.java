@@ -0,0 +1,188 @@
+package core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Cache em disco dos pixels já decodificados e convertidos
+ *
+ * Guarda cada imagem como pixels inteiros crus (ARGB pré-multiplicado, ou
+ * RGB se opaca) na pasta de dados do usuário; imagens em outro formato (ARGB
+ * comum no X11 e no GDI, por exemplo) são convertidas antes de gravar. Cada arquivo é indexado pelo
+ * hash do caminho e pelo hash do conteúdo do recurso. Nas execuções
+ * seguintes o arquivo é mapeado em memória e copiado linha a linha para a
+ * imagem, sem passar pelo ImageIO. Se o asset mudar no jar, o hash muda, o
+ * arquivo antigo do mesmo caminho é apagado e a imagem é decodificada de
+ * novo. Desligado com -Dluck.pixelcache=false; -Dluck.cache.dir troca a pasta.
+ */
+class PixelCache {
+    private static final int MAGIC = 0x4C55434B; // "LUCK"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16; // magic, versão, tipo, largura/altura (2 x 16 bits)
+    private static final String SUFFIX = ".px";
+
+    private static final File DIRECTORY = resolveDirectory();
+    private static final boolean ENABLED = !"false".equals(System.getProperty("luck.pixelcache")) && DIRECTORY != null;
+
+    private PixelCache() {
+    }
+
+    private static File resolveDirectory() {
+        String custom = System.getProperty("luck.cache.dir"); // Usado pelo StartupBenchmark
+        if (custom != null) return new File(custom);
+        String base = System.getenv("LOCALAPPDATA"); // Windows
+        if (base == null) base = System.getenv("XDG_CACHE_HOME");
+        if (base == null) {
+            String home = System.getProperty("user.home");
+            if (home == null) return null;
+            base = home + File.separator + ".cache";
+        }
+        return new File(base, "LUCK" + File.separator + "pixels");
+    }
+
+    /**
+     * Hash do conteúdo do recurso (a chave que invalida o cache)
+     */
+    static String hash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String pathKey(String path) {
+        return hash(path.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    private static File fileFor(String path, String contentHash) {
+        return new File(DIRECTORY, pathKey(path) + "-" + contentHash + SUFFIX);
+    }
+
+    /**
+     * Imagem em cache para o recurso com esse conteúdo, ou null
+     */
+    static BufferedImage load(String path, String contentHash) {
+        if (!ENABLED) return null;
+        File file = fileFor(path, contentHash);
+        if (!file.isFile()) return null;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) break;
+            }
+            header.flip();
+            if (header.remaining() == HEADER_BYTES) {
+                int magic = header.getInt();
+                int version = header.getInt();
+                int type = header.getInt();
+                int size = header.getInt();
+                int width = size >>> 16;
+                int height = size & 0xFFFF;
+                long pixelBytes = 4L * width * height;
+                boolean valid = magic == MAGIC && version == VERSION && isSupported(type)
+                    && width > 0 && height > 0 && channel.size() == HEADER_BYTES + pixelBytes;
+                if (valid) {
+                    // Linha a linha pelo Raster: a imagem continua gerenciada (acelerável) pelo Java2D
+                    MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, pixelBytes);
+                    IntBuffer pixels = map.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                    BufferedImage image = new BufferedImage(width, height, type);
+                    int[] row = new int[width];
+                    for (int y = 0; y < height; y++) {
+                        pixels.get(row);
+                        image.getRaster().setDataElements(0, y, width, 1, row);
+                    }
+                    return image;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao ler cache de pixels " + file.getName() + ": " + e.getMessage());
+            return null;
+        }
+        System.err.println("Cache de pixels inválido, descartado: " + file.getName());
+        if (!file.delete()) {
+            System.err.println("Não foi possível apagar cache inválido: " + file.getName());
+        }
+        return null;
+    }
+
+    /**
+     * Grava a imagem convertida; substitui versões antigas do mesmo recurso
+     */
+    static void store(String path, String contentHash, BufferedImage image) {
+        if (!ENABLED) return;
+        image = toStorable(image);
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width > 0xFFFF || height > 0xFFFF) return;
+        try {
+            Files.createDirectories(DIRECTORY.toPath());
+            File target = fileFor(path, contentHash);
+            Path temp = Files.createTempFile(DIRECTORY.toPath(), "px", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 4 * width).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(MAGIC).putInt(VERSION).putInt(image.getType()).putInt((width << 16) | height);
+                int[] row = new int[width];
+                for (int y = 0; y < height; y++) {
+                    image.getRaster().getDataElements(0, y, width, 1, row);
+                    buffer.asIntBuffer().put(row);
+                    buffer.position(buffer.position() + 4 * width);
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+            Files.move(temp, target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            removeStale(path, target);
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar cache de pixels de " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static void removeStale(String path, File current) {
+        String prefix = pathKey(path) + "-";
+        File[] files = DIRECTORY.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(SUFFIX));
+        if (files == null) return;
+        for (File f : files) {
+            if (!f.equals(current) && !f.delete()) {
+                System.err.println("Não foi possível apagar cache antigo: " + f.getName());
+            }
+        }
+    }
+
+    /**
+     * A própria imagem se o formato já é gravável, senão uma cópia em ARGB pré-multiplicado (ou RGB)
+     */
+    private static BufferedImage toStorable(BufferedImage image) {
+        if (isSupported(image.getType())) return image;
+        boolean opaque = image.getColorModel().getTransparency() == Transparency.OPAQUE;
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(),
+            opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = copy.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    private static boolean isSupported(int type) {
+        return type == BufferedImage.TYPE_INT_ARGB_PRE || type == BufferedImage.TYPE_INT_RGB;
+    }
+}
@@ -0,0 +1,401 @@
+package core;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+
+/**
+ * Palco que desenha a tela ativa em resolução virtual fixa, escalada para a janela
+ *
+ * A tela continua com o tamanho de {@link Settings#GAME_WIDTH} x
+ * {@link Settings#GAME_HEIGHT} e com as posições absolutas de sempre; o palco
+ * aplica uma única escala (com barras pretas quando a proporção difere) ao
+ * pintá-la. Como a tela fica em um CellRendererPane invisível, o palco também
+ * traduz os eventos de mouse para coordenadas virtuais e converte os repaints
+ * dos componentes da tela em regiões escaladas do palco.
+ */
+public class ScaledStage extends JComponent {
+    private final int virtualWidth;
+    private final int virtualHeight;
+    private final CellRendererPane viewPane = new CellRendererPane();
+    private Screen view;
+
+    // Transformação atual (recalculada quando o tamanho muda)
+    private double scale = 1.0;
+    private int offsetX = 0;
+    private int offsetY = 0;
+
+    // Estado do mouse em coordenadas virtuais
+    private Component hoverTarget;
+    private Component pressTarget;
+    private final Point virtualPoint = new Point();
+    
+    // Com renderização ativa, os frames são pintados inteiros por fora do Swing
+    private boolean externallyRendered = false;
+    
+    // Transição: imagens das telas de saída e de entrada, misturadas por progresso
+    private BufferedImage transitionFrom;
+    private BufferedImage transitionTo;
+    private double transitionScale = 1.0;
+    private float transitionProgress = -1f; // < 0: sem transição
+    private double deviceScale = 1.0; // Escala até o dispositivo no último paint
+
+    public ScaledStage(int virtualWidth, int virtualHeight) {
+        this.virtualWidth = virtualWidth;
+        this.virtualHeight = virtualHeight;
+        setOpaque(true);
+        setPreferredSize(new Dimension(virtualWidth, virtualHeight));
+        add(viewPane);
+        enableEvents(AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_MOTION_EVENT_MASK | AWTEvent.MOUSE_WHEEL_EVENT_MASK);
+        ScaledRepaintManager.install();
+    }
+
+    /**
+     * Troca a tela exibida
+     */
+    public void setView(Screen screen) {
+        if (view != null) {
+            viewPane.remove(view);
+        }
+        view = screen;
+        hoverTarget = null;
+        pressTarget = null;
+        if (screen != null) {
+            viewPane.add(screen);
+            screen.setBounds(0, 0, virtualWidth, virtualHeight);
+            screen.validate();
+        }
+        repaint();
+    }
+
+    public Screen getView() {
+        return view;
+    }
+
+    /**
+     * Indica que o palco é pintado pelo {@link ActiveRenderer}; os repaints são ignorados
+     */
+    void setExternallyRendered(boolean externallyRendered) {
+        this.externallyRendered = externallyRendered;
+    }
+
+    /**
+     * Escala atual entre a resolução virtual e o componente
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        updateTransform();
+    }
+
+    private void updateTransform() {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) return;
+        scale = Math.min((double) width / virtualWidth, (double) height / virtualHeight);
+        offsetX = (int) Math.round((width - virtualWidth * scale) / 2);
+        offsetY = (int) Math.round((height - virtualHeight * scale) / 2);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        int scaledWidth = (int) Math.round(virtualWidth * scale);
+        int scaledHeight = (int) Math.round(virtualHeight * scale);
+
+        // Barras laterais quando a proporção da janela difere da virtual
+        g2.setColor(Color.BLACK);
+        if (offsetX > 0) {
+            g2.fillRect(0, 0, offsetX, getHeight());
+            g2.fillRect(offsetX + scaledWidth, 0, getWidth() - offsetX - scaledWidth, getHeight());
+        }
+        if (offsetY > 0) {
+            g2.fillRect(0, 0, getWidth(), offsetY);
+            g2.fillRect(0, offsetY + scaledHeight, getWidth(), getHeight() - offsetY - scaledHeight);
+        }
+
+        if (view == null && transitionProgress < 0) return;
+        // Revalidações dentro da tela não chegam ao RepaintManager (pane invisível)
+        if (view != null && !view.isValid()) {
+            view.validate();
+        }
+
+        Graphics2D vg = (Graphics2D) g2.create();
+        try {
+            vg.clipRect(offsetX, offsetY, scaledWidth, scaledHeight);
+            vg.translate(offsetX, offsetY);
+            vg.scale(scale, scale);
+            // Escala total até o dispositivo (inclui HiDPI), usada pelos caches por escala
+            deviceScale = vg.getTransform().getScaleX();
+            ImageUtils.setDeviceScale(deviceScale);
+            if (transitionProgress >= 0) {
+                paintTransition(vg);
+            } else {
+                view.paint(vg);
+            }
+        } finally {
+            ImageUtils.setDeviceScale(1.0);
+            vg.dispose();
+        }
+    }
+
+    /**
+     * Pinta a tela atual em uma imagem na escala do último frame (reaproveitando {@code reuse})
+     */
+    BufferedImage captureView(BufferedImage reuse) {
+        double captureScale = deviceScale;
+        int pixelWidth = (int) Math.ceil(virtualWidth * captureScale);
+        int pixelHeight = (int) Math.ceil(virtualHeight * captureScale);
+        BufferedImage image = reuse;
+        if (image == null || image.getWidth() != pixelWidth || image.getHeight() != pixelHeight) {
+            if (image != null) {
+                image.flush();
+            }
+            image = ImageUtils.createCompatibleImage(getGraphicsConfiguration(), pixelWidth, pixelHeight, Transparency.OPAQUE);
+        }
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, pixelWidth, pixelHeight);
+            if (view != null) {
+                if (!view.isValid()) {
+                    view.validate();
+                }
+                g.scale(captureScale, captureScale);
+                ImageUtils.setDeviceScale(captureScale);
+                view.paint(g);
+            }
+        } finally {
+            ImageUtils.setDeviceScale(1.0);
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Passa a exibir a mistura das duas imagens em vez da tela
+     */
+    void startTransition(BufferedImage from, BufferedImage to) {
+        transitionFrom = from;
+        transitionTo = to;
+        transitionScale = deviceScale;
+        transitionProgress = 0f;
+        repaint();
+    }
+
+    /**
+     * Progresso da mistura: 0 mostra a tela de saída, 1 a de entrada
+     */
+    void setTransitionProgress(float progress) {
+        transitionProgress = Math.max(0f, Math.min(1f, progress));
+        repaint();
+    }
+
+    /**
+     * Volta a pintar a tela ativa diretamente
+     */
+    void endTransition() {
+        transitionProgress = -1f;
+        transitionFrom = null;
+        transitionTo = null;
+        repaint();
+    }
+
+    private void paintTransition(Graphics2D g) {
+        drawSnapshot(g, transitionFrom);
+        if (transitionProgress > 0f) {
+            Composite previous = g.getComposite();
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, transitionProgress));
+            drawSnapshot(g, transitionTo);
+            g.setComposite(previous);
+        }
+    }
+
+    private void drawSnapshot(Graphics2D g, BufferedImage image) {
+        if (image == null) return;
+        if (transitionScale == deviceScale) {
+            ImageUtils.drawAtDeviceScale(g, image, 0, 0);
+        } else {
+            // Janela redimensionada durante a transição
+            g.drawImage(image, 0, 0, virtualWidth, virtualHeight, null);
+        }
+    }
+
+    /**
+     * Converte uma região da tela virtual em uma região do palco e a repinta
+     */
+    void repaintVirtual(int x, int y, int width, int height) {
+        if (externallyRendered) return;
+        int x1 = (int) Math.floor(x * scale) + offsetX;
+        int y1 = (int) Math.floor(y * scale) + offsetY;
+        int x2 = (int) Math.ceil((x + width) * scale) + offsetX;
+        int y2 = (int) Math.ceil((y + height) * scale) + offsetY;
+        repaint(x1, y1, x2 - x1, y2 - y1);
+    }
+
+    @Override
+    protected void processMouseEvent(MouseEvent e) {
+        redispatch(e);
+        super.processMouseEvent(e);
+    }
+
+    @Override
+    protected void processMouseMotionEvent(MouseEvent e) {
+        redispatch(e);
+        super.processMouseMotionEvent(e);
+    }
+
+    @Override
+    protected void processMouseWheelEvent(MouseWheelEvent e) {
+        if (view != null && toVirtual(e.getX(), e.getY())) {
+            Component target = findTarget(virtualPoint.x, virtualPoint.y, true);
+            if (target != null) {
+                Point p = SwingUtilities.convertPoint(view, virtualPoint, target);
+                target.dispatchEvent(new MouseWheelEvent(target, e.getID(), e.getWhen(), e.getModifiersEx(),
+                    p.x, p.y, e.getXOnScreen(), e.getYOnScreen(), e.getClickCount(), e.isPopupTrigger(),
+                    e.getScrollType(), e.getScrollAmount(), e.getWheelRotation(), e.getPreciseWheelRotation()));
+            }
+        }
+        super.processMouseWheelEvent(e);
+    }
+
+    /**
+     * Reenvia o evento ao componente da tela sob o cursor, em coordenadas virtuais
+     */
+    private void redispatch(MouseEvent e) {
+        if (view == null) return;
+        int id = e.getID();
+        boolean inside = toVirtual(e.getX(), e.getY()) && id != MouseEvent.MOUSE_EXITED;
+
+        Component target = inside ? findTarget(virtualPoint.x, virtualPoint.y, false) : null;
+
+        // Entrada e saída sintéticas quando o componente sob o cursor muda
+        if (pressTarget == null && target != hoverTarget) {
+            if (hoverTarget != null) {
+                forward(hoverTarget, e, MouseEvent.MOUSE_EXITED);
+            }
+            hoverTarget = target;
+            if (target != null) {
+                forward(target, e, MouseEvent.MOUSE_ENTERED);
+            }
+            setCursor(target != null ? target.getCursor() : null);
+        }
+
+        switch (id) {
+            case MouseEvent.MOUSE_PRESSED:
+                pressTarget = target;
+                if (target != null) forward(target, e, id);
+                break;
+            case MouseEvent.MOUSE_RELEASED:
+                // Como no Swing, a soltura vai para quem recebeu o clique
+                if (pressTarget != null) {
+                    forward(pressTarget, e, id);
+                    boolean sameTarget = pressTarget == target;
+                    pressTarget = null;
+                    if (!sameTarget) {
+                        redispatch(new MouseEvent(this, MouseEvent.MOUSE_MOVED, e.getWhen(), 0, e.getX(), e.getY(), 0, false));
+                    }
+                }
+                break;
+            case MouseEvent.MOUSE_CLICKED:
+                if (target != null) forward(target, e, id);
+                break;
+            case MouseEvent.MOUSE_DRAGGED:
+                if (pressTarget != null) forward(pressTarget, e, id);
+                break;
+            case MouseEvent.MOUSE_MOVED:
+                if (target != null) forward(target, e, id);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void forward(Component target, MouseEvent e, int id) {
+        Point p = SwingUtilities.convertPoint(view, virtualPoint, target);
+        target.dispatchEvent(new MouseEvent(target, id, e.getWhen(), e.getModifiersEx(), p.x, p.y,
+            e.getXOnScreen(), e.getYOnScreen(), e.getClickCount(), e.isPopupTrigger(), e.getButton()));
+    }
+
+    /**
+     * Converte um ponto do palco para a tela virtual; false se cair nas barras
+     */
+    private boolean toVirtual(int x, int y) {
+        virtualPoint.x = (int) Math.floor((x - offsetX) / scale);
+        virtualPoint.y = (int) Math.floor((y - offsetY) / scale);
+        return virtualPoint.x >= 0 && virtualPoint.y >= 0 && virtualPoint.x < virtualWidth && virtualPoint.y < virtualHeight;
+    }
+
+    /**
+     * Componente mais profundo no ponto que escuta eventos de mouse
+     */
+    private Component findTarget(int x, int y, boolean wheel) {
+        Component c = SwingUtilities.getDeepestComponentAt(view, x, y);
+        while (c != null && c != view) {
+            boolean listens = wheel
+                ? c.getMouseWheelListeners().length > 0
+                : c.getMouseListeners().length > 0 || c.getMouseMotionListeners().length > 0;
+            if (listens) return c;
+            c = c.getParent();
+        }
+        return view;
+    }
+
+    /**
+     * Palco que contém o componente, se ele estiver dentro de uma tela escalada
+     */
+    private static ScaledStage findStage(Component c, Point offset) {
+        offset.setLocation(0, 0);
+        while (c != null) {
+            Container parent = c.getParent();
+            if (parent instanceof CellRendererPane && parent.getParent() instanceof ScaledStage) {
+                return (ScaledStage) parent.getParent();
+            }
+            offset.translate(c.getX(), c.getY());
+            c = parent;
+        }
+        return null;
+    }
+
+    /**
+     * Encaminha repaints e revalidações dos componentes da tela para o palco
+     */
+    private static class ScaledRepaintManager extends RepaintManager {
+        private final Point offset = new Point();
+
+        static void install() {
+            if (!(RepaintManager.currentManager((Component) null) instanceof ScaledRepaintManager)) {
+                RepaintManager.setCurrentManager(new ScaledRepaintManager());
+            }
+        }
+
+        @Override
+        public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+            ScaledStage stage = findStage(c, offset);
+            if (stage != null) {
+                stage.repaintVirtual(x + offset.x, y + offset.y, w, h);
+                return;
+            }
+            super.addDirtyRegion(c, x, y, w, h);
+        }
+
+        @Override
+        public void addInvalidComponent(JComponent c) {
+            ScaledStage stage = findStage(c, offset);
+            if (stage != null) {
+                // O palco valida a tela antes de pintar
+                if (!stage.externallyRendered) {
+                    stage.repaint();
+                }
+                return;
+            }
+            super.addInvalidComponent(c);
+        }
+    }
+}
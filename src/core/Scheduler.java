@@ -0,0 +1,254 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Agenda tarefas temporizadas (atrasos, repetições, tweens e sequências)
+ *
+ * O tempo só avança quando update() é chamado, normalmente pelo GameLoop a
+ * cada passo fixo de lógica. Pausar um Scheduler é simplesmente deixar de
+ * chamar update(): todas as suas animações congelam juntas.
+ */
+public class Scheduler {
+
+    /**
+     * Recebe o progresso de um tween, de 0 a 1
+     */
+    public interface Tween {
+        void update(float progress);
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Task> pending = new ArrayList<>();
+    private double time = 0;
+    private boolean updating = false;
+
+    /**
+     * Tempo acumulado do scheduler em milissegundos
+     */
+    public long now() {
+        return (long) time;
+    }
+
+    /**
+     * Executa a ação uma vez após o atraso
+     */
+    public Task after(long delayMs, Runnable action) {
+        return schedule(new Repeat(delayMs, 1, action, null));
+    }
+
+    /**
+     * Executa onTick a cada intervalo, times vezes, e depois onComplete
+     */
+    public Task repeat(long intervalMs, int times, Runnable onTick, Runnable onComplete) {
+        return schedule(new Repeat(intervalMs, times, onTick, onComplete));
+    }
+
+    /**
+     * Interpola de 0 a 1 durante a duração e depois chama onComplete
+     */
+    public Task tween(long durationMs, Tween tween, Runnable onComplete) {
+        return schedule(new TweenTask(durationMs, tween, onComplete));
+    }
+
+    /**
+     * Cria uma sequência de passos executados um após o outro
+     */
+    public Sequence sequence() {
+        return new Sequence(this);
+    }
+
+    /**
+     * Avança o relógio e executa as tarefas vencidas
+     */
+    public void update(double deltaMs) {
+        time += deltaMs;
+        updating = true;
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = tasks.get(i);
+                if (!task.done) {
+                    task.advance(deltaMs);
+                }
+            }
+        } finally {
+            updating = false;
+        }
+        tasks.removeIf(t -> t.done);
+        if (!pending.isEmpty()) {
+            tasks.addAll(pending);
+            pending.clear();
+        }
+    }
+
+    /**
+     * Cancela todas as tarefas agendadas
+     */
+    public void cancelAll() {
+        for (Task task : tasks) task.done = true;
+        for (Task task : pending) task.done = true;
+        pending.clear();
+        if (!updating) {
+            tasks.clear();
+        }
+    }
+
+    /**
+     * Quantidade de tarefas ainda ativas
+     */
+    public int getActiveCount() {
+        int count = 0;
+        for (Task task : tasks) {
+            if (!task.done) count++;
+        }
+        return count + pending.size();
+    }
+
+    private Task schedule(Task task) {
+        if (updating) {
+            pending.add(task);
+        } else {
+            tasks.add(task);
+        }
+        return task;
+    }
+
+    /**
+     * Tarefa agendada; pode ser cancelada a qualquer momento
+     */
+    public abstract static class Task {
+        boolean done = false;
+
+        /**
+         * Avança a tarefa; retorna o tempo que sobrou após terminar
+         */
+        abstract double advance(double deltaMs);
+
+        public void cancel() {
+            done = true;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+    }
+
+    private static class Repeat extends Task {
+        private final double interval;
+        private final int times;
+        private final Runnable onTick;
+        private final Runnable onComplete;
+        private double elapsed = 0;
+        private int count = 0;
+
+        Repeat(long intervalMs, int times, Runnable onTick, Runnable onComplete) {
+            this.interval = Math.max(0, intervalMs);
+            this.times = times;
+            this.onTick = onTick;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        double advance(double deltaMs) {
+            elapsed += deltaMs;
+            while (!done && elapsed >= interval) {
+                elapsed -= interval;
+                count++;
+                if (onTick != null) onTick.run();
+                if (done) return 0; // cancelada durante o tick
+                if (times > 0 && count >= times) {
+                    done = true;
+                    if (onComplete != null) onComplete.run();
+                    return elapsed;
+                }
+                if (interval == 0) break;
+            }
+            return 0;
+        }
+    }
+
+    private static class TweenTask extends Task {
+        private final double duration;
+        private final Tween tween;
+        private final Runnable onComplete;
+        private double elapsed = 0;
+
+        TweenTask(long durationMs, Tween tween, Runnable onComplete) {
+            this.duration = Math.max(1, durationMs);
+            this.tween = tween;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        double advance(double deltaMs) {
+            elapsed += deltaMs;
+            float progress = (float) Math.min(1.0, elapsed / duration);
+            if (tween != null) tween.update(progress);
+            if (!done && progress >= 1.0f) {
+                done = true;
+                if (onComplete != null) onComplete.run();
+                return elapsed - duration;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Encadeia passos (espera, ação, repetição, tween) em uma única tarefa
+     */
+    public static class Sequence extends Task {
+        private final Scheduler scheduler;
+        private final List<Task> steps = new ArrayList<>();
+        private int current = 0;
+
+        Sequence(Scheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        public Sequence delay(long ms) {
+            steps.add(new Repeat(ms, 1, null, null));
+            return this;
+        }
+
+        public Sequence run(Runnable action) {
+            steps.add(new Repeat(0, 1, action, null));
+            return this;
+        }
+
+        public Sequence repeat(long intervalMs, int times, Runnable onTick) {
+            steps.add(new Repeat(intervalMs, times, onTick, null));
+            return this;
+        }
+
+        public Sequence tween(long durationMs, Tween tween) {
+            steps.add(new TweenTask(durationMs, tween, null));
+            return this;
+        }
+
+        /**
+         * Agenda a sequência no scheduler de origem
+         */
+        public Sequence start() {
+            scheduler.schedule(this);
+            return this;
+        }
+
+        @Override
+        double advance(double deltaMs) {
+            double remaining = deltaMs;
+            while (!done && current < steps.size()) {
+                Task step = steps.get(current);
+                double leftover = step.advance(remaining);
+                if (done) break; // cancelada por um passo
+                if (!step.done) return 0;
+                current++;
+                remaining = leftover;
+            }
+            if (current >= steps.size()) {
+                done = true;
+            }
+            return remaining;
+        }
+    }
+}
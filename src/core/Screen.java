@@ -32,8 +32,33 @@ public abstract class Screen extends JPanel {
      */
     @Override
     protected void paintComponent(Graphics g) {
+        if (!DiagnosticsOverlay.isActive()) {
+            super.paintComponent(g);
+            render((Graphics2D) g);
+            return;
+        }
+        long start = System.nanoTime();
         super.paintComponent(g);
         render((Graphics2D) g);
+        DiagnosticsOverlay.recordFrame(System.nanoTime() - start);
+    }
+    
+    /**
+     * Conta os pedidos de repaint para o painel de diagnóstico
+     */
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+        if (DiagnosticsOverlay.isActive()) {
+            DiagnosticsOverlay.recordRepaint();
+        }
+        super.repaint(tm, x, y, width, height);
+    }
+    
+    /**
+     * Quantidade de tarefas agendadas pela tela (animações, esperas)
+     */
+    public int getScheduledTaskCount() {
+        return 0;
     }
     
     /**
@@ -2,44 +2,100 @@ package core;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Gerencia a transição entre diferentes telas do jogo
+ *
+ * As telas são registradas por fábrica e só são construídas no primeiro
+ * changeScreen (ou no aquecimento, enquanto a tela atual está ociosa). Telas
+ * que ficam sem uso por mais de {@link #setUnloadAfter(long)} recebem
+ * dispose() e são descartadas; a fábrica as recria na próxima visita.
  */
 public class ScreenManager {
     private JFrame frame;
-    private Map<String, Screen> screens;
+    private ScaledStage stage; // Desenha a tela na resolução virtual, escalada para a janela
+    private Map<String, Entry> screens;
     private Screen currentScreen;
     
+    // Ciclo de vida das telas
+    private static final long DEFAULT_UNLOAD_AFTER_MS = 120_000;
+    private static final long HOUSEKEEPING_INTERVAL_MS = 5_000;
+    private static final long WARM_UP_DELAY_MS = 1_500; // Ociosidade antes de cada tela aquecida
+    private long unloadAfterMs = DEFAULT_UNLOAD_AFTER_MS;
+    private final Deque<String> warmUpQueue = new ArrayDeque<>();
+    private Scheduler.Task warmUpTask;
+    
+    /**
+     * Tela registrada: a fábrica e a instância atual, se construída
+     */
+    private static final class Entry {
+        final Supplier<Screen> factory;
+        Screen screen;
+        long lastUsed = -1; // Momento em que a tela foi deixada; -1 = nunca exibida ou em uso
+        
+        Entry(Supplier<Screen> factory) {
+            this.factory = factory;
+        }
+    }
+    
     // Variáveis de transição
-    private JPanel overlayPanel;
-    private Timer transitionTimer;
-    private float alpha = 0.0f;
-    private String pendingScreenName;
-    private boolean isFadingOut = false;
-    private final float FADE_SPEED = 0.05f;
+    private JPanel overlayPanel; // Bloqueia o mouse durante a transição
+    private Scheduler.Task transitionTask;
+    private BufferedImage fromSnapshot; // Imagens reaproveitadas entre transições
+    private BufferedImage toSnapshot;
+    private final long FADE_DURATION_MS = 320; // Cada metade da mistura (a música troca no meio)
+    
+    private DiagnosticsOverlay diagnostics;
     
     public ScreenManager(JFrame frame) {
         this.frame = frame;
         this.screens = new HashMap<>();
+        this.stage = new ScaledStage(Settings.GAME_WIDTH, Settings.GAME_HEIGHT);
+        frame.setContentPane(stage);
+        ActiveRenderer.getInstance().attach(frame, stage);
         setupOverlay();
+        setupDiagnostics();
+        GameLoop.getInstance().getScheduler().repeat(HOUSEKEEPING_INTERVAL_MS, 0, this::unloadIdleScreens, null);
     }
     
-    private void setupOverlay() {
-        overlayPanel = new JPanel() {
+    /**
+     * Painel de desempenho acima de todas as telas, alternado com F3
+     */
+    private void setupDiagnostics() {
+        diagnostics = new DiagnosticsOverlay(this);
+        JLayeredPane layers = frame.getLayeredPane();
+        layers.add(diagnostics, JLayeredPane.DRAG_LAYER);
+        layers.addComponentListener(new ComponentAdapter() {
             @Override
-            protected void paintComponent(Graphics g) {
-                if (alpha > 0) {
-                    Graphics2D g2 = (Graphics2D) g;
-                    g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                    g2.setColor(Color.BLACK);
-                    g2.fillRect(0, 0, getWidth(), getHeight());
-                }
+            public void componentResized(ComponentEvent e) {
+                diagnostics.layoutIn(layers.getWidth(), layers.getHeight());
+            }
+        });
+        diagnostics.layoutIn(layers.getWidth(), layers.getHeight());
+        
+        JRootPane root = frame.getRootPane();
+        root.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "toggleDiagnostics");
+        root.getActionMap().put("toggleDiagnostics", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                diagnostics.toggle();
             }
-        };
+        });
+    }
+    
+    private void setupOverlay() {
+        overlayPanel = new JPanel();
         overlayPanel.setOpaque(false);
         overlayPanel.setVisible(false);
         
@@ -49,40 +105,87 @@ public class ScreenManager {
         overlayPanel.addMouseMotionListener(blocker);
         
         frame.setGlassPane(overlayPanel);
-        
-        transitionTimer = new Timer(16, e -> updateTransition());
     }
     
-    private void updateTransition() {
-        if (isFadingOut) {
-            alpha += FADE_SPEED;
-            SoundManager.getInstance().setFadeFactor(Math.max(0.0f, 1.0f - alpha));
-            
-            if (alpha >= 1.0f) {
-                alpha = 1.0f;
-                SoundManager.getInstance().setFadeFactor(0.0f);
-                isFadingOut = false;
-                performScreenChange(pendingScreenName);
-            }
-        } else {
-            alpha -= FADE_SPEED;
-            SoundManager.getInstance().setFadeFactor(Math.max(0.0f, 1.0f - alpha));
-            
-            if (alpha <= 0.0f) {
-                alpha = 0.0f;
-                SoundManager.getInstance().setFadeFactor(1.0f);
-                transitionTimer.stop();
-                overlayPanel.setVisible(false);
+    /**
+     * Avança a mistura das imagens; a música abaixa até o meio e volta depois
+     */
+    private void setTransitionProgress(float progress) {
+        stage.setTransitionProgress(progress);
+        SoundManager.getInstance().setFadeFactor(Math.abs(1.0f - 2.0f * progress));
+    }
+    
+    /**
+     * Registra uma tela pela fábrica; ela só é construída quando for usada
+     */
+    public void registerScreen(String name, Supplier<Screen> factory) {
+        screens.put(name, new Entry(factory));
+    }
+    
+    /**
+     * Tempo sem uso após o qual uma tela é descartada (0 desativa)
+     */
+    public void setUnloadAfter(long idleMs) {
+        this.unloadAfterMs = Math.max(0, idleMs);
+    }
+    
+    /**
+     * Constrói as telas informadas, uma por vez, enquanto a tela atual está ociosa
+     */
+    public void warmUp(String... names) {
+        for (String name : names) {
+            if (screens.containsKey(name) && !warmUpQueue.contains(name)) {
+                warmUpQueue.add(name);
             }
         }
-        overlayPanel.repaint();
+        scheduleWarmUp();
+    }
+    
+    private void scheduleWarmUp() {
+        if (warmUpTask != null || warmUpQueue.isEmpty()) return;
+        warmUpTask = GameLoop.getInstance().getScheduler().after(WARM_UP_DELAY_MS, () -> {
+            warmUpTask = null;
+            if (transitionTask == null) {
+                // Uma tela por vez, para não travar a tela atual
+                String name = warmUpQueue.poll();
+                Entry entry = name != null ? screens.get(name) : null;
+                // A fila pode ter esvaziado se a tela foi aberta antes do aquecimento
+                if (entry != null && entry.screen == null) {
+                    long start = System.nanoTime();
+                    entry.screen = create(name, entry);
+                    System.out.printf("Tela %s aquecida em %d ms%n", name, (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+            scheduleWarmUp();
+        });
     }
     
     /**
-     * Registra uma nova tela
+     * Descarta as telas deixadas há mais tempo que o limite
      */
-    public void registerScreen(String name, Screen screen) {
-        screens.put(name, screen);
+    private void unloadIdleScreens() {
+        if (unloadAfterMs == 0 || transitionTask != null) return;
+        long now = GameLoop.getInstance().getScheduler().now();
+        for (Map.Entry<String, Entry> e : screens.entrySet()) {
+            Entry entry = e.getValue();
+            if (entry.screen != null && entry.screen != currentScreen
+                    && entry.lastUsed >= 0 && now - entry.lastUsed >= unloadAfterMs) {
+                entry.screen.dispose();
+                entry.screen = null;
+                entry.lastUsed = -1;
+                System.out.println("Tela descartada por inatividade: " + e.getKey());
+            }
+        }
+    }
+    
+    private Screen obtain(String name) {
+        Entry entry = screens.get(name);
+        if (entry.screen == null) {
+            warmUpQueue.remove(name);
+            entry.screen = create(name, entry);
+        }
+        entry.lastUsed = -1;
+        return entry.screen;
     }
     
     /**
@@ -96,34 +199,70 @@ public class ScreenManager {
         
         if (currentScreen == null) {
             performScreenChange(name);
+            startMusic(name);
         } else {
-            pendingScreenName = name;
-            isFadingOut = true;
-            alpha = 0.0f;
+            if (transitionTask != null) {
+                transitionTask.cancel();
+            }
             overlayPanel.setVisible(true);
-            transitionTimer.start();
+            
+            // Congela a tela de saída, inicializa a de entrada fora da tela e
+            // mistura as duas imagens; o peso do paint das telas fica fora do fade
+            fromSnapshot = stage.captureView(fromSnapshot);
+            performScreenChange(name);
+            toSnapshot = stage.captureView(toSnapshot);
+            stage.startTransition(fromSnapshot, toSnapshot);
+            
+            transitionTask = GameLoop.getInstance().getScheduler().sequence()
+                .tween(FADE_DURATION_MS, p -> setTransitionProgress(p * 0.5f))
+                .run(() -> startMusic(name))
+                .tween(FADE_DURATION_MS, p -> setTransitionProgress(0.5f + p * 0.5f))
+                .run(this::finishTransition)
+                .start();
         }
     }
     
-    private void performScreenChange(String name) {
-        Screen newScreen = screens.get(name);
-        
-        // Lógica de Música
+    private void finishTransition() {
+        stage.endTransition();
+        SoundManager.getInstance().setFadeFactor(1.0f);
+        overlayPanel.setVisible(false);
+        transitionTask = null;
+    }
+    
+    private void startMusic(String name) {
         if (name.equals("game")) {
             SoundManager.getInstance().startRadio();
         } else {
             SoundManager.getInstance().playMenuMusic();
         }
-        
-        if (currentScreen != null) {
-            frame.remove(currentScreen);
+    }
+    
+    private void performScreenChange(String name) {
+        Screen newScreen = obtain(name);
+        if (currentScreen != null && currentScreen != newScreen) {
+            markLeft(currentScreen);
         }
-        
         currentScreen = newScreen;
         currentScreen.initialize();
-        frame.add(currentScreen);
-        frame.revalidate();
-        frame.repaint();
+        stage.setView(currentScreen);
+    }
+    
+    private Screen create(String name, Entry entry) {
+        StartupTimeline.Phase phase = StartupTimeline.begin("tela " + name);
+        try {
+            return entry.factory.get();
+        } finally {
+            phase.end();
+        }
+    }
+    
+    private void markLeft(Screen screen) {
+        long now = GameLoop.getInstance().getScheduler().now();
+        for (Entry entry : screens.values()) {
+            if (entry.screen == screen) {
+                entry.lastUsed = now;
+            }
+        }
     }
     
     /**
@@ -6,6 +6,8 @@ package core;
 public class Settings {
     private static Settings instance;
     private int volume;
+    private boolean activeRendering; // Canvas + BufferStrategy em vez do repaint do Swing
+    private int fpsCap; // 0 = taxa de atualização do monitor
     
     // Resolução base do jogo
     public static final int GAME_WIDTH = 1000;
@@ -13,6 +15,8 @@ public class Settings {
     
     private Settings() {
         this.volume = 50; // Volume padrão 50%
+        this.activeRendering = false;
+        this.fpsCap = 60;
     }
     
     public static Settings getInstance() {
@@ -31,4 +35,25 @@ public class Settings {
         System.out.println("Volume ajustado para: " + this.volume + "%");
         SoundManager.getInstance().updateVolume();
     }
+    
+    public boolean isActiveRendering() {
+        return activeRendering;
+    }
+    
+    public void setActiveRendering(boolean activeRendering) {
+        this.activeRendering = activeRendering;
+        System.out.println("Renderização " + (activeRendering ? "ativa" : "Swing"));
+        ActiveRenderer.getInstance().updateMode();
+    }
+    
+    public int getFpsCap() {
+        return fpsCap;
+    }
+    
+    /**
+     * Limite de FPS da renderização ativa; 0 segue a taxa do monitor
+     */
+    public void setFpsCap(int fpsCap) {
+        this.fpsCap = Math.max(0, fpsCap);
+    }
 }
@@ -0,0 +1,108 @@
+package core;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Botão desenhado por um {@link ButtonSkin}, com transição de hover animada
+ *
+ * O fundo vem das imagens em cache da aparência; a cada passo da transição só
+ * muda o quadro usado. A transição avança pelo scheduler do GameLoop e, sem
+ * loop rodando (benchmark, testes), o hover troca direto para o estado final.
+ */
+public class SkinnedButton extends JButton {
+    private static final long HOVER_MS = 120;
+
+    private final ButtonSkin skin;
+    private Color normalForeground;
+    private Color rolloverForeground;
+    private int hoverFrame = 0;
+    private boolean rollover = false;
+    private Scheduler.Task hoverTask;
+    private CachedPanel cache;
+
+    public SkinnedButton(String text, ButtonSkin skin) {
+        super(text);
+        this.skin = skin;
+        setFocusPainted(false);
+        setBorderPainted(false);
+        setContentAreaFilled(false);
+        setOpaque(false);
+        setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        getModel().addChangeListener(e -> updateRollover());
+    }
+
+    /**
+     * Cor do texto com o mouse em cima (null mantém a cor normal)
+     */
+    public void setRolloverForeground(Color color) {
+        this.normalForeground = getForeground();
+        this.rolloverForeground = color;
+    }
+
+    private void updateRollover() {
+        boolean now = getModel().isRollover();
+        if (now == rollover) return;
+        rollover = now;
+        if (rolloverForeground != null) {
+            setForeground(now ? rolloverForeground : normalForeground);
+        }
+
+        if (hoverTask != null) {
+            hoverTask.cancel();
+            hoverTask = null;
+        }
+        int target = now ? ButtonSkin.HOVER_FRAMES - 1 : 0;
+        int start = hoverFrame;
+        if (!GameLoop.getInstance().isRunning() || start == target) {
+            setHoverFrame(target);
+            return;
+        }
+        long duration = HOVER_MS * Math.abs(target - start) / (ButtonSkin.HOVER_FRAMES - 1);
+        hoverTask = GameLoop.getInstance().getScheduler().tween(duration,
+            p -> setHoverFrame(Math.round(start + (target - start) * p)), null);
+    }
+
+    private void setHoverFrame(int frame) {
+        if (frame != hoverFrame) {
+            hoverFrame = frame;
+            repaint();
+        }
+    }
+
+    /**
+     * Desenha o botão na sua posição a partir de uma imagem em cache
+     *
+     * Para telas que pintam o botão por conta própria (overlays): a imagem só
+     * é refeita quando o texto, a cor, o quadro de hover ou o estado mudam.
+     */
+    public void paintCached(Graphics2D g) {
+        if (cache == null) {
+            cache = new CachedPanel(g2 -> {
+                g2.translate(getX(), getY());
+                paint(g2);
+                g2.translate(-getX(), -getY());
+            });
+        }
+        boolean pressed = getModel().isPressed() && getModel().isArmed();
+        long key = (long) getText().hashCode() << 32
+            | (getForeground().getRGB() & 0xFFFFFFL) << 8
+            | hoverFrame << 2 | (pressed ? 2 : 0) | (isEnabled() ? 1 : 0);
+        cache.draw(g, getX(), getY(), getWidth(), getHeight(), key);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        boolean pressed = getModel().isPressed() && getModel().isArmed();
+        skin.draw(g2, getWidth(), getHeight(), hoverFrame, pressed);
+        if (skin.paintsText()) {
+            Object aa = g2.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            skin.paintText(g2, getText(), getFont(), getWidth(), getHeight(), ButtonSkin.hoverOf(hoverFrame), pressed);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, aa);
+        } else {
+            super.paintComponent(g);
+        }
+    }
+}
@@ -5,29 +5,32 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import javax.swing.Timer;
 
 public class SoundManager {
     private static SoundManager instance;
     private Clip menuMusic;
-    private Clip radioClip;
+    private final StreamingPlayer radioPlayer = new StreamingPlayer(); // Faixas longas: sem Clip
     
     private float globalFadeFactor = 1.0f; // Managed by ScreenManager for transitions
     private boolean isMenuMusicPlaying = false;
     private boolean isRadioPlaying = false;
     private boolean muted = false;
-    private Timer menuFadeTimer;
+    private Scheduler.Task menuFadeTask;
     private float menuLocalVolume = 1.0f; // Fade-in do menu
     
     // Radio variables
     private List<File> radioPlaylist;
     private int currentRadioIndex = 0;
-    private Timer radioCrossfadeTimer;
+    private int trackNameIndex = -1; // Faixa cujo nome está em trackName
+    private String trackName;
+    private Scheduler.Task radioFadeTask;
     private float radioLocalVolume = 1.0f; // For per-track fading
     private boolean isFadingOutForNext = false;
 
     private SoundManager() {
+        StartupTimeline.Phase phase = StartupTimeline.begin("SoundManager");
         // Load menu music
+        StartupTimeline.Phase musicPhase = StartupTimeline.begin("música do menu (Clip)");
         try {
             AudioInputStream audioInput = null;
             InputStream is = getClass().getResourceAsStream("/musics/menu_os.wav");
@@ -48,8 +51,10 @@ public class SoundManager {
         } catch (Exception e) {
             e.printStackTrace();
         }
+        musicPhase.end();
         
         setupRadioPlaylist();
+        phase.end();
     }
     
     private void setupRadioPlaylist() {
@@ -76,7 +81,7 @@ public class SoundManager {
         }
     }
 
-    public static SoundManager getInstance() {
+    public static synchronized SoundManager getInstance() {
         if (instance == null) {
             instance = new SoundManager();
         }
@@ -109,18 +114,13 @@ public class SoundManager {
     }
 
     private void startMenuFadeIn() {
-        if (menuFadeTimer != null && menuFadeTimer.isRunning()) {
-            menuFadeTimer.stop();
+        if (menuFadeTask != null) {
+            menuFadeTask.cancel();
         }
-        menuFadeTimer = new Timer(50, e -> {
-            menuLocalVolume += 0.05f;
-            if (menuLocalVolume >= 1.0f) {
-                menuLocalVolume = 1.0f;
-                ((Timer) e.getSource()).stop();
-            }
+        menuFadeTask = GameLoop.getInstance().getScheduler().tween(1000, p -> {
+            menuLocalVolume = p;
             updateVolume();
-        });
-        menuFadeTimer.start();
+        }, null);
     }
 
     // --- RADIO CONTROL ---
@@ -134,10 +134,7 @@ public class SoundManager {
     }
     
     public void stopRadio() {
-        if (radioClip != null && radioClip.isRunning()) {
-            radioClip.stop();
-            radioClip.close();
-        }
+        radioPlayer.stop();
         isRadioPlaying = false;
     }
     
@@ -155,7 +152,12 @@ public class SoundManager {
         if (radioPlaylist.isEmpty() || currentRadioIndex < 0 || currentRadioIndex >= radioPlaylist.size()) {
             return "No Signal";
         }
-        return radioPlaylist.get(currentRadioIndex).getName().replace(".wav", "");
+        // Nome calculado só quando a faixa muda (chamado a cada frame)
+        if (currentRadioIndex != trackNameIndex) {
+            trackNameIndex = currentRadioIndex;
+            trackName = radioPlaylist.get(currentRadioIndex).getName().replace(".wav", "");
+        }
+        return trackName;
     }
 
     private void fadeOutAndChangeTrack(int direction) {
@@ -163,68 +165,46 @@ public class SoundManager {
         
         isFadingOutForNext = true;
         
-        if (radioCrossfadeTimer != null && radioCrossfadeTimer.isRunning()) {
-            radioCrossfadeTimer.stop();
+        if (radioFadeTask != null) {
+            radioFadeTask.cancel();
         }
         
-        radioCrossfadeTimer = new Timer(50, e -> {
-            radioLocalVolume -= 0.1f;
-            if (radioLocalVolume <= 0.0f) {
-                radioLocalVolume = 0.0f;
-                ((Timer)e.getSource()).stop();
-                isFadingOutForNext = false;
-                
-                // Change track
-                currentRadioIndex = (currentRadioIndex + direction);
-                // Handle wrap around
-                if (currentRadioIndex >= radioPlaylist.size()) currentRadioIndex = 0;
-                if (currentRadioIndex < 0) currentRadioIndex = radioPlaylist.size() - 1;
-                
-                playRadioTrack(currentRadioIndex);
-            }
+        // Fade out proporcional ao volume atual (0.5s partindo do volume cheio)
+        float startVolume = radioLocalVolume;
+        radioFadeTask = GameLoop.getInstance().getScheduler().tween((long) (startVolume * 500), p -> {
+            radioLocalVolume = startVolume * (1.0f - p);
             updateVolume();
+        }, () -> {
+            radioLocalVolume = 0.0f;
+            isFadingOutForNext = false;
+            
+            // Change track
+            currentRadioIndex = (currentRadioIndex + direction);
+            // Handle wrap around
+            if (currentRadioIndex >= radioPlaylist.size()) currentRadioIndex = 0;
+            if (currentRadioIndex < 0) currentRadioIndex = radioPlaylist.size() - 1;
             
+            playRadioTrack(currentRadioIndex);
         });
-        radioCrossfadeTimer.start();
     }
 
     private void playRadioTrack(int index) {
-        stopRadio(); // Stop current
-        
-        try {
-            File track = radioPlaylist.get(index);
-            String resourcePath = track.getPath().replace("\\", "/");
-            InputStream is = getClass().getResourceAsStream(resourcePath);
-            if (is == null) {
-                System.err.println("Resource not found: " + resourcePath);
-                return;
-            }
-            AudioInputStream audioInput = AudioSystem.getAudioInputStream(new BufferedInputStream(is));
-            radioClip = AudioSystem.getClip();
-            radioClip.open(audioInput);
-            
-            // Loop the selected track continuously
-            radioClip.loop(Clip.LOOP_CONTINUOUSLY);
-            radioClip.start();
-            isRadioPlaying = true;
-            
-            // Fade In
-            radioLocalVolume = 0.0f;
-            if (radioCrossfadeTimer != null) radioCrossfadeTimer.stop();
-            
-            radioCrossfadeTimer = new Timer(50, e -> {
-                radioLocalVolume += 0.05f;
-                if (radioLocalVolume >= 1.0f) {
-                    radioLocalVolume = 1.0f;
-                    ((Timer)e.getSource()).stop();
-                }
-                updateVolume();
-            });
-            radioCrossfadeTimer.start();
-            
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        File track = radioPlaylist.get(index);
+        String resourcePath = track.getPath().replace("\\", "/");
+
+        // Fade In (o volume vale também para a linha que a thread do rádio ainda vai abrir)
+        radioLocalVolume = 0.0f;
+        updateVolume();
+
+        // Loop the selected track continuously; abre e troca na thread do rádio, sem travar a EDT
+        radioPlayer.play(resourcePath);
+        isRadioPlaying = true;
+
+        if (radioFadeTask != null) radioFadeTask.cancel();
+        radioFadeTask = GameLoop.getInstance().getScheduler().tween(1000, p -> {
+            radioLocalVolume = p;
+            updateVolume();
+        }, null);
     }
 
     // --- SHARED VOLUME ---
@@ -243,8 +223,8 @@ public class SoundManager {
         // Radio is affected by global fade AND local fade (crossfade)
         float radioFinal = baseVolume * globalFadeFactor * radioLocalVolume;
         
-        if (menuMusic != null) setClipVolume(menuMusic, menuFinal);
-        if (radioClip != null) setClipVolume(radioClip, radioFinal);
+        if (menuMusic != null) applyVolume(menuMusic, menuFinal);
+        radioPlayer.setVolume(radioFinal);
     }
 
     public void toggleMute() {
@@ -256,10 +236,13 @@ public class SoundManager {
         return muted;
     }
 
-    private void setClipVolume(Clip clip, float volume) {
+    /**
+     * Aplica o volume (0 a 1) no ganho da linha (Clip ou SourceDataLine)
+     */
+    static void applyVolume(Line line, float volume) {
         try {
-            if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
+            if (line.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+                FloatControl gainControl = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
                 
                 float dB;
                 if (volume <= 0.0001f) {
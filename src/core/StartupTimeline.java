@@ -0,0 +1,153 @@
+package core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import javax.swing.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Linha do tempo da inicialização, do início da JVM ao primeiro frame do menu
+ *
+ * Com o JFR gravando desde o início (-XX:StartFlightRecording), cada fase vira
+ * um evento "luck.StartupPhase", visível com "jfr print" ou no JDK Mission
+ * Control. Com -Dluck.startup=true o
+ * resumo é impresso ao pintar o primeiro frame do menu. Com
+ * -Dluck.startup=tsv ele sai em linhas "STARTUP\tfase\tinício\tduração",
+ * lidas pelo StartupBenchmark. Com -Dluck.startup.exit=true o jogo fecha
+ * logo depois do resumo. Depois do primeiro frame, novas fases são ignoradas.
+ */
+public final class StartupTimeline {
+    private static final String MODE = System.getProperty("luck.startup", "");
+    private static final boolean EXIT = Boolean.getBoolean("luck.startup.exit");
+    // Só cria eventos com o JFR já gravando (-XX:StartFlightRecording): carregar
+    // as classes de evento sem gravação custaria centenas de ms na inicialização
+    private static final boolean JFR = FlightRecorder.isInitialized();
+
+    // nanoTime correspondente ao início do processo
+    private static final long ORIGIN_NANOS = System.nanoTime() - ProcessHandle.current().info().startInstant()
+        .map(start -> Duration.between(start, Instant.now()).toNanos())
+        .orElse(0L);
+
+    private static final List<Phase> phases = new ArrayList<>();
+    private static volatile boolean finished = false;
+
+    private static final Phase NONE = new Phase(null);
+
+    /**
+     * Evento JFR de uma fase da inicialização
+     */
+    @Name("luck.StartupPhase")
+    @Label("Fase da inicialização")
+    @Category("LUCK")
+    @Description("Fase da inicialização do jogo, até o primeiro frame do menu")
+    static final class PhaseEvent extends Event {
+        @Label("Fase")
+        String phase;
+
+        @Label("Início desde a JVM (ms)")
+        double sinceStartMs;
+    }
+
+    /**
+     * Fase em andamento; termina com {@link #end()}
+     */
+    public static final class Phase {
+        private final String name;
+        private final PhaseEvent event;
+        private final long startNanos;
+        private long endNanos = -1;
+        private final String thread;
+
+        private Phase(String name) {
+            this.name = name;
+            this.thread = Thread.currentThread().getName();
+            if (name != null && JFR) {
+                event = new PhaseEvent();
+                event.begin();
+            } else {
+                event = null;
+            }
+            this.startNanos = System.nanoTime();
+        }
+
+        public void end() {
+            if (name == null || endNanos >= 0) return;
+            endNanos = System.nanoTime();
+            if (event == null) return;
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = name;
+                event.sinceStartMs = toMs(startNanos - ORIGIN_NANOS);
+                event.commit();
+            }
+        }
+    }
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Inicia uma fase (de qualquer thread)
+     */
+    public static Phase begin(String name) {
+        synchronized (phases) {
+            if (finished) return NONE;
+            Phase phase = new Phase(name);
+            phases.add(phase);
+            return phase;
+        }
+    }
+
+    /**
+     * Marca um instante (fase de duração zero)
+     */
+    public static void mark(String name) {
+        begin(name).end();
+    }
+
+    /**
+     * Registra o primeiro frame do menu e encerra a linha do tempo
+     */
+    public static void firstFrame() {
+        if (finished) return;
+        List<Phase> snapshot;
+        synchronized (phases) {
+            if (finished) return;
+            mark("primeiro frame do menu");
+            finished = true;
+            snapshot = new ArrayList<>(phases);
+        }
+        if (MODE.equals("tsv")) {
+            for (Phase p : snapshot) {
+                System.out.printf(Locale.ROOT, "STARTUP\t%s\t%.1f\t%.1f%n", p.name, toMs(p.startNanos - ORIGIN_NANOS), duration(p));
+            }
+        } else if (MODE.equals("true")) {
+            System.out.println("Inicialização (ms desde o início da JVM):");
+            System.out.printf("  %-34s %9s %9s  %s%n", "fase", "início", "duração", "thread");
+            for (Phase p : snapshot) {
+                System.out.printf("  %-34s %9.1f %9.1f  %s%n", p.name, toMs(p.startNanos - ORIGIN_NANOS), duration(p), p.thread);
+            }
+        }
+        if (EXIT) {
+            // Deixa o frame atual terminar antes de sair
+            SwingUtilities.invokeLater(() -> System.exit(0));
+        }
+    }
+
+    private static double duration(Phase p) {
+        return p.endNanos < 0 ? 0 : toMs(p.endNanos - p.startNanos);
+    }
+
+    private static double toMs(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
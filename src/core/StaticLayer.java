@@ -0,0 +1,95 @@
+package core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Camada estática pré-composta (fundo e molduras de painéis)
+ *
+ * O conteúdo é desenhado uma única vez em uma imagem compatível com o
+ * dispositivo e reaproveitado em todos os frames. A imagem é gerada na
+ * resolução do dispositivo (escala da janela e HiDPI) e só é refeita quando
+ * o tamanho, a escala ou a configuração gráfica mudam, ou após invalidate().
+ */
+public class StaticLayer {
+
+    /**
+     * Desenha o conteúdo estático da camada
+     */
+    public interface Painter {
+        void paint(Graphics2D g, int width, int height);
+    }
+
+    private final Painter painter;
+    private BufferedImage image;
+    private GraphicsConfiguration imageConfig;
+    private double imageScale = 1.0;
+    private boolean valid;
+
+    public StaticLayer(Painter painter) {
+        this.painter = painter;
+    }
+
+    /**
+     * Marca a camada para ser refeita no próximo desenho
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Desenha a camada no tamanho do componente, refazendo-a se necessário
+     */
+    public void draw(Graphics2D g, Component target) {
+        int width = target.getWidth();
+        int height = target.getHeight();
+        if (width <= 0 || height <= 0) return;
+
+        double scale = ImageUtils.getDeviceScale();
+        int imageWidth = (int) Math.ceil(width * scale);
+        int imageHeight = (int) Math.ceil(height * scale);
+
+        GraphicsConfiguration gc = target.getGraphicsConfiguration();
+        if (!valid || image == null || image.getWidth() != imageWidth || image.getHeight() != imageHeight
+                || gc != imageConfig || scale != imageScale) {
+            rebuild(gc, width, height, scale);
+        }
+        ImageUtils.drawAtDeviceScale(g, image, 0, 0);
+    }
+
+    private void rebuild(GraphicsConfiguration gc, int width, int height, double scale) {
+        int imageWidth = (int) Math.ceil(width * scale);
+        int imageHeight = (int) Math.ceil(height * scale);
+        if (image == null || image.getWidth() != imageWidth || image.getHeight() != imageHeight || gc != imageConfig) {
+            if (image != null) {
+                image.flush();
+            }
+            image = ImageUtils.createCompatibleImage(gc, imageWidth, imageHeight, Transparency.OPAQUE);
+            imageConfig = gc;
+        }
+        imageScale = scale;
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.scale(scale, scale);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            painter.paint(g, width, height);
+        } finally {
+            g.dispose();
+        }
+        valid = true;
+    }
+
+    /**
+     * Libera a imagem em cache
+     */
+    public void flush() {
+        if (image != null) {
+            image.flush();
+            image = null;
+        }
+        valid = false;
+    }
+}
@@ -0,0 +1,221 @@
+package core;
+
+import javax.sound.sampled.*;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Toca uma faixa em loop direto do recurso, em pedaços, por uma SourceDataLine
+ *
+ * Ao contrário de um Clip, a faixa nunca é decodificada inteira: uma thread
+ * própria lê blocos de tamanho fixo do recurso e escreve na linha, cujo
+ * buffer é pequeno (BUFFER_MS). A memória usada não depende da duração da
+ * faixa. {@link #play} e {@link #stop} só registram o pedido e voltam na
+ * hora; a thread de áudio abre o recurso, descarta o que estava no buffer e
+ * troca de faixa. No fim do recurso ele é reaberto (loop).
+ */
+class StreamingPlayer {
+    private static final int BUFFER_MS = 250;
+    private static final int CHUNK_MS = 50;
+
+    private final Object lock = new Object();
+    private String requested; // Faixa pedida (null = parado)
+    private int generation = 0; // Muda a cada pedido; a thread de áudio confere entre os blocos
+    private volatile float volume = 1.0f;
+    private volatile SourceDataLine line; // Só aberta e fechada pela thread de áudio
+    private Thread thread;
+
+    /**
+     * Troca para a faixa informada (caminho do recurso) sem bloquear
+     */
+    void play(String resourcePath) {
+        synchronized (lock) {
+            requested = resourcePath;
+            generation++;
+            if (thread == null) {
+                thread = new Thread(this::run, "radio");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Para a faixa atual sem bloquear
+     */
+    void stop() {
+        synchronized (lock) {
+            if (requested == null) return;
+            requested = null;
+            generation++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Volume de 0 a 1, aplicado na linha atual e nas próximas
+     */
+    void setVolume(float volume) {
+        this.volume = volume;
+        SourceDataLine current = line;
+        if (current != null) {
+            SoundManager.applyVolume(current, volume);
+        }
+    }
+
+    private void run() {
+        byte[] chunk = null;
+        while (true) {
+            String path;
+            int playing;
+            synchronized (lock) {
+                while (requested == null) {
+                    closeLine();
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                path = requested;
+                playing = generation;
+            }
+
+            AudioInputStream stream = null;
+            try {
+                stream = open(path);
+                if (stream != null) {
+                    SourceDataLine out = lineFor(stream.getFormat());
+                    int frameSize = out.getFormat().getFrameSize();
+                    int chunkBytes = Math.max(1, (int) (out.getFormat().getFrameRate() * CHUNK_MS / 1000)) * frameSize;
+                    if (chunk == null || chunk.length != chunkBytes) {
+                        chunk = new byte[chunkBytes];
+                    }
+                    out.start();
+                    boolean rewound = false;
+                    while (isCurrent(playing)) {
+                        int read = readFully(stream, chunk);
+                        if (read < frameSize) {
+                            // Fim da faixa: volta ao início (uma faixa vazia para aqui)
+                            stream.close();
+                            stream = rewound ? null : open(path);
+                            if (stream == null) break;
+                            rewound = true;
+                            continue;
+                        }
+                        rewound = false;
+                        out.write(chunk, 0, read - read % frameSize);
+                    }
+                    // Troca de faixa ou parada: descarta o que ainda está no buffer
+                    out.stop();
+                    out.flush();
+                }
+            } catch (IOException | LineUnavailableException | IllegalArgumentException e) {
+                System.err.println("Erro ao tocar " + path + ": " + e.getMessage());
+                closeLine();
+            } finally {
+                closeQuietly(stream);
+            }
+            // Sem faixa para tocar: espera o próximo pedido em vez de tentar de novo
+            waitForChange(playing);
+        }
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        if (stream == null) return;
+        try {
+            stream.close();
+        } catch (IOException e) {
+            // Nada a fazer: o recurso já foi lido
+        }
+    }
+
+    /**
+     * Abre o recurso já como PCM, ou null se não existir
+     */
+    private AudioInputStream open(String path) throws IOException {
+        InputStream is = StreamingPlayer.class.getResourceAsStream(path);
+        if (is == null) {
+            System.err.println("Resource not found: " + path);
+            return null;
+        }
+        try {
+            AudioInputStream audio = AudioSystem.getAudioInputStream(new BufferedInputStream(is));
+            AudioFormat format = audio.getFormat();
+            if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED
+                || format.getEncoding() == AudioFormat.Encoding.PCM_UNSIGNED) {
+                return audio;
+            }
+            AudioFormat pcm = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+            return AudioSystem.getAudioInputStream(pcm, audio);
+        } catch (UnsupportedAudioFileException e) {
+            is.close();
+            throw new IOException("formato não suportado", e);
+        }
+    }
+
+    /**
+     * Linha aberta para o formato; reaproveita a atual se o formato for o mesmo
+     */
+    private SourceDataLine lineFor(AudioFormat format) throws LineUnavailableException {
+        SourceDataLine current = line;
+        if (current != null && current.getFormat().matches(format)) {
+            return current;
+        }
+        closeLine();
+        int frameSize = format.getFrameSize();
+        int bufferBytes = (int) (format.getFrameRate() * BUFFER_MS / 1000) * frameSize;
+        SourceDataLine opened = AudioSystem.getSourceDataLine(format);
+        opened.open(format, bufferBytes);
+        SoundManager.applyVolume(opened, volume);
+        line = opened;
+        return opened;
+    }
+
+    private void closeLine() {
+        SourceDataLine current = line;
+        if (current != null) {
+            line = null;
+            current.stop();
+            current.flush();
+            current.close();
+        }
+    }
+
+    private boolean isCurrent(int playing) {
+        synchronized (lock) {
+            return generation == playing;
+        }
+    }
+
+    /**
+     * Espera um pedido diferente do que estava tocando
+     */
+    private void waitForChange(int playing) {
+        synchronized (lock) {
+            while (generation == playing) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Lê até encher o bloco ou acabar o recurso; retorna os bytes lidos
+     */
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int n = in.read(buffer, total, buffer.length - total);
+            if (n < 0) break;
+            total += n;
+        }
+        return total;
+    }
+}
@@ -4,10 +4,7 @@ import core.*;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.BufferedInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -17,21 +14,160 @@ import java.util.List;
  */
 public class GameScreen extends Screen {
     private Image backgroundImage;
-    private Image deckImage;
-    private Image pauseImage;
-    private Image revolverImage;
-    private Image sortImage;
-    private Image restoreImage;
+    private Atlas.Sprite deckImage;
+    private BufferedImage deckStackImage; // Deck + contador pré-renderizados, no tamanho do dispositivo
+    private int deckStackCount = -1;
+    private double deckStackScale = 1.0;
+    private Atlas.Sprite pauseImage;
+    private Atlas.Sprite revolverImage;
+    private Atlas.Sprite sortImage;
+    private Atlas.Sprite restoreImage;
+    private final List<String> acquiredImages = new ArrayList<>(); // Devolvidas ao ImageCache no dispose
     private GameState gameState;
     private CardRenderer cardRenderer;
     private DiceRenderer diceRenderer; // New renderer
+    private CylinderRenderer cylinderRenderer;
     private List<Rectangle> cardAreas;
+    private int cardAreasWidth = -1;
     private JButton playButton;
     private JButton discardButton;
-    private Point mousePos;
+    private HoverTracker hoverTracker; // Elemento sob o mouse (repinta só nas transições)
+    private StaticLayer staticLayer; // Fundo + molduras pré-compostos
+    private DirtyRegions dirty; // Regiões a repintar (evita repaint do painel inteiro)
+    
+    // Posição e tamanho da pilha do deck
+    private static final int DECK_X = 840;
+    private static final int DECK_Y = 350;
+    private static final int DECK_WIDTH = 110;
+    private static final int DECK_HEIGHT = 150;
+
+    // Cores, fontes e traços do render por frame (evitam alocação a cada repaint)
+    private static final Font STAT_FONT = new Font("Arial", Font.BOLD, 15);
+    private static final Font MULTIPLIER_FONT = new Font("Arial", Font.BOLD, 18);
+    private static final Font TARGET_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font TARGET_SMALL_FONT = new Font("Arial", Font.BOLD, 28);
+    private static final Font HAND_NAME_FONT = new Font("Arial", Font.BOLD, 16);
+    private static final Font PROJECTED_FONT = new Font("Arial", Font.BOLD, 14);
+    private static final Font MONEY_FONT = new Font("Arial", Font.BOLD, 28);
+    private static final Font RADIO_FONT = new Font("Consolas", Font.BOLD, 12);
+    private static final Font RADIO_BUTTON_FONT = new Font("Arial", Font.BOLD, 12);
+    private static final Font CONTROL_LABEL_FONT = new Font("Arial", Font.PLAIN, 12);
+    private static final Font PAUSE_TITLE_FONT = new Font("Arial", Font.BOLD, 42);
+    private static final Color MULTIPLIER_COLOR = new Color(255, 223, 0);
+    private static final Color REACHED_COLOR = new Color(100, 255, 100);
+    private static final Color MISSED_COLOR = new Color(255, 100, 100);
+    private static final Color PROJECTED_MISSED_COLOR = new Color(255, 150, 150);
+    private static final Color MONEY_FILL = new Color(20, 60, 20, 200);
+    private static final Color MONEY_BORDER = new Color(50, 200, 50);
+    private static final Color RADIO_TEXT = new Color(100, 255, 100);
+    private static final Color RADIO_BUTTON = new Color(40, 40, 40);
+    private static final Color RADIO_BUTTON_HOVER = new Color(80, 80, 80);
+    private static final Color RADIO_BUTTON_BORDER = new Color(150, 150, 150);
+    private static final Color CONTROL_HOVER_FILL = new Color(20, 60, 20, 180);
+    private static final Color CONTROL_DISABLED_FILL = new Color(20, 20, 20, 120);
+    private static final Color CONTROL_ICON_FALLBACK = new Color(200, 200, 200);
+    private static final Color CONTROL_LABEL = new Color(200, 200, 200);
+    private static final Color CONTROL_LABEL_HOVER = new Color(150, 255, 150);
+    private static final Color CONTROL_LABEL_DISABLED = new Color(130, 130, 130);
+    private static final Color CARD_SELECTED = new Color(100, 255, 100);
+    private static final Color CARD_HOVER = new Color(255, 255, 100, 150);
+    private static final Color PAUSE_DIM = new Color(0, 0, 0, 120);
+    private static final Color PAUSE_SHADOW = new Color(0, 0, 0, 160);
+    private static final Color PAUSE_BORDER = new Color(120, 180, 255, 160);
+    private static final Color PAUSE_TITLE = new Color(255, 255, 255, 230);
+    private static final Font GAME_OVER_TITLE_FONT = new Font("Arial", Font.BOLD, 60);
+    private static final Font ROUND_TITLE_FONT = new Font("Arial", Font.BOLD, 50);
+    private static final Font ROUND_VALUE_FONT = new Font("Arial", Font.BOLD, 32);
+    private static final Font RESULT_VALUE_FONT = new Font("Arial", Font.BOLD, 28);
+    private static final Font RESULT_INFO_FONT = new Font("Arial", Font.PLAIN, 24);
+    private static final Font STYLED_BUTTON_FONT = new Font("Arial", Font.BOLD, 18);
+    private static final Color GAME_OVER_DIM = new Color(0, 0, 0, 200);
+    private static final Color ROUND_COMPLETE_DIM = new Color(0, 0, 0, 180);
+    private static final Color GAME_OVER_TITLE = new Color(255, 50, 50);
+    private static final BasicStroke STROKE_2 = new BasicStroke(2);
+    private static final BasicStroke STROKE_3 = new BasicStroke(3);
+    private static final int OUTLINE_MARGIN = 4; // Folga das imagens de contorno das cartas
+
+    // Ids dos elementos no HoverTracker (cartas: HOVER_CARD + índice)
+    private static final int HOVER_PAUSE = 0;
+    private static final int HOVER_SORT = 1;
+    private static final int HOVER_RESTORE = 2;
+    private static final int HOVER_RADIO_PREV = 3;
+    private static final int HOVER_RADIO_NEXT = 4;
+    private static final int HOVER_CARD = 8;
+    private static final int MAX_HAND_HOVER = 16;
+
+    // Efeitos de partículas (velocidades em px por passo do GameLoop)
+    private static final int PARTICLE_CAPACITY = 256;
+    private static final int PARTICLE_SPAWN_BUDGET = 96;
+    private static final ParticleSystem.Burst MUZZLE_SPARKS = new ParticleSystem.Burst(new Color(255, 200, 80))
+        .count(40).speed(4f, 11f).direction(-90f, 160f).life(200f, 500f).size(5f, 1f).gravity(0.25f).drag(0.93f);
+    private static final ParticleSystem.Burst MUZZLE_SMOKE = new ParticleSystem.Burst(new Color(110, 110, 110, 150))
+        .count(14).shape(ParticleSystem.SHAPE_CIRCLE).speed(0.3f, 1.5f).direction(-90f, 70f)
+        .life(500f, 900f).size(18f, 46f).gravity(-0.02f).drag(0.97f).radius(12f);
+    private static final ParticleSystem.Burst CLICK_PUFF = new ParticleSystem.Burst(new Color(200, 200, 200, 90))
+        .count(8).shape(ParticleSystem.SHAPE_CIRCLE).speed(0.3f, 1.2f).direction(-90f, 120f)
+        .life(250f, 450f).size(3f, 10f).drag(0.95f);
+    private static final ParticleSystem.Burst DICE_SPARKS = new ParticleSystem.Burst(new Color(200, 140, 255))
+        .count(28).speed(2f, 6f).life(300f, 650f).size(5f, 1f).gravity(0.12f).drag(0.94f).radius(50f);
+    private static final ParticleSystem.Burst CARD_SPARKS = new ParticleSystem.Burst(new Color(255, 223, 0))
+        .count(10).speed(1.5f, 4.5f).direction(-90f, 140f).life(350f, 700f).size(4f, 1f).gravity(0.1f).drag(0.95f).radius(20f);
+    private static final ParticleSystem.Burst CARD_DUST = new ParticleSystem.Burst(new Color(170, 170, 170, 180))
+        .count(8).shape(ParticleSystem.SHAPE_CIRCLE).speed(0.5f, 2f).direction(-90f, 140f).life(300f, 550f).size(3f, 8f).drag(0.94f).radius(20f);
+    private static final Color FLASH_OUTER = new Color(255, 50, 0, 200);
+    private static final Color FLASH_INNER = new Color(255, 255, 100, 255);
+    private static final Color IMPACT_OVERLAY = new Color(255, 0, 0, 80);
+    private static final Font ROULETTE_TITLE_FONT = new Font("Arial", Font.BOLD, 40);
+    private static final Font ROULETTE_WARNING_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font ROULETTE_TEXT_FONT = new Font("Arial", Font.PLAIN, 18);
+    private static final Font ROULETTE_RESULT_TITLE_FONT = new Font("Arial", Font.BOLD, 42);
+    private static final Font ROULETTE_RESULT_TEXT_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final Font ROULETTE_LABEL_FONT = new Font("Arial", Font.BOLD, 14);
+    private static final Font ROULETTE_VALUE_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font BANG_FONT = new Font("Impact", Font.ITALIC | Font.BOLD, 120);
+    private static final Font CLICK_FONT = new Font("Courier New", Font.BOLD, 32);
+    private static final Color ROULETTE_DIM = new Color(0, 0, 0, 220);
+    private static final Color ROULETTE_WARNING_TITLE = new Color(255, 80, 80);
+    private static final Color ROULETTE_ROLLING = new Color(142, 68, 173);
+    private static final Color ROULETTE_ROLLING_GLOW = new Color(142, 68, 173, 100);
+    private static final Color ROULETTE_TITLE_RED = new Color(231, 76, 60);
+    private static final Color ROULETTE_TITLE_GREEN = new Color(46, 204, 113);
+    private static final Color ROULETTE_DANGER = new Color(255, 50, 50);
+    private static final Color BANG_COLOR = new Color(255, 20, 20);
+    private static final Color CLICK_COLOR = new Color(180, 180, 180);
+    private static final Color RESULT_FAIL_BG = new Color(50, 20, 20);
+    private static final Color RESULT_FAIL_BORDER = new Color(200, 50, 50);
+    private static final Color RESULT_SUCCESS_BG = new Color(20, 50, 20);
+    private static final Color RESULT_SUCCESS_BORDER = new Color(50, 200, 50);
+    private static final Color RESULT_SUCCESS_TITLE = new Color(100, 255, 100);
+    private static final Color RESULT_WARNING_BG = new Color(50, 45, 15);
+    private static final Color RESULT_WARNING_BORDER = new Color(220, 200, 80);
+    private static final Color RESULT_WARNING_TITLE = new Color(240, 220, 120);
+    private static final Color HUD_BONUS_FILL = new Color(20, 30, 20, 220);
+    private static final Color HUD_BONUS_LABEL = new Color(150, 255, 150);
+    private static final Color HUD_BONUS_VALUE = new Color(80, 255, 80);
+    private static final Color HUD_BULLETS = new Color(220, 220, 220);
+    private static final Color HUD_SPINS_FILL = new Color(20, 20, 30, 220);
+    private static final Color HUD_SPINS_LABEL = new Color(200, 200, 255);
+    private static final Color HUD_SPINS_LEFT = new Color(100, 200, 255);
+    private static final Color HUD_NO_BULLETS = new Color(255, 180, 180);
+    private static final int REVOLVER_WIDTH = 300;
+    private static final int FIRING_POSES = 6; // Recuo e clarão param de mudar no 6º quadro do disparo
+    private static final AlphaComposite DISABLED_COMPOSITE = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.4f);
+
+    // Regiões de invalidação (reaproveitadas, recalculadas conforme o tamanho do painel)
+    private final Rectangle radioRegion = new Rectangle(26, 226, 258, 88);
+    private final Rectangle deckRegion = new Rectangle(836, 320, 118, 184);
+    private final Rectangle statusRegion = new Rectangle(26, 26, 208, 193);
+    private final Rectangle requiredRegion = new Rectangle();
+    private final Rectangle moneyRegion = new Rectangle();
+    private final Rectangle handRegion = new Rectangle();
+    private final Rectangle orderControlsRegion = new Rectangle();
+    private final Rectangle rouletteRegion = new Rectangle();
+    private final Rectangle cardHoverRegion = new Rectangle();
     
     // Cutscene/Roulette State
-    private enum RouletteState { 
+    enum RouletteState { 
         NONE, WARNING, ROLLING, LOADING, // Fases Automáticas
         READY_TO_SPIN, SPINNING, READY_TO_SHOOT, // Fases Interativas (Giro)
         SHOOTING, FIRING, RESULT // Fases Finais
@@ -50,16 +186,20 @@ public class GameScreen extends Screen {
     private int finalChamberSlot = 0; // Slot que vai parar no gatilho (0-5)
     private int spinsUsed = 0; // Quantidade de giros usados
     private static final int MAX_SPINS = 3; // Limite de giros
-    private Timer diceTimer;
-    private Timer physicsTimer; // Timer específico para física do giro
+    private static final int SPIN_PRERENDER_PER_STEP = 2; // Quadros do tambor gerados por passo antes do giro
+    private final Scheduler cutscenes = new Scheduler(); // Animações da roleta; congela com a pausa
+    private final ParticleSystem particles = new ParticleSystem(PARTICLE_CAPACITY, PARTICLE_SPAWN_BUDGET);
+    private int shakeX = 0; // Tremor da arma e do texto, sorteado a cada quadro da cutscene
+    private int shakeY = 0;
+    private String lastTrackName = ""; // Para detectar troca de faixa do rádio
     private String rouletteResultText = "";
     private boolean rouletteSuccess = false;
     private double spinCoverAlpha = 0.0;
     private double spinMaxVelocity = 1.0;
     private long bulletRevealUntil = 0;
-    private JButton rouletteConfirmButton;
-    private JButton rouletteCancelButton;
-    private JButton rouletteContinueButton;
+    private SkinnedButton rouletteConfirmButton;
+    private SkinnedButton rouletteCancelButton;
+    private SkinnedButton rouletteContinueButton;
     private JButton pauseButton;
     private JButton pauseResumeButton;
     private JButton pauseMuteButton;
@@ -74,16 +214,104 @@ public class GameScreen extends Screen {
     private Rectangle radioPrevRect;
     private Rectangle radioNextRect;
     // Track management now via SoundManager
+
+    // Textos do HUD, refeitos apenas quando o valor muda
+    private final ValueText roundText = new ValueText("", "");
+    private final ValueText blindText = new ValueText("", "/3");
+    private final ValueText discardsText = new ValueText("", "");
+    private final ValueText multiplierText = new ValueText("", "x");
+    private final ValueText targetText = new ValueText("$", "");
+    private final ValueText projectedText = new ValueText("D x M: $", "");
+    private final ValueText moneyText = new ValueText("$", "");
+    private final ValueText loadingText = new ValueText("Carregando ", " bala(s)...");
+    private final ValueText bulletsText = new ValueText("BALAS: ", "");
+    private final ValueText spinsText = new ValueText("", " / " + MAX_SPINS);
+    private double bonusValue = Double.NaN;
+    private String bonusText; // Bônus da roleta com duas casas, refeito só quando muda
+    private int bonusVersion = 0;
+    private String handsText;
+    private int handsTextLeft = -1;
+    private int handsTextMax = -1;
+    private int handsVersion = 0;
+    private String handNameText; // Nome da mão mínima já truncado
+    private PokerHand handNameHand;
+    private String radioText; // Faixa atual já truncada para o display
+    private String radioTextSource;
+    private int radioVersion = 0;
+
+    // Painéis do HUD em cache, refeitos só quando a chave de cada um muda
+    private CachedPanel statusPanel;
+    private CachedPanel requiredPanel;
+    private CachedPanel moneyPanel;
+    private CachedPanel radioPanel;
+    private CachedPanel orderControlsPanel;
+
+    // Partes da roleta em cache: textos, caixas e poses do disparo
+    private CachedPanel rouletteTitlePanel;
+    private CachedPanel rouletteBoxPanel;
+    private CachedPanel rouletteHudPanel;
+    private CachedPanel diceGlowPanel;
+    private CachedPanel revolverPanel;
+    private CachedPanel bangPanel;
+    private CachedPanel clickPanel;
+    private final CachedPanel[] firingPanels = new CachedPanel[FIRING_POSES];
+    private BufferedImage selectedOutline; // Contornos das cartas, no tamanho do dispositivo
+    private BufferedImage hoverOutline;
+    private int outlineKey = -1;
+    private double outlineScale = 1.0;
+    private final Rectangle clipScratch = new Rectangle();
+    private GradientPaint pausePanelPaint;
+    private int pausePanelPaintY = Integer.MIN_VALUE;
+    
+    // Overlays de resultado, montados uma vez e reaproveitados entre rodadas
+    private ResultOverlay handResultOverlay;
+    private ResultOverlay roundCompleteOverlay;
+    private ResultOverlay gameOverOverlay;
+    private JButton handResultButton;
+    private boolean resultSuccess;
+    private boolean resultCanTryAgain;
+    private String resultHandName;
+    private String resultValueText;
+    private String resultRequiredText;
+    private String resultTotalText;
+    private String roundMultiplierText;
+    private String roundMoneyText;
+    private String gameOverScoreText;
+    private String gameOverTargetText;
     
     public GameScreen(ScreenManager screenManager) {
         super(screenManager);
         loadBackground();
         this.gameState = GameManager.getInstance().getGameState();
         this.cardRenderer = CardRenderer.getInstance();
+        this.cardRenderer.prewarm(cardRenderer.getCardWidth(), cardRenderer.getCardHeight());
         this.diceRenderer = DiceRenderer.getInstance(); // Initialize
+        this.cylinderRenderer = CylinderRenderer.getInstance();
         this.cardAreas = new ArrayList<>();
-        this.mousePos = new Point(0, 0);
         this.previousHandOrder = null;
+        this.staticLayer = new StaticLayer(this::paintStaticLayer);
+        this.dirty = new DirtyRegions(this);
+        this.statusPanel = new CachedPanel(g -> drawStatusPanel(g, 30, 30));
+        this.requiredPanel = new CachedPanel(this::drawRequiredHandPanel);
+        this.moneyPanel = new CachedPanel(this::drawMoneyPanel);
+        this.radioPanel = new CachedPanel(this::drawRadio);
+        this.orderControlsPanel = new CachedPanel(this::drawOrderControls);
+        this.rouletteTitlePanel = new CachedPanel(this::paintRouletteTitle);
+        this.rouletteBoxPanel = new CachedPanel(this::paintRouletteBox);
+        this.rouletteHudPanel = new CachedPanel(this::paintRouletteHUD);
+        this.diceGlowPanel = new CachedPanel(this::paintDiceGlow);
+        this.revolverPanel = new CachedPanel(this::paintRevolver);
+        this.bangPanel = new CachedPanel(this::paintBang);
+        this.clickPanel = new CachedPanel(this::paintClick);
+        for (int i = 0; i < FIRING_POSES; i++) {
+            int pose = i;
+            firingPanels[i] = new CachedPanel(g -> paintFiringPose(g, pose));
+        }
+        this.radioPrevRect = new Rectangle(95, 285, 30, 20);
+        this.radioNextRect = new Rectangle(185, 285, 30, 20);
+        this.hoverTracker = new HoverTracker(dirty, this::isHoverable, HOVER_CARD + MAX_HAND_HOVER);
+        hoverTracker.set(HOVER_RADIO_PREV, radioPrevRect.x, radioPrevRect.y, radioPrevRect.width, radioPrevRect.height, radioRegion);
+        hoverTracker.set(HOVER_RADIO_NEXT, radioNextRect.x, radioNextRect.y, radioNextRect.width, radioNextRect.height, radioRegion);
         setupMouseListeners();
         setupRouletteButtons();
         setupPauseButton();
@@ -124,7 +352,7 @@ public class GameScreen extends Screen {
             add(discardButton);
             add(createActionButton("ROLETA", 230, 610, new Color(142, 68, 173))); // Recria botão
             revalidate();
-            repaint();
+            dirty.addAll();
             initialize(); // Restaura controles padrão
         });
         
@@ -146,20 +374,7 @@ public class GameScreen extends Screen {
     }
 
     private void setupPauseButton() {
-        pauseButton = new JButton() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                if (pauseImage != null) {
-                    g.drawImage(pauseImage, 0, 0, getWidth(), getHeight(), null);
-                }
-            }
-        };
-        pauseButton.setOpaque(false);
-        pauseButton.setContentAreaFilled(false);
-        pauseButton.setBorderPainted(false);
-        pauseButton.setFocusPainted(false);
-        pauseButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        pauseButton = createIconControlButton();
         pauseButton.addActionListener(e -> togglePause());
 
         setupPauseMenuButtons();
@@ -167,7 +382,7 @@ public class GameScreen extends Screen {
     }
 
     private void setupOrderButtons() {
-        sortOrderButton = createIconControlButton(sortImage);
+        sortOrderButton = createIconControlButton();
         sortOrderButton.addActionListener(e -> {
             if (!isOrderActionAllowed()) return;
             List<PlayingCard> hand = gameState.getPlayerHand();
@@ -181,10 +396,10 @@ public class GameScreen extends Screen {
                 .thenComparingInt(card -> card.getSuitEnum().ordinal()));
             updateCardAreas();
             updatePauseAvailability();
-            repaint();
+            invalidateHandAndControls();
         });
 
-        restoreOrderButton = createIconControlButton(restoreImage);
+        restoreOrderButton = createIconControlButton();
         restoreOrderButton.addActionListener(e -> {
             if (!isOrderActionAllowed()) return;
             if (previousHandOrder == null) {
@@ -192,7 +407,7 @@ public class GameScreen extends Screen {
                     restoreOrderButton.setEnabled(false);
                 }
                 updatePauseAvailability();
-                repaint();
+                invalidateHandAndControls();
                 return;
             }
             List<PlayingCard> hand = gameState.getPlayerHand();
@@ -202,7 +417,7 @@ public class GameScreen extends Screen {
                     restoreOrderButton.setEnabled(false);
                 }
                 updatePauseAvailability();
-                repaint();
+                invalidateHandAndControls();
                 return;
             }
             hand.clear();
@@ -213,28 +428,18 @@ public class GameScreen extends Screen {
             }
             updateCardAreas();
             updatePauseAvailability();
-            repaint();
+            invalidateHandAndControls();
         });
 
         updatePauseAvailability();
     }
 
-    private JButton createIconControlButton(Image icon) {
-        JButton button = new JButton() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                if (icon != null) {
-                    g2.drawImage(icon, 0, 0, getWidth(), getHeight(), null);
-                } else {
-                    g2.setColor(new Color(200, 200, 200));
-                    g2.fillOval(8, 8, getWidth() - 16, getHeight() - 16);
-                }
-                g2.dispose();
-            }
-        };
+    /**
+     * Botão de controle com ícone; só guarda área de clique e estado,
+     * o desenho fica em drawIconControl
+     */
+    private JButton createIconControlButton() {
+        JButton button = new JButton();
         button.setOpaque(false);
         button.setContentAreaFilled(false);
         button.setBorderPainted(false);
@@ -312,14 +517,14 @@ public class GameScreen extends Screen {
             pauseExitButton.setVisible(true);
         }
         updatePauseMenuButtons();
-        repaint();
+        dirty.addAll();
     }
 
     private void hidePauseMenuButtons() {
         if (pauseResumeButton != null) pauseResumeButton.setVisible(false);
         if (pauseMuteButton != null) pauseMuteButton.setVisible(false);
         if (pauseExitButton != null) pauseExitButton.setVisible(false);
-        repaint();
+        dirty.addAll();
     }
 
     private void updatePauseAvailability() {
@@ -334,30 +539,22 @@ public class GameScreen extends Screen {
         if (restoreOrderButton != null) {
             restoreOrderButton.setEnabled(allowControls && previousHandOrder != null);
         }
+        if (hoverTracker != null) {
+            hoverTracker.refresh();
+        }
     }
 
-    private void togglePause() {
+    void togglePause() {
+        // Com o jogo pausado update() não avança as cutscenes nem a física do giro
         paused = !paused;
         setGameButtonsEnabled(paused ? false : rouletteState == RouletteState.NONE);
         if (paused) {
-            if (physicsTimer != null) {
-                physicsTimer.stop();
-            }
-            if (diceTimer != null) {
-                diceTimer.stop();
-            }
             showPauseMenuButtons();
         } else {
-            if (rouletteState == RouletteState.SPINNING && physicsTimer != null) {
-                physicsTimer.start();
-            }
-            if (rouletteState == RouletteState.ROLLING && diceTimer != null) {
-                diceTimer.start();
-            }
             hidePauseMenuButtons();
         }
         updatePauseAvailability();
-        repaint();
+        dirty.addAll();
     }
 
     private void setGameButtonsEnabled(boolean enabled) {
@@ -375,116 +572,147 @@ public class GameScreen extends Screen {
     
     private void loadBackground() {
         backgroundImage = loadImage("/assets/bg-game.png");
-        deckImage = loadImage("/assets/red_deck.png");
-        pauseImage = loadImage("/assets/pausar.png");
-        revolverImage = loadImage("/assets/revolver.png");
-        sortImage = loadImage("/assets/ordenar.png");
-        restoreImage = loadImage("/assets/reverter.png");
+        // Ícones e deck vêm do atlas (compartilhados, sem dispose)
+        Atlas atlas = Atlas.getInstance();
+        deckImage = atlas.getSprite("red_deck");
+        pauseImage = atlas.getSprite("pausar");
+        revolverImage = atlas.getSprite("revolver");
+        sortImage = atlas.getSprite("ordenar");
+        restoreImage = atlas.getSprite("reverter");
     }
 
     private Image loadImage(String path) {
-        try (InputStream is = getClass().getResourceAsStream(path)) {
-            if (is == null) {
-                System.err.println("Asset não encontrado: " + path);
-                return null;
-            }
-            return ImageIO.read(new BufferedInputStream(is));
-        } catch (IOException e) {
-            System.err.println("Erro ao carregar asset " + path + ": " + e.getMessage());
-            return null;
+        Image image = ImageCache.getInstance().acquire(path);
+        if (image != null) {
+            acquiredImages.add(path);
         }
+        return image;
     }
     
     private void setupMouseListeners() {
         addMouseListener(new MouseAdapter() {
             @Override
             public void mousePressed(MouseEvent e) {
-                if (pauseButton != null && pauseButton.isEnabled() && pauseButton.getBounds().contains(e.getPoint())) {
-                    pauseButton.doClick();
-                    repaint();
-                    return;
-                }
-                if (sortOrderButton != null && sortOrderButton.isEnabled() && sortOrderButton.getBounds().contains(e.getPoint())) {
-                    sortOrderButton.doClick();
-                    repaint();
-                    return;
-                }
-                if (restoreOrderButton != null && restoreOrderButton.isEnabled() && restoreOrderButton.getBounds().contains(e.getPoint())) {
-                    restoreOrderButton.doClick();
-                    repaint();
-                    return;
+                // As ações dos botões invalidam as próprias regiões
+                int hit = hoverTracker.hitTest(e.getX(), e.getY());
+                switch (hit) {
+                    case HOVER_PAUSE:
+                        pauseButton.doClick();
+                        return;
+                    case HOVER_SORT:
+                        sortOrderButton.doClick();
+                        return;
+                    case HOVER_RESTORE:
+                        restoreOrderButton.doClick();
+                        return;
+                    default:
+                        break;
                 }
                 if (paused) {
-                    mousePos = e.getPoint();
-                    repaint();
                     return;
                 }
                 if (rouletteState == RouletteState.NONE) {
                     if (SwingUtilities.isRightMouseButton(e)) {
                         gameState.getSelectedCards().clear();
-                        repaint();
+                        dirty.add(handRegion());
                         return;
                     }
-                    handleCardClick(e.getX(), e.getY());
-                    handleRadioClick(e.getPoint());
+                    if (hit >= HOVER_CARD) {
+                        toggleCardSelection(hit - HOVER_CARD);
+                        dirty.add(handRegion());
+                    } else if (hit == HOVER_RADIO_PREV || hit == HOVER_RADIO_NEXT) {
+                        handleRadioClick(hit);
+                    }
                 }
             }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                hoverTracker.mouseExited();
+            }
         });
         
         addMouseMotionListener(new MouseAdapter() {
             @Override
             public void mouseMoved(MouseEvent e) {
-                mousePos = e.getPoint();
-                boolean hoverControl = false;
-                if (pauseButton != null && pauseButton.isEnabled() && pauseButton.getBounds().contains(e.getPoint())) {
-                    hoverControl = true;
-                }
-                if (sortOrderButton != null && sortOrderButton.isEnabled() && sortOrderButton.getBounds().contains(e.getPoint())) {
-                    hoverControl = true;
-                }
-                if (restoreOrderButton != null && restoreOrderButton.isEnabled() && restoreOrderButton.getBounds().contains(e.getPoint())) {
-                    hoverControl = true;
-                }
-                if (!paused || hoverControl) {
-                    repaint();
-                }
+                // Só repinta quando o elemento sob o mouse muda
+                hoverTracker.mouseMoved(e.getX(), e.getY());
             }
         });
     }
 
-    private void handleRadioClick(Point p) {
-        if (radioPrevRect != null && radioPrevRect.contains(p)) {
-            SoundManager.getInstance().prevTrack();
-            repaint();
-        } else if (radioNextRect != null && radioNextRect.contains(p)) {
-            SoundManager.getInstance().nextTrack();
-            repaint();
+    /**
+     * Diz se o elemento aceita hover (e clique) no estado atual
+     */
+    private boolean isHoverable(int id) {
+        switch (id) {
+            case HOVER_PAUSE:
+                return pauseButton != null && pauseButton.isEnabled();
+            case HOVER_SORT:
+                return sortOrderButton != null && sortOrderButton.isEnabled();
+            case HOVER_RESTORE:
+                return restoreOrderButton != null && restoreOrderButton.isEnabled();
+            default:
+                // Rádio e cartas só respondem fora da pausa e da roleta
+                return !paused && rouletteState == RouletteState.NONE
+                    && (id < HOVER_CARD || id - HOVER_CARD < gameState.getPlayerHand().size());
         }
     }
-    
-    private void handleCardClick(int x, int y) {
-        List<PlayingCard> hand = gameState.getPlayerHand();
+
+    private void invalidateHandAndControls() {
+        dirty.add(handRegion());
+        dirty.add(orderControlsRegion());
+    }
+
+    /**
+     * Área ocupada pela mão do jogador, incluindo cartas levantadas
+     */
+    private Rectangle handRegion() {
+        int size = gameState.getPlayerHand().size();
         int cardWidth = cardRenderer.getCardWidth();
         int cardHeight = cardRenderer.getCardHeight();
-        
-        // Calcula posição inicial para centralizar (mesma lógica do drawPlayerHand)
-        int totalWidth = hand.size() * cardWidth + (hand.size() - 1) * 5;
+        int totalWidth = size * cardWidth + Math.max(0, size - 1) * 5;
         int startX = (getWidth() - totalWidth) / 2;
-        int startY = 450;
-        int cardSpacing = 5;
-        
-        for (int i = 0; i < hand.size(); i++) {
-            int cardX = startX + i * (cardWidth + cardSpacing);
-            int cardY = startY;
-            
-            // Considera a área expandida da carta (pode estar levantada)
-            Rectangle cardArea = new Rectangle(cardX, cardY - 25, cardWidth, cardHeight + 25);
-            if (cardArea.contains(x, y)) {
-                toggleCardSelection(i);
-                repaint();
-                break;
-            }
+        handRegion.setBounds(startX - 5, 398, totalWidth + 10, 450 + cardHeight + 5 - 398);
+        return handRegion;
+    }
+
+    private Rectangle requiredRegion() {
+        requiredRegion.setBounds((getWidth() - 360) / 2 - 2, 26, 370, 100);
+        return requiredRegion;
+    }
+
+    private Rectangle moneyRegion() {
+        // Painel de dinheiro + controle de pausa logo abaixo
+        moneyRegion.setBounds(getWidth() - 300, 26, 300, 145);
+        return moneyRegion;
+    }
+
+    private Rectangle orderControlsRegion() {
+        int width = 120 + 20 + 48 + 12;
+        orderControlsRegion.setBounds(getWidth() - 40 - width + 6, getHeight() - 48 - 40 + 10 - 6, width, 48 + 30);
+        return orderControlsRegion;
+    }
+
+    /**
+     * Área central do overlay da roleta com o tamanho informado
+     */
+    private Rectangle rouletteRegion(int offsetY, int width, int height) {
+        rouletteRegion.setBounds(getWidth() / 2 - width / 2, getHeight() / 2 + offsetY, width, height);
+        return rouletteRegion;
+    }
+
+    private static boolean isVisible(Rectangle clip, Rectangle region) {
+        return clip == null || clip.intersects(region);
+    }
+
+    private void handleRadioClick(int id) {
+        if (id == HOVER_RADIO_PREV) {
+            SoundManager.getInstance().prevTrack();
+        } else {
+            SoundManager.getInstance().nextTrack();
         }
+        dirty.add(radioRegion);
     }
     
     @Override
@@ -494,6 +722,9 @@ public class GameScreen extends Screen {
         cardAreas.clear();
         paused = false;
         previousHandOrder = null;
+        cutscenes.cancelAll();
+        particles.clear();
+        staticLayer.invalidate();
         
         if (gameState.getPlayerHand().isEmpty()) {
             gameState.startNewRound();
@@ -532,7 +763,7 @@ public class GameScreen extends Screen {
         updatePauseAvailability();
 
         revalidate();
-        repaint();
+        dirty.addAll();
     }
     
     private boolean dealInitialHand() {
@@ -553,6 +784,7 @@ public class GameScreen extends Screen {
     
     private void updateCardAreas() {
         cardAreas.clear();
+        cardAreasWidth = getWidth();
         List<PlayingCard> hand = gameState.getPlayerHand();
         
         // Usa as dimensões reais das cartas do sprite sheet
@@ -568,7 +800,15 @@ public class GameScreen extends Screen {
         for (int i = 0; i < hand.size(); i++) {
             int x = startX + i * (cardWidth + cardSpacing);
             cardAreas.add(new Rectangle(x, startY, cardWidth, cardHeight));
+            // Hover e clique consideram a área expandida (a carta pode estar levantada);
+            // a região repintada cobre a carta levantada e o contorno
+            cardHoverRegion.setBounds(x - OUTLINE_MARGIN, 398, cardWidth + OUTLINE_MARGIN * 2, startY + cardHeight + 5 - 398);
+            hoverTracker.set(HOVER_CARD + i, x, startY - 25, cardWidth, cardHeight + 25, cardHoverRegion);
+        }
+        for (int i = hand.size(); i < MAX_HAND_HOVER; i++) {
+            hoverTracker.remove(HOVER_CARD + i);
         }
+        hoverTracker.refresh();
     }
     
     private void toggleCardSelection(int index) {
@@ -607,6 +847,7 @@ public class GameScreen extends Screen {
         boolean isSuccess = hand.compareTo(gameState.getRequiredHand()) >= 0;
 
         // Consome as cartas jogadas
+        emitCardBursts(isSuccess ? CARD_SPARKS : CARD_DUST);
         gameState.getPlayerHand().removeAll(gameState.getSelectedCards());
         previousHandOrder = null;
         updatePauseAvailability();
@@ -640,13 +881,27 @@ public class GameScreen extends Screen {
         showHandResultScreen(hand, handMultiplier, isSuccess);
     }
 
+    /**
+     * Explosão sobre cada carta selecionada (antes de saírem da mão)
+     */
+    private void emitCardBursts(ParticleSystem.Burst burst) {
+        List<PlayingCard> hand = gameState.getPlayerHand();
+        for (PlayingCard card : gameState.getSelectedCards()) {
+            int index = hand.indexOf(card);
+            if (index < 0 || index >= cardAreas.size()) continue;
+            Rectangle area = cardAreas.get(index);
+            // Cartas selecionadas ficam 25px acima da posição base
+            particles.emit(burst, area.x + area.width / 2f, area.y - 25 + area.height / 2f);
+        }
+    }
+
     private void playRussianRoulette() {
         rouletteState = RouletteState.WARNING;
         updatePauseAvailability();
         rouletteConfirmButton.setText("PUXAR GATILHO");
         spinsUsed = 0;
         setGameButtonsEnabled(false);
-        repaint();
+        dirty.addAll();
     }
 
     private void startDiceRollCutscene() {
@@ -657,31 +912,19 @@ public class GameScreen extends Screen {
         // Determine final result beforehand
         diceAnimationResult = (int) (Math.random() * 6) + 1; // 1 to 6
         
-        // Timer for animation
-        diceTimer = new Timer(50, new ActionListener() {
-            int frames = 0;
-            int maxFrames = 30; // ~1.5 seconds spin
-            
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                frames++;
-                // Random face during spin
-                diceAnimationFrame = (int)(Math.random() * 6) + 1;
-                repaint();
-                
-                if (frames >= maxFrames) {
-                    ((Timer)e.getSource()).stop();
-                    finishDiceRoll();
-                }
-            }
-        });
-        diceTimer.start();
+        // 30 quadros de 50ms (~1.5 segundos de giro)
+        cutscenes.repeat(50, 30, () -> {
+            // Random face during spin
+            diceAnimationFrame = (int)(Math.random() * 6) + 1;
+            dirty.add(rouletteRegion(-84, 168, 168));
+        }, this::finishDiceRoll);
     }
     
     private void finishDiceRoll() {
         // Show final result
         diceAnimationFrame = diceAnimationResult;
-        repaint();
+        dirty.add(rouletteRegion(-84, 168, 168));
+        particles.emit(DICE_SPARKS, getWidth() / 2f, getHeight() / 2f);
 
         if (diceAnimationResult == 6) {
             rouletteSixPenalty = true;
@@ -689,24 +932,16 @@ public class GameScreen extends Screen {
             rouletteSuccess = true;
             rouletteResultText = "Dado 6: multiplicador zerado.";
             
-            Timer pause = new Timer(900, e -> {
-                ((Timer)e.getSource()).stop();
+            cutscenes.after(900, () -> {
                 rouletteState = RouletteState.RESULT;
                 updatePauseAvailability();
-                repaint();
+                dirty.addAll();
             });
-            pause.setRepeats(false);
-            pause.start();
             return;
         }
         
         // Pause briefly to show result then start loading bullets
-        Timer pause = new Timer(1000, e -> {
-            ((Timer)e.getSource()).stop();
-            startLoadingCutscene();
-        });
-        pause.setRepeats(false);
-        pause.start();
+        cutscenes.after(1000, this::startLoadingCutscene);
     }
     
     private void startLoadingCutscene() {
@@ -714,56 +949,40 @@ public class GameScreen extends Screen {
         updatePauseAvailability();
         loadingBulletIndex = 0;
         
-        // Timer adding bullets one by one
-        Timer loadTimer = new Timer(500, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
+        // Adiciona as balas uma a uma e depois aguarda o giro manual
+        cutscenes.sequence()
+            .repeat(500, diceAnimationResult, () -> {
                 loadingBulletIndex++;
-                repaint();
-                
-                if (loadingBulletIndex >= diceAnimationResult) {
-                     ((Timer)e.getSource()).stop();
-                     
-                     // Transição para aguardar o giro manual
-                     Timer pause = new Timer(500, ev -> {
-                         ((Timer)ev.getSource()).stop();
-                         // Prepara para o estado interativo
-                         rouletteState = RouletteState.READY_TO_SPIN;
-                         updatePauseAvailability();
-                         rouletteConfirmButton.setText("GIRAR TAMBOR");
-                         spinsUsed = 0;
-                         repaint();
-                     });
-                     pause.setRepeats(false);
-                     pause.start();
-                }
-            }
-        });
-        loadTimer.start();
+                dirty.add(rouletteRegion(-126, 252, 252));
+            })
+            .delay(500)
+            .run(() -> {
+                // Prepara para o estado interativo
+                rouletteState = RouletteState.READY_TO_SPIN;
+                updatePauseAvailability();
+                rouletteConfirmButton.setText("GIRAR TAMBOR");
+                spinsUsed = 0;
+                dirty.addAll();
+            })
+            .start();
     }
 
     private void startManualSpinning() {
         rouletteState = RouletteState.SPINNING;
         updatePauseAvailability();
         rouletteConfirmButton.setText("GIRAR MAIS!");
+        prerenderSpinFrames(Integer.MAX_VALUE); // O que faltar é gerado agora, não no meio do giro
         if (spinsUsed < MAX_SPINS) {
             spinsUsed++;
         }
         currentSpinVelocity = 40.0; // Velocidade inicial alta
         spinMaxVelocity = currentSpinVelocity;
         spinCoverAlpha = 0.0;
-        bulletRevealUntil = System.currentTimeMillis() + 350;
-        spinStartTime = System.currentTimeMillis();
+        bulletRevealUntil = cutscenes.now() + 350;
+        spinStartTime = cutscenes.now();
         cylinderAngle = Math.random() * 360.0;
-        
-        // Timer de física (60 FPS aprox)
-        physicsTimer = new Timer(16, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                updateSpinPhysics();
-            }
-        });
-        physicsTimer.start();
+        // A física roda em update() a cada passo fixo do GameLoop (60 por segundo)
+        dirty.addAll();
     }
     
     private void boostSpin() {
@@ -783,7 +1002,8 @@ public class GameScreen extends Screen {
             if (currentSpinVelocity > spinMaxVelocity) {
                  spinMaxVelocity = currentSpinVelocity;
             }
-            bulletRevealUntil = System.currentTimeMillis() + 250;
+            bulletRevealUntil = cutscenes.now() + 250;
+            dirty.addAll(); // HUD de giros e bônus mudou
     }
     
     private void updateSpinPhysics() {
@@ -796,19 +1016,20 @@ public class GameScreen extends Screen {
         double t = Math.max(0.0, Math.min(1.0, 1.0 - normalized));
         spinCoverAlpha = Math.pow(t, 0.6); // fecha mais rápido para ocultar as balas
         
-        long elapsed = System.currentTimeMillis() - spinStartTime;
+        long elapsed = cutscenes.now() - spinStartTime;
         boolean minTimePassed = elapsed > 3000;
         
         // Se a velocidade está baixa e já passou o tempo mínimo, para.
         if (minTimePassed && currentSpinVelocity < 2.0) {
-            physicsTimer.stop();
             snapToSlot();
         } else if (currentSpinVelocity < 0.5) {
              // Se parar por atrito antes dos 3s (improvável com 40 start, mas por segurança), re-impulsiona min
              if (!minTimePassed) currentSpinVelocity = 5.0; 
         }
         
-        repaint();
+        if (rouletteState == RouletteState.SPINNING) {
+            dirty.add(rouletteRegion(-126, 252, 252));
+        }
     }
     
     private void snapToSlot() {
@@ -840,28 +1061,23 @@ public class GameScreen extends Screen {
         rouletteState = RouletteState.READY_TO_SHOOT;
         updatePauseAvailability();
         rouletteConfirmButton.setText("ATIRAR");
-        repaint();
+        dirty.addAll();
     }
 
     private void startShootingCutscene() {
         rouletteState = RouletteState.SHOOTING;
+        cylinderRenderer.releaseSpinFrames(); // O tambor não aparece mais nesta roleta
         updatePauseAvailability();
         shootingFrame = 0;
         
-        // Shake animation timer
-        Timer shootTimer = new Timer(50, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                shootingFrame++;
-                repaint();
-                
-                if (shootingFrame > 20) { // ~1 second of tension
-                    ((Timer)e.getSource()).stop();
-                    resolveRussianRoulette();
-                }
-            }
-        });
-        shootTimer.start();
+        // Shake animation: 21 quadros de 50ms (~1 second of tension)
+        cutscenes.repeat(50, 21, () -> {
+            shootingFrame++;
+            shakeX = (int)(Math.random() * 6 - 3);
+            shakeY = (int)(Math.random() * 6 - 3);
+            dirty.add(rouletteRegion(-100, 320, 200));
+        }, this::resolveRussianRoulette);
+        dirty.addAll();
     }
     
     private void resolveRussianRoulette() {
@@ -873,22 +1089,35 @@ public class GameScreen extends Screen {
         rouletteState = RouletteState.FIRING;
         updatePauseAvailability();
         firingFrame = 0;
-        
-        // Timer da animação de disparo (Flash ou Click)
-        Timer fireTimer = new Timer(30, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                firingFrame++;
-                repaint();
-                
-                // Duração curta para o flash (ex: 15 frames = ~450ms)
-                if (firingFrame > 15) {
-                    ((Timer)e.getSource()).stop();
-                    finalizeRouletteResult();
-                }
+        emitGunshot();
+        
+        // Animação de disparo (Flash ou Click): 16 quadros de 30ms (~450ms)
+        cutscenes.repeat(30, 16, () -> {
+            firingFrame++;
+            shakeX = (int)(Math.random() * 10 - 5);
+            shakeY = (int)(Math.random() * 10 - 5);
+            if (roundDied) {
+                // Clarão e tela vermelha piscando ocupam o painel todo
+                dirty.addAll();
+            } else {
+                dirty.add(rouletteRegion(-145, 320, 245));
             }
-        });
-        fireTimer.start();
+        }, this::finalizeRouletteResult);
+        dirty.addAll();
+    }
+
+    /**
+     * Faíscas e fumaça do disparo, ou só um sopro seco no clique
+     */
+    private void emitGunshot() {
+        float cx = getWidth() / 2f;
+        float cy = getHeight() / 2f;
+        if (roundDied) {
+            particles.emit(MUZZLE_SPARKS, cx, cy - 40);
+            particles.emit(MUZZLE_SMOKE, cx, cy - 70);
+        } else {
+            particles.emit(CLICK_PUFF, cx, cy - 50);
+        }
     }
 
     private void finalizeRouletteResult() {
@@ -916,7 +1145,7 @@ public class GameScreen extends Screen {
         }
         rouletteState = RouletteState.RESULT;
         updatePauseAvailability();
-        repaint();
+        dirty.addAll();
     }
     
     private void discardCards() {
@@ -970,359 +1199,324 @@ public class GameScreen extends Screen {
         showRoundCompleteScreen();
     }
     
-    private void showGameOverScreen() {
+    void showGameOverScreen() {
         removeAll();
         setLayout(null);
         
-        // Overlay escuro
-        JPanel overlay = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                if (backgroundImage != null) {
-                    g2.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-                }
-                g2.setColor(new Color(0, 0, 0, 200));
-                g2.fillRect(0, 0, getWidth(), getHeight());
-                g2.dispose();
-            }
-        };
-        overlay.setBounds(0, 0, 1000, 700);
-        overlay.setLayout(null);
-        
-        // Título
-        JLabel titleLabel = new JLabel("GAME OVER", SwingConstants.CENTER);
-        titleLabel.setFont(new Font("Arial", Font.BOLD, 60));
-        titleLabel.setForeground(new Color(255, 50, 50));
-        titleLabel.setBounds(250, 150, 500, 80);
-        overlay.add(titleLabel);
-        
-        // Resultado Final
+        // Textos fixados na abertura; o overlay só é repintado a partir da imagem
         int finalMoney = (int) (gameState.getMoney() * gameState.getMultiplier());
-        JLabel scoreLabel = new JLabel("Dinheiro Alcançado: $" + formatValue(finalMoney), SwingConstants.CENTER);
-        scoreLabel.setFont(new Font("Arial", Font.BOLD, 28));
-        scoreLabel.setForeground(new Color(255, 223, 0));
-        scoreLabel.setBounds(200, 260, 600, 40);
-        overlay.add(scoreLabel);
-        
-        // Meta
-        JLabel targetLabel = new JLabel("Meta Necessária: $" + formatValue(gameState.getTargetMoney()), SwingConstants.CENTER);
-        targetLabel.setFont(new Font("Arial", Font.PLAIN, 24));
-        targetLabel.setForeground(Color.WHITE);
-        targetLabel.setBounds(200, 310, 600, 40);
-        overlay.add(targetLabel);
-        
-        // Botão menu
-        JButton menuButton = createStyledButton("MENU", 410, 420);
-        menuButton.addActionListener(e -> screenManager.changeScreen("menu"));
-        overlay.add(menuButton);
-        
-        add(overlay);
-        revalidate();
-        repaint();
+        gameOverScoreText = "Dinheiro Alcançado: $" + formatValue(finalMoney);
+        gameOverTargetText = "Meta Necessária: $" + formatValue(gameState.getTargetMoney());
+        
+        if (gameOverOverlay == null) {
+            gameOverOverlay = new ResultOverlay(false) {
+                @Override
+                protected void paintContent(Graphics2D g) {
+                    paintDimmedBackground(g, GAME_OVER_DIM);
+                    drawCenteredText(g, "GAME OVER", GAME_OVER_TITLE_FONT, GAME_OVER_TITLE, 250, 150, 500, 80);
+                    drawCenteredText(g, gameOverScoreText, RESULT_VALUE_FONT, MULTIPLIER_COLOR, 200, 260, 600, 40);
+                    drawCenteredText(g, gameOverTargetText, RESULT_INFO_FONT, Color.WHITE, 200, 310, 600, 40);
+                }
+            };
+            
+            // Botão menu
+            JButton menuButton = createStyledButton("MENU", 410, 420);
+            menuButton.addActionListener(e -> screenManager.changeScreen("menu"));
+            gameOverOverlay.add(menuButton);
+        }
+        showOverlay(gameOverOverlay);
     }
     
-    private void showRoundCompleteScreen() {
+    void showRoundCompleteScreen() {
         removeAll();
         setLayout(null);
         
-        // Overlay escuro
-        JPanel overlay = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                if (backgroundImage != null) {
-                    g2.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+        roundMultiplierText = "Multiplicador: " + String.format("%.1f", gameState.getMultiplier()) + "x";
+        roundMoneyText = "Dinheiro: $" + formatValue(gameState.getMoney());
+        
+        if (roundCompleteOverlay == null) {
+            roundCompleteOverlay = new ResultOverlay(false) {
+                @Override
+                protected void paintContent(Graphics2D g) {
+                    paintDimmedBackground(g, ROUND_COMPLETE_DIM);
+                    drawCenteredText(g, "RODADA COMPLETA!", ROUND_TITLE_FONT, REACHED_COLOR, 200, 120, 600, 70);
+                    drawCenteredText(g, roundMultiplierText, ROUND_VALUE_FONT, MULTIPLIER_COLOR, 200, 220, 600, 50);
+                    drawCenteredText(g, roundMoneyText, ROUND_VALUE_FONT, REACHED_COLOR, 200, 280, 600, 50);
                 }
-                g2.setColor(new Color(0, 0, 0, 180));
-                g2.fillRect(0, 0, getWidth(), getHeight());
-                g2.dispose();
+            };
+            
+            // Botão continuar
+            JButton continueButton = createStyledButton("CONTINUAR", 300, 400);
+            continueButton.addActionListener(e -> {
+                gameState.nextRound();
+                gameState.startNewRound();
+                initialize();
+            });
+            roundCompleteOverlay.add(continueButton);
+            
+            // Botão sair
+            JButton exitButton = createStyledButton("SAIR", 500, 400);
+            exitButton.addActionListener(e -> screenManager.changeScreen("menu"));
+            roundCompleteOverlay.add(exitButton);
+        }
+        showOverlay(roundCompleteOverlay);
+    }
+    
+    /**
+     * Exibe um overlay já montado, refazendo sua imagem com os textos atuais
+     */
+    private void showOverlay(ResultOverlay overlay) {
+        overlay.refresh();
+        // Botões reaproveitados não devem voltar com hover/clique de antes
+        for (Component child : overlay.getComponents()) {
+            if (child instanceof AbstractButton) {
+                ButtonModel model = ((AbstractButton) child).getModel();
+                model.setRollover(false);
+                model.setArmed(false);
+                model.setPressed(false);
             }
-        };
-        overlay.setBounds(0, 0, 1000, 700);
-        overlay.setLayout(null);
+        }
+        add(overlay);
+        revalidate();
+        dirty.addAll();
+    }
+    
+    /**
+     * Fundo do jogo escurecido, base de todos os overlays de resultado
+     */
+    private void paintDimmedBackground(Graphics2D g, Color dim) {
+        if (backgroundImage != null) {
+            g.drawImage(backgroundImage, 0, 0, Settings.GAME_WIDTH, Settings.GAME_HEIGHT, null);
+        }
+        g.setColor(dim);
+        g.fillRect(0, 0, Settings.GAME_WIDTH, Settings.GAME_HEIGHT);
+    }
+    
+    /**
+     * Texto centralizado na caixa, como um JLabel centralizado
+     */
+    private static void drawCenteredText(Graphics2D g, String text, Font font, Color color, int x, int y, int width, int height) {
+        g.setFont(font);
+        g.setColor(color);
+        FontMetrics fm = g.getFontMetrics();
+        int textX = x + (width - fm.stringWidth(text)) / 2;
+        int textY = y + (height - fm.getAscent() - fm.getDescent()) / 2 + fm.getAscent();
+        g.drawString(text, textX, textY);
+    }
+    
+    /**
+     * Overlay de resultado pintado uma vez em imagem e reaproveitado entre rodadas
+     *
+     * Fundo, caixa e textos vão para um {@link CachedPanel} refeito apenas
+     * quando o overlay é aberto de novo (ou a escala muda); os repaints seguintes
+     * custam uma cópia da imagem. Os botões são criados uma única vez.
+     */
+    private abstract class ResultOverlay extends JPanel {
+        private final CachedPanel content = new CachedPanel(this::paintContent);
+        private final boolean showParticles;
+        private long version = 0;
+        
+        ResultOverlay(boolean showParticles) {
+            this.showParticles = showParticles;
+            setLayout(null);
+            setBounds(0, 0, Settings.GAME_WIDTH, Settings.GAME_HEIGHT);
+        }
         
-        // Título
-        JLabel titleLabel = new JLabel("RODADA COMPLETA!", SwingConstants.CENTER);
-        titleLabel.setFont(new Font("Arial", Font.BOLD, 50));
-        titleLabel.setForeground(new Color(100, 255, 100));
-        titleLabel.setBounds(200, 120, 600, 70);
-        overlay.add(titleLabel);
-        
-        // Multiplicador
-        JLabel multLabel = new JLabel("Multiplicador: " + String.format("%.1f", gameState.getMultiplier()) + "x", SwingConstants.CENTER);
-        multLabel.setFont(new Font("Arial", Font.BOLD, 32));
-        multLabel.setForeground(new Color(255, 223, 0));
-        multLabel.setBounds(200, 220, 600, 50);
-        overlay.add(multLabel);
-        
-        // Dinheiro
-        JLabel moneyLabel = new JLabel("Dinheiro: $" + formatValue(gameState.getMoney()), SwingConstants.CENTER);
-        moneyLabel.setFont(new Font("Arial", Font.BOLD, 32));
-        moneyLabel.setForeground(new Color(100, 255, 100));
-        moneyLabel.setBounds(200, 280, 600, 50);
-        overlay.add(moneyLabel);
-        
-        // Botão continuar
-        JButton continueButton = createStyledButton("CONTINUAR", 300, 400);
-        continueButton.addActionListener(e -> {
-            gameState.nextRound();
-            gameState.startNewRound();
-            initialize();
-        });
-        overlay.add(continueButton);
+        /**
+         * Desenha o conteúdo estático do overlay (chamado só ao refazer a imagem)
+         */
+        protected abstract void paintContent(Graphics2D g);
+        
+        void refresh() {
+            version++;
+        }
         
-        // Botão sair
-        JButton exitButton = createStyledButton("SAIR", 500, 400);
-        exitButton.addActionListener(e -> screenManager.changeScreen("menu"));
-        overlay.add(exitButton);
+        void flush() {
+            content.flush();
+        }
         
-        add(overlay);
-        revalidate();
-        repaint();
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2 = (Graphics2D) g;
+            content.draw(g2, 0, 0, getWidth(), getHeight(), version);
+            // Partículas das cartas jogadas continuam por cima do resultado
+            if (showParticles && particles.isActive()) {
+                particles.draw(g2);
+            }
+        }
     }
     
     private JButton createStyledButton(String text, int x, int y) {
-        JButton button = new JButton(text) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                if (getModel().isRollover()) {
-                    g2.setColor(new Color(90, 140, 190, 250));
-                } else {
-                    g2.setColor(new Color(50, 90, 140, 220));
-                }
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 15, 15);
-                
-                g2.setStroke(new BasicStroke(3));
-                g2.setColor(new Color(255, 223, 0));
-                g2.drawRoundRect(2, 2, getWidth() - 5, getHeight() - 5, 15, 15);
-                
-                g2.dispose();
-                super.paintComponent(g);
-            }
-        };
-        
+        SkinnedButton button = new SkinnedButton(text, ButtonSkin.DIALOG);
         button.setBounds(x, y, 180, 50);
-        button.setFont(new Font("Arial", Font.BOLD, 18));
+        button.setFont(STYLED_BUTTON_FONT);
         button.setForeground(Color.WHITE);
-        button.setFocusPainted(false);
-        button.setBorderPainted(false);
-        button.setContentAreaFilled(false);
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        button.setOpaque(false);
-        
         return button;
     }
     
-    private void showHandResultScreen(PokerHand hand, double handMultiplier, boolean isSuccess) {
+    void showHandResultScreen(PokerHand hand, double handMultiplier, boolean isSuccess) {
         removeAll();
         setLayout(null);
         
-        // Overlay com desenho customizado
-        JPanel overlay = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Fundo escuro
-                if (backgroundImage != null) {
-                    g2.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-                }
-                g2.setColor(new Color(0, 0, 0, 200));
-                g2.fillRect(0, 0, getWidth(), getHeight());
-                
-                // Caixa central
-                int boxW = 500;
-                int boxH = 400;
-                int boxX = (getWidth() - boxW) / 2;
-                int boxY = (getHeight() - boxH) / 2;
-                
-                // Sombra da caixa
-                g2.setColor(new Color(0, 0, 0, 100));
-                g2.fillRoundRect(boxX + 10, boxY + 10, boxW, boxH, 30, 30);
-                
-                // Fundo da caixa dinâmico (verde se sucesso, vermelho se falha)
-                Color c1 = isSuccess ? new Color(40, 60, 40) : new Color(60, 40, 40);
-                Color c2 = isSuccess ? new Color(20, 30, 20) : new Color(30, 20, 20);
-                GradientPaint bgPaint = new GradientPaint(boxX, boxY, c1, boxX, boxY + boxH, c2);
-                
-                g2.setPaint(bgPaint);
-                g2.fillRoundRect(boxX, boxY, boxW, boxH, 30, 30);
-                
-                // Borda da caixa
-                g2.setColor(isSuccess ? new Color(100, 150, 100) : new Color(150, 100, 100));
-                g2.setStroke(new BasicStroke(3));
-                g2.drawRoundRect(boxX, boxY, boxW, boxH, 30, 30);
-                
-                // Título
-                g2.setColor(isSuccess ? new Color(150, 255, 200) : new Color(255, 150, 150));
-                g2.setFont(new Font("Arial", Font.BOLD, 20));
-                String title = isSuccess ? "MÃO JOGADA" : "MÃO INSUFICIENTE";
-                int titleW = g2.getFontMetrics().stringWidth(title);
-                g2.drawString(title, boxX + (boxW - titleW) / 2, boxY + 50);
-                
-                // Nome da mão (ex: DOIS PARES)
-                g2.setColor(Color.WHITE);
-                g2.setFont(new Font("Arial", Font.BOLD, 40));
-                String handName = hand.getName().toUpperCase();
-                int handW = g2.getFontMetrics().stringWidth(handName);
-                g2.drawString(handName, boxX + (boxW - handW) / 2, boxY + 110);
-                
-                // Divisória
-                g2.setColor(new Color(255, 255, 255, 50));
-                g2.drawLine(boxX + 50, boxY + 150, boxX + boxW - 50, boxY + 150);
-                
-                // Info
-                if (isSuccess) {
-                    // Multiplicador ganho
-                    g2.setFont(new Font("Arial", Font.PLAIN, 24));
-                    g2.setColor(new Color(200, 200, 200));
-                    String multText = "Bônus: ";
-                    int multLabelW = g2.getFontMetrics().stringWidth(multText);
-                    g2.drawString(multText, boxX + 150, boxY + 200);
-                    
-                    g2.setFont(new Font("Arial", Font.BOLD, 30));
-                    g2.setColor(new Color(100, 255, 100));
-                    String multValue = "+" + String.format("%.1f", handMultiplier) + "x";
-                    g2.drawString(multValue, boxX + 150 + multLabelW, boxY + 200);
-                } else {
-                    // Penalidade
-                    g2.setFont(new Font("Arial", Font.PLAIN, 24));
-                    g2.setColor(new Color(255, 150, 150));
-                    String penText = "Penalidade: ";
-                    int penLabelW = g2.getFontMetrics().stringWidth(penText);
-                    g2.drawString(penText, boxX + 130, boxY + 200);
-                    
-                    g2.setFont(new Font("Arial", Font.BOLD, 30));
-                    g2.setColor(Color.RED);
-                    String penValue = "-" + String.format("%.1f", 0.2 * gameState.getCurrentRound()) + "x";
-                    g2.drawString(penValue, boxX + 130 + penLabelW, boxY + 200);
-                    
-                    g2.setFont(new Font("Arial", Font.PLAIN, 18));
-                    g2.setColor(new Color(255, 200, 200));
-                    String reqText = "Necessário: " + gameState.getRequiredHand().getName();
-                    int reqW = g2.getFontMetrics().stringWidth(reqText);
-                    g2.drawString(reqText, boxX + (boxW - reqW) / 2, boxY + 235);
+        // Estado e textos do resultado, fixados na abertura
+        resultSuccess = isSuccess;
+        resultCanTryAgain = !isSuccess && !gameState.getPlayerHand().isEmpty() && gameState.getHandsPlayed() < gameState.getMaxHands();
+        resultHandName = hand.getName().toUpperCase();
+        resultValueText = isSuccess
+            ? "+" + String.format("%.1f", handMultiplier) + "x"
+            : "-" + String.format("%.1f", 0.2 * gameState.getCurrentRound()) + "x";
+        resultRequiredText = "Necessário: " + gameState.getRequiredHand().getName();
+        resultTotalText = "Total Atual: " + String.format("%.1f", gameState.getMultiplier()) + "x";
+        
+        if (handResultOverlay == null) {
+            handResultOverlay = new ResultOverlay(true) {
+                @Override
+                protected void paintContent(Graphics2D g) {
+                    paintHandResult(g, getWidth(), getHeight());
                 }
-                
-                // Novo Total
-                g2.setFont(new Font("Arial", Font.BOLD, 24));
-                g2.setColor(new Color(255, 223, 0));
-                String totalText = "Total Atual: " + String.format("%.1f", gameState.getMultiplier()) + "x";
-                int totalW = g2.getFontMetrics().stringWidth(totalText);
-                g2.drawString(totalText, boxX + (boxW - totalW) / 2, boxY + 260);
-                
-                g2.dispose();
-            }
-        };
-        overlay.setBounds(0, 0, 1000, 700);
-        overlay.setLayout(null);
-        
-        boolean canTryAgain = !isSuccess && !gameState.getPlayerHand().isEmpty() && gameState.getHandsPlayed() < gameState.getMaxHands();
-        
-        // Botão continuar (centralizado na parte inferior da caixa)
-        String btnText = isSuccess ? "CONTINUAR" : (canTryAgain ? "TENTAR NOVAMENTE" : "FIM DE JOGO");
-        JButton continueButton = createStyledButton(btnText, 400, 530);
-        continueButton.addActionListener(e -> {
-            if (isSuccess) {
-                if (gameState.getCurrentBlind() < 3) {
-                    gameState.nextBlind();
-                    if (!dealInitialHand()) {
-                        return;
+            };
+            
+            // Botão continuar (centralizado na parte inferior da caixa)
+            handResultButton = createStyledButton("", 400, 530);
+            handResultButton.addActionListener(e -> {
+                if (resultSuccess) {
+                    if (gameState.getCurrentBlind() < 3) {
+                        gameState.nextBlind();
+                        if (!dealInitialHand()) {
+                            return;
+                        }
+                        initialize();
+                    } else {
+                        endRound();
                     }
-                    initialize();
-                } else {
-                    endRound();
-                }
-            } else {
-                if (canTryAgain) {
-                    // Tentar novamente: remove cartas selecionadas e redesenha (já removidas no playHand, só limpa seleção)
-                    gameState.getSelectedCards().clear();
-                    initialize();
                 } else {
-                    showGameOverScreen();
+                    if (resultCanTryAgain) {
+                        // Tentar novamente: remove cartas selecionadas e redesenha (já removidas no playHand, só limpa seleção)
+                        gameState.getSelectedCards().clear();
+                        initialize();
+                    } else {
+                        showGameOverScreen();
+                    }
                 }
-            }
-        });
-        overlay.add(continueButton);
-        
-        add(overlay);
-        revalidate();
-        repaint();
+            });
+            handResultOverlay.add(handResultButton);
+        }
+        handResultButton.setText(isSuccess ? "CONTINUAR" : (resultCanTryAgain ? "TENTAR NOVAMENTE" : "FIM DE JOGO"));
+        showOverlay(handResultOverlay);
     }
     
-    private JButton createActionButton(String text, int x, int y, Color baseColor) {
-        JButton button = new JButton(text) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                int w = getWidth();
-                int h = getHeight();
-                
-                // Shadow
-                g2.setColor(new Color(0, 0, 0, 80));
-                g2.fillRoundRect(3, 3, w - 3, h - 3, 20, 20);
-
-                // Variáveis de estado
-                Color c1 = baseColor;
-                Color c2 = baseColor.darker();
-                int yOffset = 0;
-                
-                if (getModel().isPressed()) {
-                    c1 = baseColor.darker();
-                    c2 = baseColor.darker().darker();
-                    yOffset = 2;
-                } else if (getModel().isRollover()) {
-                    c1 = baseColor.brighter();
-                    c2 = baseColor;
-                    yOffset = -1;
-                }
-                
-                // Botão principal
-                GradientPaint gp = new GradientPaint(0, 0, c1, 0, h, c2);
-                g2.setPaint(gp);
-                g2.fillRoundRect(0, yOffset, w - 3, h - 3, 20, 20);
-                
-                // Borda interna brilhante (efeito 3D)
-                g2.setStroke(new BasicStroke(1));
-                g2.setColor(new Color(255, 255, 255, 100));
-                g2.drawRoundRect(1, yOffset + 1, w - 5, h - 5, 18, 18);
-                
-                // Texto com sombra
-                g2.setFont(getFont());
-                FontMetrics fm = g2.getFontMetrics();
-                int textX = (w - 3 - fm.stringWidth(getText())) / 2;
-                int textY = (h - 3 + fm.getAscent() - fm.getDescent()) / 2 + yOffset;
-                
-                g2.setColor(new Color(0, 0, 0, 50));
-                g2.drawString(getText(), textX + 1, textY + 1);
-                
-                g2.setColor(Color.WHITE);
-                g2.drawString(getText(), textX, textY);
-                
-                g2.dispose();
-            }
-        };
+    /**
+     * Caixa do resultado da mão (pintada só quando o overlay é refeito)
+     */
+    private void paintHandResult(Graphics2D g2, int width, int height) {
+        paintDimmedBackground(g2, GAME_OVER_DIM);
+        
+        // Caixa central
+        int boxW = 500;
+        int boxH = 400;
+        int boxX = (width - boxW) / 2;
+        int boxY = (height - boxH) / 2;
+        
+        // Sombra da caixa
+        g2.setColor(new Color(0, 0, 0, 100));
+        g2.fillRoundRect(boxX + 10, boxY + 10, boxW, boxH, 30, 30);
+        
+        // Fundo da caixa dinâmico (verde se sucesso, vermelho se falha)
+        Color c1 = resultSuccess ? new Color(40, 60, 40) : new Color(60, 40, 40);
+        Color c2 = resultSuccess ? new Color(20, 30, 20) : new Color(30, 20, 20);
+        g2.setPaint(new GradientPaint(boxX, boxY, c1, boxX, boxY + boxH, c2));
+        g2.fillRoundRect(boxX, boxY, boxW, boxH, 30, 30);
+        
+        // Borda da caixa
+        g2.setColor(resultSuccess ? new Color(100, 150, 100) : new Color(150, 100, 100));
+        g2.setStroke(STROKE_3);
+        g2.drawRoundRect(boxX, boxY, boxW, boxH, 30, 30);
+        
+        // Título
+        g2.setColor(resultSuccess ? new Color(150, 255, 200) : new Color(255, 150, 150));
+        g2.setFont(new Font("Arial", Font.BOLD, 20));
+        String title = resultSuccess ? "MÃO JOGADA" : "MÃO INSUFICIENTE";
+        int titleW = g2.getFontMetrics().stringWidth(title);
+        g2.drawString(title, boxX + (boxW - titleW) / 2, boxY + 50);
+        
+        // Nome da mão (ex: DOIS PARES)
+        g2.setColor(Color.WHITE);
+        g2.setFont(new Font("Arial", Font.BOLD, 40));
+        int handW = g2.getFontMetrics().stringWidth(resultHandName);
+        g2.drawString(resultHandName, boxX + (boxW - handW) / 2, boxY + 110);
+        
+        // Divisória
+        g2.setColor(new Color(255, 255, 255, 50));
+        g2.drawLine(boxX + 50, boxY + 150, boxX + boxW - 50, boxY + 150);
+        
+        // Info
+        if (resultSuccess) {
+            // Multiplicador ganho
+            g2.setFont(new Font("Arial", Font.PLAIN, 24));
+            g2.setColor(new Color(200, 200, 200));
+            String multText = "Bônus: ";
+            int multLabelW = g2.getFontMetrics().stringWidth(multText);
+            g2.drawString(multText, boxX + 150, boxY + 200);
+            
+            g2.setFont(new Font("Arial", Font.BOLD, 30));
+            g2.setColor(new Color(100, 255, 100));
+            g2.drawString(resultValueText, boxX + 150 + multLabelW, boxY + 200);
+        } else {
+            // Penalidade
+            g2.setFont(new Font("Arial", Font.PLAIN, 24));
+            g2.setColor(new Color(255, 150, 150));
+            String penText = "Penalidade: ";
+            int penLabelW = g2.getFontMetrics().stringWidth(penText);
+            g2.drawString(penText, boxX + 130, boxY + 200);
+            
+            g2.setFont(new Font("Arial", Font.BOLD, 30));
+            g2.setColor(Color.RED);
+            g2.drawString(resultValueText, boxX + 130 + penLabelW, boxY + 200);
+            
+            g2.setFont(new Font("Arial", Font.PLAIN, 18));
+            g2.setColor(new Color(255, 200, 200));
+            int reqW = g2.getFontMetrics().stringWidth(resultRequiredText);
+            g2.drawString(resultRequiredText, boxX + (boxW - reqW) / 2, boxY + 235);
+        }
         
+        // Novo Total
+        g2.setFont(new Font("Arial", Font.BOLD, 24));
+        g2.setColor(new Color(255, 223, 0));
+        int totalW = g2.getFontMetrics().stringWidth(resultTotalText);
+        g2.drawString(resultTotalText, boxX + (boxW - totalW) / 2, boxY + 260);
+    }
+    
+    private SkinnedButton createActionButton(String text, int x, int y, Color baseColor) {
+        SkinnedButton button = new SkinnedButton(text, ButtonSkin.raised(baseColor));
         button.setBounds(x, y, 160, 50);
-        button.setFont(new Font("Arial", Font.BOLD, 18));
+        button.setFont(STYLED_BUTTON_FONT);
         button.setForeground(Color.WHITE);
-        button.setFocusPainted(false);
-        button.setBorderPainted(false);
-        button.setContentAreaFilled(false);
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        
         return button;
     }
     
     @Override
     public void update() {
+        // Chamado pelo GameLoop a cada passo fixo; a pausa congela tudo de uma vez
+        if (paused) return;
+        
+        cutscenes.update(GameLoop.STEP_MS);
+        if (rouletteState == RouletteState.LOADING || rouletteState == RouletteState.READY_TO_SPIN) {
+            prerenderSpinFrames(SPIN_PRERENDER_PER_STEP);
+        }
+        if (rouletteState == RouletteState.SPINNING) {
+            updateSpinPhysics();
+        }
+        if (particles.isActive()) {
+            particles.update(GameLoop.STEP_MS);
+            dirty.add(particles.getDirtyBounds());
+        }
+        
+        // A troca de faixa acontece depois do fade, fora do clique
+        String trackName = SoundManager.getInstance().getCurrentTrackName();
+        if (!trackName.equals(lastTrackName)) {
+            lastTrackName = trackName;
+            dirty.add(radioRegion);
+        }
     }
     
     @Override
@@ -1330,37 +1524,50 @@ public class GameScreen extends Screen {
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         
-        // Recalcula áreas das cartas se necessário
-        if (cardAreas.isEmpty() && !gameState.getPlayerHand().isEmpty()) {
+        // Recalcula áreas das cartas se a mão ou a largura da tela mudaram
+        if (cardAreas.size() != gameState.getPlayerHand().size() || cardAreasWidth != getWidth()) {
             updateCardAreas();
         }
         
-        if (backgroundImage != null) {
-            g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-        } else {
-            // Fundo gradiente caso a imagem falhe
-            GradientPaint bgGradient = new GradientPaint(0, 0, new Color(20, 40, 60), 0, getHeight(), new Color(10, 20, 30));
-            g.setPaint(bgGradient);
-            g.fillRect(0, 0, getWidth(), getHeight());
-        }
+        // Só desenha os elementos que intersectam a região sendo repintada
+        // (sem clip, getClipBounds(Rectangle) não altera o retângulo)
+        clipScratch.setBounds(0, 0, getWidth(), getHeight());
+        Rectangle clip = g.getClipBounds(clipScratch);
+        
+        // Fundo e molduras estáticas (pré-compostos em cache)
+        staticLayer.draw(g, this);
         
         // --- Painel Esquerdo (Status) ---
-        drawStatusPanel(g, 30, 30);
+        if (isVisible(clip, statusRegion)) {
+            drawCached(g, statusPanel, statusRegion, statusKey());
+        }
         
         // --- Painel Central (Mão Necessária) ---
-        drawRequiredHandPanel(g);
+        if (isVisible(clip, requiredRegion())) {
+            drawCached(g, requiredPanel, requiredRegion, requiredKey());
+        }
         
         // --- Painel Direito (Dinheiro) ---
-        drawMoneyPanel(g);
+        if (isVisible(clip, moneyRegion())) {
+            drawCached(g, moneyPanel, moneyRegion, moneyKey());
+        }
         
         // --- Jukebox Radio ---
-        drawRadio(g);
+        if (isVisible(clip, radioRegion)) {
+            drawCached(g, radioPanel, radioRegion, radioKey());
+        }
 
         // --- Deck Draw ---
-        drawDeck(g);
+        if (isVisible(clip, deckRegion)) {
+            drawDeck(g);
+        }
 
-        drawPlayerHand(g);
-        drawOrderControls(g);
+        if (isVisible(clip, handRegion())) {
+            drawPlayerHand(g);
+        }
+        if (isVisible(clip, orderControlsRegion())) {
+            drawCached(g, orderControlsPanel, orderControlsRegion, orderControlsKey());
+        }
         if (paused) {
             drawPauseOverlay(g);
         }
@@ -1368,25 +1575,103 @@ public class GameScreen extends Screen {
         if (rouletteState != RouletteState.NONE) {
             drawRouletteOverlay(g);
         }
+        if (particles.isActive()) {
+            particles.draw(g);
+        }
     }
 
-    private void drawRadio(Graphics2D g) {
-        // Posição: Abaixo do painel de estatísticas (Esquerda)
-        int width = 250;
-        int height = 80;
-        int x = 30; // Alinhado à esquerda (mesmo x do status panel)
-        int y = 230; // Abaixo do status panel (que vai até y=215) + margem
-        
-        // Background Metálico/Preto (Chassis)
-        GradientPaint metal = new GradientPaint(x, y, new Color(40, 40, 40), x, y + height, new Color(10, 10, 10));
-        g.setPaint(metal);
-        g.fillRoundRect(x, y, width, height, 10, 10);
-        g.setColor(new Color(150, 150, 150));
-        g.setStroke(new BasicStroke(3));
-        g.drawRoundRect(x, y, width, height, 10, 10);
-        
-        // Detalhe Cromado Frontal (Grade)
-        g.setColor(new Color(60, 60, 60));
+    private static void drawCached(Graphics2D g, CachedPanel panel, Rectangle region, long key) {
+        panel.draw(g, region.x, region.y, region.width, region.height, key);
+    }
+
+    // Chaves dos painéis em cache: soma das versões dos textos (cada uma só
+    // cresce) seguida dos estados booleanos em bits baixos
+
+    private long statusKey() {
+        roundText.of(gameState.getCurrentRound());
+        blindText.of(gameState.getCurrentBlind());
+        handsText();
+        discardsText.of(gameState.getDiscards());
+        multiplierText.of(gameState.getMultiplier());
+        return (long) roundText.version + blindText.version + handsVersion + discardsText.version + multiplierText.version;
+    }
+
+    private long requiredKey() {
+        int currentProjected = (int)(gameState.getMoney() * gameState.getMultiplier());
+        boolean isReached = currentProjected >= gameState.getTargetMoney();
+        targetText.of(gameState.getTargetMoney());
+        projectedText.of(currentProjected);
+        long versions = (long) targetText.version + projectedText.version;
+        return ((versions << 5 | gameState.getRequiredHand().ordinal()) << 1) | (isReached ? 1 : 0);
+    }
+
+    private long moneyKey() {
+        moneyText.of(gameState.getMoney());
+        boolean enabled = pauseButton != null && pauseButton.isEnabled();
+        boolean hover = hoverTracker.isHovered(HOVER_PAUSE);
+        return ((long) moneyText.version << 3) | (enabled ? 4 : 0) | (hover ? 2 : 0) | (paused ? 1 : 0);
+    }
+
+    private long radioKey() {
+        String trackName = SoundManager.getInstance().getCurrentTrackName();
+        if (!trackName.equals(radioTextSource)) {
+            radioTextSource = trackName;
+            radioText = null; // Truncado no próximo desenho (precisa da fonte)
+            radioVersion++;
+        }
+        boolean prevHover = hoverTracker.isHovered(HOVER_RADIO_PREV);
+        boolean nextHover = hoverTracker.isHovered(HOVER_RADIO_NEXT);
+        return ((long) radioVersion << 2) | (prevHover ? 2 : 0) | (nextHover ? 1 : 0);
+    }
+
+    private long orderControlsKey() {
+        long key = 0;
+        if (sortOrderButton != null && sortOrderButton.isEnabled()) {
+            key |= hoverTracker.isHovered(HOVER_SORT) ? 3 : 1;
+        }
+        if (restoreOrderButton != null && restoreOrderButton.isEnabled()) {
+            key |= hoverTracker.isHovered(HOVER_RESTORE) ? 12 : 4;
+        }
+        return key;
+    }
+
+    /**
+     * Desenha o conteúdo que não muda entre frames: fundo, molduras dos painéis,
+     * chassi do rádio e imagem do deck. Só é chamado quando a camada é refeita.
+     */
+    private void paintStaticLayer(Graphics2D g, int width, int height) {
+        if (backgroundImage != null) {
+            g.drawImage(backgroundImage, 0, 0, width, height, null);
+        } else {
+            // Fundo gradiente caso a imagem falhe
+            GradientPaint bgGradient = new GradientPaint(0, 0, new Color(20, 40, 60), 0, height, new Color(10, 20, 30));
+            g.setPaint(bgGradient);
+            g.fillRect(0, 0, width, height);
+        }
+        
+        drawStatusPanelChrome(g, 30, 30);
+        drawRequiredHandPanelChrome(g, width);
+        drawRadioChassis(g);
+        drawDeckChrome(g);
+    }
+
+    private void drawRadioChassis(Graphics2D g) {
+        // Posição: Abaixo do painel de estatísticas (Esquerda)
+        int width = 250;
+        int height = 80;
+        int x = 30; // Alinhado à esquerda (mesmo x do status panel)
+        int y = 230; // Abaixo do status panel (que vai até y=215) + margem
+        
+        // Background Metálico/Preto (Chassis)
+        GradientPaint metal = new GradientPaint(x, y, new Color(40, 40, 40), x, y + height, new Color(10, 10, 10));
+        g.setPaint(metal);
+        g.fillRoundRect(x, y, width, height, 10, 10);
+        g.setColor(new Color(150, 150, 150));
+        g.setStroke(new BasicStroke(3));
+        g.drawRoundRect(x, y, width, height, 10, 10);
+        
+        // Detalhe Cromado Frontal (Grade)
+        g.setColor(new Color(60, 60, 60));
         for(int i=5; i<height-5; i+=4) {
              g.drawLine(x+5, y+i, x+30, y+i); // Grade Esq
              g.drawLine(x+width-30, y+i, x+width-5, y+i); // Grade Dir
@@ -1412,17 +1697,37 @@ public class GameScreen extends Screen {
         g.setColor(new Color(50, 80, 50)); // Borda
         g.drawRect(displayX, displayY, displayW, displayH);
         
+        // LED de Status
+        g.setColor(Color.RED);
+        g.fillOval(x + width - 50, y + 15, 6, 6);
+    }
+
+    private void drawRadio(Graphics2D g) {
+        // Mesma geometria de drawRadioChassis (o chassi vem da camada estática)
+        int width = 250;
+        int x = 30;
+        int y = 230;
+        int displayW = 120;
+        int displayH = 40;
+        int displayX = x + (width - displayW) / 2;
+        int displayY = y + 10;
+        
         // Texto Display
-        g.setFont(new Font("Consolas", Font.BOLD, 12));
-        g.setColor(new Color(100, 255, 100)); // Verde Matrix
+        g.setFont(RADIO_FONT);
+        g.setColor(RADIO_TEXT); // Verde Matrix
         FontMetrics fm = g.getFontMetrics();
-        // Scroll simulado ou crop
-        String drawStr = SoundManager.getInstance().getCurrentTrackName();
-        if (fm.stringWidth(drawStr) > displayW - 10) {
-            // Safety check for substring
-            int cutIndex = Math.min(drawStr.length(), 15);
-            drawStr = drawStr.substring(0, cutIndex) + "...";
+        // Scroll simulado ou crop (refeito só quando a faixa muda, ver radioKey)
+        if (radioText == null) {
+            String trackName = SoundManager.getInstance().getCurrentTrackName();
+            radioTextSource = trackName;
+            radioText = trackName;
+            if (fm.stringWidth(trackName) > displayW - 10) {
+                // Safety check for substring
+                int cutIndex = Math.min(trackName.length(), 15);
+                radioText = trackName.substring(0, cutIndex) + "...";
+            }
         }
+        String drawStr = radioText;
         int tx = displayX + (displayW - fm.stringWidth(drawStr)) / 2;
         int ty = displayY + (displayH + fm.getAscent()) / 2 - 2;
         g.drawString(drawStr, tx, ty);
@@ -1434,31 +1739,27 @@ public class GameScreen extends Screen {
         int prevX = displayX;
         int nextX = displayX + displayW - btnW;
         
-        // Define Hitboxes
-        radioPrevRect = new Rectangle(prevX, btnY, btnW, btnH);
-        radioNextRect = new Rectangle(nextX, btnY, btnW, btnH);
+        // Hitboxes fixas (as mesmas registradas no HoverTracker)
+        radioPrevRect.setBounds(prevX, btnY, btnW, btnH);
+        radioNextRect.setBounds(nextX, btnY, btnW, btnH);
         
         // Desenha botão Anterior
-        drawRadioButton(g, radioPrevRect, "<<");
+        drawRadioButton(g, radioPrevRect, "<<", HOVER_RADIO_PREV);
         
         // Desenha botão Próximo
-        drawRadioButton(g, radioNextRect, ">>");
-        
-        // LED de Status
-        g.setColor(Color.RED);
-        g.fillOval(x + width - 50, y + 15, 6, 6);
+        drawRadioButton(g, radioNextRect, ">>", HOVER_RADIO_NEXT);
     }
     
-    private void drawRadioButton(Graphics2D g, Rectangle rect, String symbol) {
-        boolean hover = mousePos != null && rect.contains(mousePos) && rouletteState == RouletteState.NONE;
+    private void drawRadioButton(Graphics2D g, Rectangle rect, String symbol, int hoverId) {
+        boolean hover = hoverTracker.isHovered(hoverId);
         
-        g.setColor(hover ? new Color(80, 80, 80) : new Color(40, 40, 40));
-        g.fill(rect);
-        g.setColor(new Color(150, 150, 150));
-        g.draw(rect);
+        g.setColor(hover ? RADIO_BUTTON_HOVER : RADIO_BUTTON);
+        g.fillRect(rect.x, rect.y, rect.width, rect.height);
+        g.setColor(RADIO_BUTTON_BORDER);
+        g.drawRect(rect.x, rect.y, rect.width, rect.height);
         
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 12));
+        g.setFont(RADIO_BUTTON_FONT);
         FontMetrics fm = g.getFontMetrics();
         int sx = rect.x + (rect.width - fm.stringWidth(symbol)) / 2;
         int sy = rect.y + (rect.height + fm.getAscent()) / 2 - 2;
@@ -1467,7 +1768,7 @@ public class GameScreen extends Screen {
 
     private void drawRouletteOverlay(Graphics2D g) {
         // Overlay escuro
-        g.setColor(new Color(0, 0, 0, 220));
+        g.setColor(ROULETTE_DIM);
         g.fillRect(0, 0, getWidth(), getHeight());
         
         int cx = getWidth() / 2;
@@ -1475,21 +1776,7 @@ public class GameScreen extends Screen {
         
         if (rouletteState == RouletteState.WARNING) {
             // Caixa de Aviso
-            g.setColor(new Color(50, 20, 20));
-            g.fillRoundRect(cx - 250, cy - 150, 500, 300, 20, 20);
-            g.setColor(new Color(200, 50, 50));
-            g.setStroke(new BasicStroke(3));
-            g.drawRoundRect(cx - 250, cy - 150, 500, 300, 20, 20);
-            
-            g.setFont(new Font("Arial", Font.BOLD, 36));
-            g.setColor(new Color(255, 80, 80));
-            drawCenteredText(g, "RISCO EXTREMO", cy - 100);
-            
-            g.setFont(new Font("Arial", Font.PLAIN, 18));
-            g.setColor(Color.WHITE);
-            drawCenteredText(g, "O dado definirá o número de balas no tambor.", cy - 50);
-            drawCenteredText(g, "Se morrer, FIM DE JOGO.", cy - 20);
-            drawCenteredText(g, "Se viver, MULTIPLICADOR INSANO e Vitória.", cy + 10);
+            drawRouletteBox(g, cx, cy);
             
             // Render Buttons manually since they are not in component hierarchy properly during overlay paint usually but here we added action listeners
             // Let's manually position and draw them here, but we need to ensure they are added to layout or handled via mouse clicks.
@@ -1501,13 +1788,8 @@ public class GameScreen extends Screen {
             rouletteCancelButton.setBounds(cx + 10, cy + 60, 200, 50);
             
             // "Paint" them by delegating
-            g.translate(rouletteConfirmButton.getX(), rouletteConfirmButton.getY());
-            rouletteConfirmButton.paint(g);
-            g.translate(-rouletteConfirmButton.getX(), -rouletteConfirmButton.getY());
-            
-            g.translate(rouletteCancelButton.getX(), rouletteCancelButton.getY());
-            rouletteCancelButton.paint(g);
-            g.translate(-rouletteCancelButton.getX(), -rouletteCancelButton.getY());
+            rouletteConfirmButton.paintCached(g);
+            rouletteCancelButton.paintCached(g);
             
             // Add to component list if not there? 
             // In swing, painting doesn't add interaction. 
@@ -1526,27 +1808,20 @@ public class GameScreen extends Screen {
                 revalidate();
             }
 
-            g.setFont(new Font("Arial", Font.BOLD, 40));
-            g.setColor(new Color(142, 68, 173));
-            drawCenteredText(g, "Rolando o dado...", cy - 100);
+            drawRouletteTitle(g, cy);
             
             // Desenha o dado no centro
             int diceSize = 128;
-            g.setColor(new Color(142, 68, 173, 100)); // Roxo brilhante
-            g.fillOval(cx - diceSize/2 - 20, cy - diceSize/2 - 20, diceSize + 40, diceSize + 40);
+            diceGlowPanel.draw(g, cx - diceSize/2 - 21, cy - diceSize/2 - 21, diceSize + 42, diceSize + 42, 0);
             diceRenderer.drawFace(g, diceAnimationFrame, cx - diceSize/2, cy - diceSize/2, diceSize, diceSize);
             
         } else if (rouletteState == RouletteState.LOADING) {
-             g.setFont(new Font("Arial", Font.BOLD, 40));
-             g.setColor(new Color(231, 76, 60));
-             drawCenteredText(g, "Carregando " + diceAnimationResult + " bala(s)...", cy - 200);
+             drawRouletteTitle(g, cy);
              
-             drawCylinder(g, cx, cy, 0, loadingBulletIndex);
+             drawCylinder(g, cx, cy, loadingBulletIndex);
 
         } else if (rouletteState == RouletteState.READY_TO_SPIN) {
-             g.setFont(new Font("Arial", Font.BOLD, 40));
-             g.setColor(new Color(46, 204, 113));
-             drawCenteredText(g, "Pronto para Girar!", cy - 200);
+             drawRouletteTitle(g, cy);
              
              drawRouletteHUD(g, cx, cy); // HUD lateral
              drawClosedDrumOverlay(g, cx, cy, 0, 0.0, true, false); 
@@ -1556,32 +1831,24 @@ public class GameScreen extends Screen {
                  add(rouletteConfirmButton);
                  revalidate();
              }
-             g.translate(rouletteConfirmButton.getX(), rouletteConfirmButton.getY());
-             rouletteConfirmButton.paint(g);
-             g.translate(-rouletteConfirmButton.getX(), -rouletteConfirmButton.getY());
+             rouletteConfirmButton.paintCached(g);
 
         } else if (rouletteState == RouletteState.SPINNING) {
-             g.setFont(new Font("Arial", Font.BOLD, 40));
-             g.setColor(new Color(231, 76, 60));
-             drawCenteredText(g, "Girando...", cy - 200);
+             drawRouletteTitle(g, cy);
              
              drawRouletteHUD(g, cx, cy); // HUD lateral
-                boolean revealBullets = System.currentTimeMillis() < bulletRevealUntil || spinCoverAlpha < 0.35;
-                 drawClosedDrumOverlay(g, cx, cy, cylinderAngle, spinCoverAlpha, revealBullets, false);
+             boolean revealBullets = cutscenes.now() < bulletRevealUntil || spinCoverAlpha < 0.35;
+             drawClosedDrumOverlay(g, cx, cy, cylinderAngle, spinCoverAlpha, revealBullets, false);
 
              rouletteConfirmButton.setBounds(cx - 100, cy + 150, 200, 50);
              if (rouletteConfirmButton.getParent() != this) {
                  add(rouletteConfirmButton);
                  revalidate();
              }
-             g.translate(rouletteConfirmButton.getX(), rouletteConfirmButton.getY());
-             rouletteConfirmButton.paint(g);
-             g.translate(-rouletteConfirmButton.getX(), -rouletteConfirmButton.getY());
+             rouletteConfirmButton.paintCached(g);
 
         } else if (rouletteState == RouletteState.READY_TO_SHOOT) {
-             g.setFont(new Font("Arial", Font.BOLD, 40));
-             g.setColor(new Color(255, 50, 50));
-             drawCenteredText(g, "PRONTO PARA ATIRAR", cy - 200);
+             drawRouletteTitle(g, cy);
              
              drawRouletteHUD(g, cx, cy); // HUD lateral
              drawClosedDrumOverlay(g, cx, cy, cylinderAngle, 1.0, false, true);
@@ -1591,84 +1858,32 @@ public class GameScreen extends Screen {
                  add(rouletteConfirmButton);
                  revalidate();
              }
-             g.translate(rouletteConfirmButton.getX(), rouletteConfirmButton.getY());
-             rouletteConfirmButton.paint(g);
-             g.translate(-rouletteConfirmButton.getX(), -rouletteConfirmButton.getY());
+             rouletteConfirmButton.paintCached(g);
              
         } else if (rouletteState == RouletteState.SHOOTING) {
              if (rouletteConfirmButton.getParent() == this) {
                  remove(rouletteConfirmButton);
              }
-             g.setFont(new Font("Arial", Font.BOLD, 40));
-             g.setColor(new Color(255, 50, 50));
-             drawCenteredText(g, "Puxando o Gatilho...", cy - 150);
+             drawRouletteTitle(g, cy);
 
-             if (revolverImage != null) {
-                 int revW = 300;
-                 int revH = (int)((double)revW / revolverImage.getWidth(null) * revolverImage.getHeight(null));
-                 
-                 // Efeito de tremer (shake)
-                 int offsetX = (int)(Math.random() * 6 - 3);
-                 int offsetY = (int)(Math.random() * 6 - 3);
-                 
-                 Graphics2D g2d = (Graphics2D) g.create();
-                 g2d.translate(cx + offsetX, cy + offsetY);
-                 g2d.drawImage(revolverImage, -revW/2, -revH/2, revW, revH, null);
-                 g2d.dispose();
-             }
+             // Efeito de tremer (shake), sorteado a cada quadro da cutscene
+             drawRevolver(g, cx, cy, shakeX, shakeY);
 
         } else if (rouletteState == RouletteState.FIRING) {
-             // Configurações base
-             int revW = 300;
-             int revH = 0;
-             if (revolverImage != null) {
-                 revH = (int)((double)revW / revolverImage.getWidth(null) * revolverImage.getHeight(null));
-             }
-
              if (roundDied) {
                  // --- Animação de Tiro (BANG) ---
-                 // Efeito de Recuo (Arma sobe e rotaciona levemente)
-                 int recoilY = -Math.min(firingFrame * 15, 60); // Sobe até 60px
-                 double recoilRot = Math.toRadians(-Math.min(firingFrame * 2, 10)); // Gira um pouco para trás
+                 // Arma em recuo e clarão: uma pose pronta por quadro até o recuo parar
+                 int pose = Math.min(firingFrame, FIRING_POSES - 1);
+                 firingPanels[pose].draw(g, cx - 302, cy - 342, 604, 604, 0);
                  
-                 Graphics2D gGun = (Graphics2D) g.create();
-                 gGun.translate(cx, cy + recoilY);
-                 gGun.rotate(recoilRot);
-                 if (revolverImage != null) {
-                    gGun.drawImage(revolverImage, -revW/2, -revH/2, revW, revH, null);
-                 }
-                 gGun.dispose();
-
-                 // Clarão do disparo (Explosão)
-                 if (firingFrame < 5) {
-                     int flashSize = 100 + firingFrame * 50;
-                     // Camada externa vermelha
-                     g.setColor(new Color(255, 50, 0, 200));
-                     g.fillOval(cx - flashSize, cy - flashSize - 40, flashSize * 2, flashSize * 2);
-                     // Miolo amarelo/branco
-                     g.setColor(new Color(255, 255, 100, 255));
-                     g.fillOval(cx - flashSize/2, cy - flashSize/2 - 40, flashSize, flashSize);
-                 } else {
-                     // Fumaça pós-tiro
-                     g.setColor(new Color(100, 100, 100, 150 - (firingFrame-5) * 10));
-                     g.fillOval(cx - 50, cy - 100 - firingFrame * 5, 100 + firingFrame * 2, 80 + firingFrame * 2);
-                 }
-                 
-                 // Texto "BANG!" Vibrante
-                 int shakeX = (int)(Math.random() * 10 - 5);
-                 int shakeY = (int)(Math.random() * 10 - 5);
-                 g.setFont(new Font("Impact", Font.ITALIC | Font.BOLD, 120));
-                 
-                 // Sombra do texto
-                 g.setColor(Color.BLACK);
-                 drawCenteredText(g, "BANG!", cy + 25 + shakeY);
-                 // Texto principal
-                 g.setColor(new Color(255, 20, 20));
-                 drawCenteredText(g, "BANG!", cy + 20 + shakeY);
+                 // Texto "BANG!" Vibrante (sombra e texto na mesma imagem)
+                 g.translate(0, shakeY);
+                 bangPanel.draw(g, 0, cy - 110, getWidth(), 180, 0);
+                 g.translate(0, -shakeY);
                  
                  // Overlay de impacto (Tela vermelha piscando)
                  if (firingFrame % 2 == 0) {
-                    g.setColor(new Color(255, 0, 0, 80));
+                    g.setColor(IMPACT_OVERLAY);
                     g.fillRect(0, 0, getWidth(), getHeight());
                  }
                  
@@ -1677,65 +1892,26 @@ public class GameScreen extends Screen {
                  // Arma apenas "soluça" (vibra rápido sem sair do lugar)
                  int jiggleY = (firingFrame < 3) ? 5 : 0;
                  
-                 if (revolverImage != null) {
-                     g.drawImage(revolverImage, cx - revW/2, cy - revH/2 + jiggleY, revW, revH, null);
-                 }
-                 
-                 // Texto "click" mais sutil e mecanizado
-                 g.setFont(new Font("Courier New", Font.BOLD, 32));
-                 g.setColor(new Color(180, 180, 180));
+                 drawRevolver(g, cx, cy, 0, jiggleY);
                  
-                 int textY = cy - 80 - firingFrame * 2;
-                 drawCenteredText(g, "* click *", textY);
-                 
-                 // "Puff" minúsculo de mecanismo seco
-                 if (firingFrame < 10) {
-                     g.setColor(new Color(200, 200, 200, 100 - firingFrame * 10));
-                     g.drawOval(cx - 10 - firingFrame, cy - 60 - firingFrame, 20 + firingFrame*2, 20 + firingFrame*2);
-                 }
+                 // Texto "click" mais sutil e mecanizado, subindo a cada quadro
+                 int rise = firingFrame * 2;
+                 g.translate(0, -rise);
+                 clickPanel.draw(g, 0, cy - 120, getWidth(), 52, 0);
+                 g.translate(0, rise);
+                 // O "puff" de mecanismo seco vem do sistema de partículas
              }
 
         } else if (rouletteState == RouletteState.RESULT) {
              // Caixa de Resultado
-            Color bg;
-            Color border;
-            Color titleColor;
-            String titleText;
-            if (rouletteSixPenalty) {
-                bg = new Color(50, 45, 15);
-                border = new Color(220, 200, 80);
-                titleColor = new Color(240, 220, 120);
-                titleText = "AVISO";
-            } else {
-                bg = rouletteSuccess ? new Color(20, 50, 20) : new Color(50, 20, 20);
-                border = rouletteSuccess ? new Color(50, 200, 50) : new Color(200, 50, 50);
-                titleColor = rouletteSuccess ? new Color(100, 255, 100) : new Color(255, 50, 50);
-                titleText = rouletteSuccess ? "SOBREVIVEU!" : "GAME OVER";
-            }
-            
-            g.setColor(bg);
-            g.fillRoundRect(cx - 250, cy - 150, 500, 300, 20, 20);
-            g.setColor(border);
-            g.setStroke(new BasicStroke(3));
-            g.drawRoundRect(cx - 250, cy - 150, 500, 300, 20, 20);
-            
-            g.setFont(new Font("Arial", Font.BOLD, 42));
-            g.setColor(titleColor);
-            drawCenteredText(g, titleText, cy - 80);
-            
-            g.setFont(new Font("Arial", Font.BOLD, 20));
-            g.setColor(Color.WHITE);
-            drawCenteredText(g, rouletteResultText, cy);
+            drawRouletteBox(g, cx, cy);
             
             // Removemos o dado do resultado conforme solicitado
             // int diceSize = 64;
             // diceRenderer.drawFace(g, diceAnimationResult, cx - diceSize/2, cy - 160, diceSize, diceSize);
 
             rouletteContinueButton.setBounds(cx - 100, cy + 80, 200, 50);
-            
-            g.translate(rouletteContinueButton.getX(), rouletteContinueButton.getY());
-            rouletteContinueButton.paint(g);
-            g.translate(-rouletteContinueButton.getX(), -rouletteContinueButton.getY());
+            rouletteContinueButton.paintCached(g);
             
             if (rouletteContinueButton.getParent() != this) {
                add(rouletteContinueButton);
@@ -1743,11 +1919,226 @@ public class GameScreen extends Screen {
             }
         }
     }
+
+    /**
+     * Título da fase atual da roleta, refeito só quando a fase ou o texto mudam
+     */
+    private void drawRouletteTitle(Graphics2D g, int cy) {
+        long key = rouletteState.ordinal();
+        if (rouletteState == RouletteState.LOADING) {
+            loadingText.of(diceAnimationResult);
+            key |= (long) loadingText.version << 8;
+        }
+        rouletteTitlePanel.draw(g, 0, cy - 245, getWidth(), 160, key);
+    }
+
+    private void paintRouletteTitle(Graphics2D g) {
+        int cy = getHeight() / 2;
+        g.setFont(ROULETTE_TITLE_FONT);
+        switch (rouletteState) {
+            case ROLLING -> {
+                g.setColor(ROULETTE_ROLLING);
+                drawCenteredText(g, "Rolando o dado...", cy - 100);
+            }
+            case LOADING -> {
+                g.setColor(ROULETTE_TITLE_RED);
+                drawCenteredText(g, loadingText.of(diceAnimationResult), cy - 200);
+            }
+            case READY_TO_SPIN -> {
+                g.setColor(ROULETTE_TITLE_GREEN);
+                drawCenteredText(g, "Pronto para Girar!", cy - 200);
+            }
+            case SPINNING -> {
+                g.setColor(ROULETTE_TITLE_RED);
+                drawCenteredText(g, "Girando...", cy - 200);
+            }
+            case READY_TO_SHOOT -> {
+                g.setColor(ROULETTE_DANGER);
+                drawCenteredText(g, "PRONTO PARA ATIRAR", cy - 200);
+            }
+            case SHOOTING -> {
+                g.setColor(ROULETTE_DANGER);
+                drawCenteredText(g, "Puxando o Gatilho...", cy - 150);
+            }
+            default -> { }
+        }
+    }
+
+    /**
+     * Caixa de aviso ou de resultado, refeita só quando a fase ou o texto mudam
+     */
+    private void drawRouletteBox(Graphics2D g, int cx, int cy) {
+        long key = (long) rouletteState.ordinal() << 2
+            | (rouletteSixPenalty ? 2 : 0) | (rouletteSuccess ? 1 : 0);
+        if (rouletteResultText != null) {
+            key |= (long) rouletteResultText.hashCode() << 32;
+        }
+        rouletteBoxPanel.draw(g, cx - 252, cy - 152, 504, 304, key);
+    }
+
+    private void paintRouletteBox(Graphics2D g) {
+        int cx = getWidth() / 2;
+        int cy = getHeight() / 2;
+        if (rouletteState == RouletteState.WARNING) {
+            g.setColor(RESULT_FAIL_BG);
+            g.fillRoundRect(cx - 250, cy - 150, 500, 300, 20, 20);
+            g.setColor(RESULT_FAIL_BORDER);
+            g.setStroke(STROKE_3);
+            g.drawRoundRect(cx - 250, cy - 150, 500, 300, 20, 20);
+            
+            g.setFont(ROULETTE_WARNING_FONT);
+            g.setColor(ROULETTE_WARNING_TITLE);
+            drawCenteredText(g, "RISCO EXTREMO", cy - 100);
+            
+            g.setFont(ROULETTE_TEXT_FONT);
+            g.setColor(Color.WHITE);
+            drawCenteredText(g, "O dado definirá o número de balas no tambor.", cy - 50);
+            drawCenteredText(g, "Se morrer, FIM DE JOGO.", cy - 20);
+            drawCenteredText(g, "Se viver, MULTIPLICADOR INSANO e Vitória.", cy + 10);
+            return;
+        }
+
+        Color bg;
+        Color border;
+        Color titleColor;
+        String titleText;
+        if (rouletteSixPenalty) {
+            bg = RESULT_WARNING_BG;
+            border = RESULT_WARNING_BORDER;
+            titleColor = RESULT_WARNING_TITLE;
+            titleText = "AVISO";
+        } else {
+            bg = rouletteSuccess ? RESULT_SUCCESS_BG : RESULT_FAIL_BG;
+            border = rouletteSuccess ? RESULT_SUCCESS_BORDER : RESULT_FAIL_BORDER;
+            titleColor = rouletteSuccess ? RESULT_SUCCESS_TITLE : ROULETTE_DANGER;
+            titleText = rouletteSuccess ? "SOBREVIVEU!" : "GAME OVER";
+        }
+        
+        g.setColor(bg);
+        g.fillRoundRect(cx - 250, cy - 150, 500, 300, 20, 20);
+        g.setColor(border);
+        g.setStroke(STROKE_3);
+        g.drawRoundRect(cx - 250, cy - 150, 500, 300, 20, 20);
+        
+        g.setFont(ROULETTE_RESULT_TITLE_FONT);
+        g.setColor(titleColor);
+        drawCenteredText(g, titleText, cy - 80);
+        
+        if (rouletteResultText != null) {
+            g.setFont(ROULETTE_RESULT_TEXT_FONT);
+            g.setColor(Color.WHITE);
+            drawCenteredText(g, rouletteResultText, cy);
+        }
+    }
+
+    /**
+     * Revólver centrado na tela, deslocado por (dx, dy) sem refazer a imagem
+     */
+    private void drawRevolver(Graphics2D g, int cx, int cy, int dx, int dy) {
+        if (revolverImage == null) return;
+        g.translate(dx, dy);
+        revolverPanel.draw(g, cx - REVOLVER_WIDTH / 2 - 2, cy - revolverHeight() / 2 - 2,
+            REVOLVER_WIDTH + 4, revolverHeight() + 4, 0);
+        g.translate(-dx, -dy);
+    }
+
+    private int revolverHeight() {
+        return (int)((double)REVOLVER_WIDTH / revolverImage.getWidth() * revolverImage.getHeight());
+    }
+
+    private void paintRevolver(Graphics2D g) {
+        int revH = revolverHeight();
+        revolverImage.draw(g, getWidth() / 2 - REVOLVER_WIDTH / 2, getHeight() / 2 - revH / 2, REVOLVER_WIDTH, revH);
+    }
+
+    private void paintDiceGlow(Graphics2D g) {
+        int cx = getWidth() / 2;
+        int cy = getHeight() / 2;
+        int diceSize = 128;
+        g.setColor(ROULETTE_ROLLING_GLOW); // Roxo brilhante
+        g.fillOval(cx - diceSize/2 - 20, cy - diceSize/2 - 20, diceSize + 40, diceSize + 40);
+    }
+
+    /**
+     * Arma em recuo e clarão do disparo no quadro {@code pose} da animação
+     */
+    private void paintFiringPose(Graphics2D g, int pose) {
+        int cx = getWidth() / 2;
+        int cy = getHeight() / 2;
+
+        // Efeito de Recuo (Arma sobe e rotaciona levemente)
+        int recoilY = -Math.min(pose * 15, 60); // Sobe até 60px
+        double recoilRot = Math.toRadians(-Math.min(pose * 2, 10)); // Gira um pouco para trás
+        if (revolverImage != null) {
+            int revH = revolverHeight();
+            g.translate(cx, cy + recoilY);
+            g.rotate(recoilRot);
+            revolverImage.draw(g, -REVOLVER_WIDTH/2, -revH/2, REVOLVER_WIDTH, revH);
+            g.rotate(-recoilRot);
+            g.translate(-cx, -(cy + recoilY));
+        }
+
+        // Clarão do disparo (Explosão)
+        // (faíscas e fumaça vêm do sistema de partículas)
+        if (pose < 5) {
+            int flashSize = 100 + pose * 50;
+            // Camada externa vermelha
+            g.setColor(FLASH_OUTER);
+            g.fillOval(cx - flashSize, cy - flashSize - 40, flashSize * 2, flashSize * 2);
+            // Miolo amarelo/branco
+            g.setColor(FLASH_INNER);
+            g.fillOval(cx - flashSize/2, cy - flashSize/2 - 40, flashSize, flashSize);
+        }
+    }
+
+    private void paintBang(Graphics2D g) {
+        int cy = getHeight() / 2;
+        g.setFont(BANG_FONT);
+        // Sombra do texto
+        g.setColor(Color.BLACK);
+        drawCenteredText(g, "BANG!", cy + 25);
+        // Texto principal
+        g.setColor(BANG_COLOR);
+        drawCenteredText(g, "BANG!", cy + 20);
+    }
+
+    private void paintClick(Graphics2D g) {
+        g.setFont(CLICK_FONT);
+        g.setColor(CLICK_COLOR);
+        drawCenteredText(g, "* click *", getHeight() / 2 - 80);
+    }
+
+    /**
+     * Painéis laterais de bônus e giros, refeitos só quando os valores mudam
+     */
     private void drawRouletteHUD(Graphics2D g, int cx, int cy) {
-        // Calculate current potential bonus
+        int bullets = getCurrentBulletCount();
+        rouletteBonusText();
+        bulletsText.of(bullets);
+        spinsText.of(MAX_SPINS - spinsUsed);
+        long key = ((long) bonusVersion << 40) | ((long) bulletsText.version << 22) | ((long) spinsText.version << 4)
+            | (bullets <= 1 ? 2 : 0) | (spinsUsed >= MAX_SPINS ? 1 : 0);
+        rouletteHudPanel.draw(g, cx - 352, cy - 52, 704, 124, key);
+    }
+
+    /**
+     * Bônus atual formatado; a string só é refeita quando o valor muda
+     */
+    private String rouletteBonusText() {
         double baseBonus = Math.pow(diceAnimationResult + 1, 2);
         int penaltySpins = Math.max(0, spinsUsed - 1);
         double currentBonus = baseBonus * Math.pow(0.5, penaltySpins);
+        if (bonusText == null || currentBonus != bonusValue) {
+            bonusValue = currentBonus;
+            bonusText = String.format("%.2f", currentBonus) + "x";
+            bonusVersion++;
+        }
+        return bonusText;
+    }
+
+    private void paintRouletteHUD(Graphics2D g) {
+        int cx = getWidth() / 2;
+        int cy = getHeight() / 2;
         int bullets = getCurrentBulletCount();
 
         // --- Painel ESQUERDO (Multiplicador) ---
@@ -1756,50 +2147,50 @@ public class GameScreen extends Screen {
         int leftX = cx - 350; 
         int panelY = cy - 50; 
 
-        g.setColor(new Color(20, 30, 20, 220));
+        g.setColor(HUD_BONUS_FILL);
         g.fillRoundRect(leftX, panelY, panelW, panelH, 20, 20);
-        g.setColor(new Color(50, 200, 50)); // Borda Verde
-        g.setStroke(new BasicStroke(2));
+        g.setColor(RESULT_SUCCESS_BORDER); // Borda Verde
+        g.setStroke(STROKE_2);
         g.drawRoundRect(leftX, panelY, panelW, panelH, 20, 20);
 
-        g.setFont(new Font("Arial", Font.BOLD, 14));
-        g.setColor(new Color(150, 255, 150));
+        g.setFont(ROULETTE_LABEL_FONT);
+        g.setColor(HUD_BONUS_LABEL);
         g.drawString("POTENCIAL DE BÔNUS", leftX + 15, panelY + 25);
         
-        g.setFont(new Font("Arial", Font.BOLD, 36));
-        g.setColor(new Color(80, 255, 80));
-        String bonusStr = String.format("%.2f", currentBonus) + "x";
+        g.setFont(ROULETTE_VALUE_FONT);
+        g.setColor(HUD_BONUS_VALUE);
+        String bonusStr = rouletteBonusText();
         FontMetrics fm = g.getFontMetrics();
         g.drawString(bonusStr, leftX + (panelW - fm.stringWidth(bonusStr))/2, panelY + 70);
 
-        g.setFont(new Font("Arial", Font.BOLD, 14));
-        g.setColor(new Color(220, 220, 220));
-        g.drawString("BALAS: " + bullets, leftX + 15, panelY + 100);
+        g.setFont(ROULETTE_LABEL_FONT);
+        g.setColor(HUD_BULLETS);
+        g.drawString(bulletsText.of(bullets), leftX + 15, panelY + 100);
         
         // --- Painel DIREITO (Giros) ---
         int rightX = cx + 170; 
         
-        g.setColor(new Color(20, 20, 30, 220));
+        g.setColor(HUD_SPINS_FILL);
         g.fillRoundRect(rightX, panelY, panelW, panelH, 20, 20);
         
         boolean noBulletsToSpin = bullets <= 1;
-        Color spinColor = (spinsUsed >= MAX_SPINS || noBulletsToSpin) ? new Color(255, 80, 80) : new Color(100, 200, 255);
+        Color spinColor = (spinsUsed >= MAX_SPINS || noBulletsToSpin) ? ROULETTE_WARNING_TITLE : HUD_SPINS_LEFT;
         g.setColor(spinColor);
         g.drawRoundRect(rightX, panelY, panelW, panelH, 20, 20);
 
-        g.setFont(new Font("Arial", Font.BOLD, 14));
-        g.setColor(new Color(200, 200, 255));
+        g.setFont(ROULETTE_LABEL_FONT);
+        g.setColor(HUD_SPINS_LABEL);
         g.drawString("GIROS RESTANTES", rightX + 25, panelY + 25);
 
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(ROULETTE_VALUE_FONT);
         g.setColor(spinColor);
-        String spinStr = (MAX_SPINS - spinsUsed) + " / " + MAX_SPINS;
+        String spinStr = spinsText.of(MAX_SPINS - spinsUsed);
         int spinW = g.getFontMetrics().stringWidth(spinStr);
         g.drawString(spinStr, rightX + (panelW - spinW)/2, panelY + 70);
 
         if (noBulletsToSpin) {
-            g.setFont(new Font("Arial", Font.BOLD, 14));
-            g.setColor(new Color(255, 180, 180));
+            g.setFont(ROULETTE_LABEL_FONT);
+            g.setColor(HUD_NO_BULLETS);
             String warn = "SEM BALAS";
             int warnW = g.getFontMetrics().stringWidth(warn);
             g.drawString(warn, rightX + (panelW - warnW)/2, panelY + 100);
@@ -1807,90 +2198,32 @@ public class GameScreen extends Screen {
     }
     
     private void drawClosedDrumOverlay(Graphics2D g, int cx, int cy, double angle, double opacity, boolean revealBullets, boolean keepChambersVisible) {
-        int cylRadius = 120;
-        int holeDist = 70;
-        int holeRadius = 25;
-        
         // --- 1. Tambor Giratório Sob a Película ---
-        Graphics2D gRot = (Graphics2D) g.create();
-        gRot.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        gRot.rotate(Math.toRadians(angle), cx, cy);
-        
-        // Base escura do tambor
-        gRot.setColor(new Color(40, 40, 40)); 
-        gRot.fillOval(cx - cylRadius, cy - cylRadius, cylRadius * 2, cylRadius * 2);
-        
-           // Desenha os 6 chambers (com balas opcionais)
-        for (int i = 0; i < 6; i++) {
-             double theta = Math.toRadians(i * 60 - 90);
-             int hx = cx + (int)(Math.cos(theta) * holeDist);
-             int hy = cy + (int)(Math.sin(theta) * holeDist);
-             
-             // Chamber Preto (Buraco Escuro)
-             gRot.setColor(Color.BLACK);
-             gRot.fillOval(hx - holeRadius, hy - holeRadius, holeRadius * 2, holeRadius * 2);
-
-                 if (revealBullets && i < getCurrentBulletCount()) {
-                  gRot.setColor(new Color(218, 165, 32));
-                  gRot.fillOval(hx - holeRadius + 2, hy - holeRadius + 2, holeRadius * 2 - 4, holeRadius * 2 - 4);
-                  gRot.setColor(new Color(180, 180, 180));
-                  gRot.fillOval(hx - 8, hy - 8, 16, 16);
-               }
-             
-             // Pequena borda interna para definição visual
-             gRot.setColor(new Color(60, 60, 60, 100));
-             gRot.setStroke(new BasicStroke(2));
-             gRot.drawOval(hx - holeRadius, hy - holeRadius, holeRadius * 2, holeRadius * 2);
-        }
-        
-        gRot.dispose();
+        // Quadro pré-renderizado; mistura com o próximo quando o giro está lento
+        int visibleBullets = revealBullets ? getCurrentBulletCount() : 0;
+        boolean blend = rouletteState == RouletteState.SPINNING && currentSpinVelocity < 5.0;
+        cylinderRenderer.drawDrum(g, cx, cy, angle, visibleBullets, blend);
         
         // --- 2. A Película Cinza por Cima (Film Overlay) ---
         // Transparência varia durante o giro para esconder as munições no final
-        int maxAlpha = 255;
-        int filmAlpha = (int)(Math.max(0.0, Math.min(1.0, opacity)) * maxAlpha);
-        g.setColor(new Color(60, 60, 60, filmAlpha)); // Cinza variável
-        g.fillOval(cx - cylRadius, cy - cylRadius, cylRadius * 2, cylRadius * 2);
+        cylinderRenderer.drawFilm(g, cx, cy, opacity);
 
         if (keepChambersVisible) {
-            for (int i = 0; i < 6; i++) {
-                double theta = Math.toRadians(i * 60 - 90);
-                int hx = cx + (int)(Math.cos(theta) * holeDist);
-                int hy = cy + (int)(Math.sin(theta) * holeDist);
-                
-                g.setColor(new Color(10, 10, 10, 220));
-                g.fillOval(hx - holeRadius, hy - holeRadius, holeRadius * 2, holeRadius * 2);
-                g.setColor(new Color(80, 80, 80, 180));
-                g.setStroke(new BasicStroke(2));
-                g.drawOval(hx - holeRadius, hy - holeRadius, holeRadius * 2, holeRadius * 2);
-            }
+            cylinderRenderer.drawChambers(g, cx, cy);
         }
         
-        // Borda do tambor fechado
-        g.setColor(new Color(30, 30, 30));
-        g.setStroke(new BasicStroke(4));
-        g.drawOval(cx - cylRadius, cy - cylRadius, cylRadius * 2, cylRadius * 2);
-        
-        // Eixo central
-        g.setColor(new Color(20, 20, 20));
-        g.fillOval(cx - 15, cy - 15, 30, 30);
-        
-        // --- 3. Seta Indicativa ---
-        // Aponta para o topo (12 horas)
-        int arrowY = cy - cylRadius - 10;
-        
-        g.setColor(new Color(255, 50, 50)); // Vermelho
-        
-        Polygon arrow = new Polygon();
-        arrow.addPoint(cx - 15, arrowY - 20); // Topo Esq
-        arrow.addPoint(cx + 15, arrowY - 20); // Topo Dir
-        arrow.addPoint(cx, arrowY);           // Ponta Baixo
-        
-        g.fillPolygon(arrow);
-        
-        g.setFont(new Font("Arial", Font.BOLD, 14));
-        g.setColor(new Color(255, 100, 100));
-        drawCenteredText(g, "ALVO", arrowY - 25);
+        // --- 3. Borda, eixo, seta e rótulo "ALVO" (fixos) ---
+        cylinderRenderer.drawCap(g, cx, cy);
+    }
+
+    /**
+     * Gera aos poucos os quadros do primeiro giro: o tambor com as balas
+     * sorteadas (revelado no início) e depois o tambor coberto, sem balas
+     */
+    private void prerenderSpinFrames(int maxFrames) {
+        if (cylinderRenderer.prerenderSpin(Math.max(1, diceAnimationResult), maxFrames)) {
+            cylinderRenderer.prerenderSpin(0, maxFrames);
+        }
     }
 
     private int getCurrentBulletCount() {
@@ -1898,47 +2231,8 @@ public class GameScreen extends Screen {
         return Math.max(1, diceAnimationResult - removed);
     }
 
-    private void drawCylinder(Graphics2D g, int cx, int cy, double angle, int bulletsLoaded) {
-         int cylRadius = 120;
-         int holeDist = 70;
-         int holeRadius = 25;
-         
-         Graphics2D gCyl = (Graphics2D) g.create();
-         gCyl.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-         gCyl.rotate(Math.toRadians(angle), cx, cy);
-         
-         // Corpo
-         gCyl.setColor(new Color(40, 40, 40));
-         gCyl.fillOval(cx - cylRadius, cy - cylRadius, cylRadius * 2, cylRadius * 2);
-         gCyl.setColor(new Color(20, 20, 20));
-         gCyl.setStroke(new BasicStroke(5));
-         gCyl.drawOval(cx - cylRadius, cy - cylRadius, cylRadius * 2, cylRadius * 2);
-         
-         // Eixo
-         gCyl.setColor(new Color(10, 10, 10));
-         gCyl.fillOval(cx - 15, cy - 15, 30, 30);
-         
-         for (int i = 0; i < 6; i++) {
-             double theta = Math.toRadians(i * 60 - 90);
-             int hx = cx + (int)(Math.cos(theta) * holeDist);
-             int hy = cy + (int)(Math.sin(theta) * holeDist);
-             
-             gCyl.setColor(Color.BLACK);
-             gCyl.fillOval(hx - holeRadius, hy - holeRadius, holeRadius * 2, holeRadius * 2);
-             
-             // Desenha todas as balas carregadas (visual relativo ao tambor)
-             if (i < bulletsLoaded) {
-                 gCyl.setColor(new Color(218, 165, 32));
-                 gCyl.fillOval(hx - holeRadius + 2, hy - holeRadius + 2, holeRadius * 2 - 4, holeRadius * 2 - 4);
-                 gCyl.setColor(new Color(180, 180, 180)); 
-                 gCyl.fillOval(hx - 8, hy - 8, 16, 16);
-             }
-             
-             gCyl.setColor(new Color(80, 80, 80));
-             gCyl.setStroke(new BasicStroke(2));
-             gCyl.drawOval(hx - holeRadius, hy - holeRadius, holeRadius * 2, holeRadius * 2);
-         }
-         gCyl.dispose();
+    private void drawCylinder(Graphics2D g, int cx, int cy, int bulletsLoaded) {
+        cylinderRenderer.drawLoading(g, cx, cy, bulletsLoaded);
     }
     
     private void drawCenteredText(Graphics2D g, String text, int y) {
@@ -1957,7 +2251,32 @@ public class GameScreen extends Screen {
         return String.format("%.1f", value);
     }
 
-    private void drawStatusPanel(Graphics2D g, int x, int y) {
+    /**
+     * Texto "prefixo + valor + sufixo" do HUD, formatado só quando o valor muda
+     */
+    private final class ValueText {
+        private final String prefix;
+        private final String suffix;
+        private double value;
+        private String text;
+        private int version; // Incrementada a cada troca de texto
+
+        ValueText(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        String of(double newValue) {
+            if (text == null || newValue != value) {
+                value = newValue;
+                text = prefix + formatValue(newValue) + suffix;
+                version++;
+            }
+            return text;
+        }
+    }
+
+    private void drawStatusPanelChrome(Graphics2D g, int x, int y) {
         int width = 200;
         int height = 185;
         
@@ -1977,37 +2296,64 @@ public class GameScreen extends Screen {
         g.setColor(new Color(100, 150, 200, 100));
         g.drawLine(x + 10, y + 35, x + width - 10, y + 35);
         
-        // Itens
+        // Rótulos dos itens
         int startY = y + 55;
         int gap = 25;
         
-        drawStatItem(g, "Round:", String.valueOf(gameState.getCurrentRound()), x + 15, startY);
-        drawStatItem(g, "Blind:", gameState.getCurrentBlind() + "/3", x + 15, startY + gap);
-        drawStatItem(g, "Mãos:", (gameState.getMaxHands() - gameState.getHandsPlayed()) + "/" + gameState.getMaxHands(), x + 15, startY + gap * 2);
-        drawStatItem(g, "Descartes:", String.valueOf(gameState.getDiscards()), x + 15, startY + gap * 3);
+        drawStatLabel(g, "Round:", x + 15, startY);
+        drawStatLabel(g, "Blind:", x + 15, startY + gap);
+        drawStatLabel(g, "Mãos:", x + 15, startY + gap * 2);
+        drawStatLabel(g, "Descartes:", x + 15, startY + gap * 3);
         
         // Multiplicador com destaque
         g.setFont(new Font("Arial", Font.BOLD, 16));
         g.setColor(new Color(200, 200, 200));
         g.drawString("Multi:", x + 15, startY + gap * 4 + 2);
+    }
+
+    private void drawStatusPanel(Graphics2D g, int x, int y) {
+        // Moldura e rótulos vêm da camada estática; aqui só os valores
+        int startY = y + 55;
+        int gap = 25;
+        
+        drawStatItem(g, roundText.of(gameState.getCurrentRound()), x + 15, startY);
+        drawStatItem(g, blindText.of(gameState.getCurrentBlind()), x + 15, startY + gap);
+        drawStatItem(g, handsText(), x + 15, startY + gap * 2);
+        drawStatItem(g, discardsText.of(gameState.getDiscards()), x + 15, startY + gap * 3);
         
-        g.setFont(new Font("Arial", Font.BOLD, 18));
-        g.setColor(new Color(255, 223, 0));
-        g.drawString(formatValue(gameState.getMultiplier()) + "x", x + 110, startY + gap * 4 + 2);
+        g.setFont(MULTIPLIER_FONT);
+        g.setColor(MULTIPLIER_COLOR);
+        g.drawString(multiplierText.of(gameState.getMultiplier()), x + 110, startY + gap * 4 + 2);
+    }
+
+    private String handsText() {
+        int max = gameState.getMaxHands();
+        int left = max - gameState.getHandsPlayed();
+        if (handsText == null || left != handsTextLeft || max != handsTextMax) {
+            handsTextLeft = left;
+            handsTextMax = max;
+            handsText = left + "/" + max;
+            handsVersion++;
+        }
+        return handsText;
     }
     
-    private void drawStatItem(Graphics2D g, String label, String value, int x, int y) {
+    private void drawStatLabel(Graphics2D g, String label, int x, int y) {
         g.setFont(new Font("Arial", Font.BOLD, 15));
         g.setColor(new Color(180, 180, 180));
         g.drawString(label, x, y);
+    }
+
+    private void drawStatItem(Graphics2D g, String value, int x, int y) {
+        g.setFont(STAT_FONT);
         g.setColor(Color.WHITE);
         g.drawString(value, x + 110, y);
     }
 
-    private void drawRequiredHandPanel(Graphics2D g) {
+    private void drawRequiredHandPanelChrome(Graphics2D g, int panelAreaWidth) {
         int width = 360;
         int height = 90;
-        int x = (getWidth() - width) / 2;
+        int x = (panelAreaWidth - width) / 2;
         int y = 30;
         
         // Sombra suave
@@ -2019,67 +2365,77 @@ public class GameScreen extends Screen {
         g.setPaint(gradient);
         g.fillRoundRect(x, y, width, height, 20, 20);
         
+        // Label "META DA RODADA"
+        g.setColor(new Color(200, 200, 200));
+        g.setFont(new Font("Arial", Font.BOLD, 12));
+        g.drawString("META DA RODADA", x + 20, y + 25);
+        
+        // Separador vertical
+        g.setColor(new Color(255, 255, 255, 50));
+        g.drawLine(x + 160, y + 15, x + 160, y + 75);
+        
+        g.setFont(new Font("Arial", Font.PLAIN, 12));
+        g.setColor(new Color(180, 180, 180));
+        g.drawString("Mão mínima:", x + 180, y + 25);
+    }
+
+    private void drawRequiredHandPanel(Graphics2D g) {
+        int width = 360;
+        int height = 90;
+        int x = (getWidth() - width) / 2;
+        int y = 30;
+        
         // Borda brilhante indicando status da meta
         int currentProjected = (int)(gameState.getMoney() * gameState.getMultiplier());
         boolean isReached = currentProjected >= gameState.getTargetMoney();
         
         if (isReached) {
-            g.setColor(new Color(100, 255, 100)); // Verde se garantiu
+            g.setColor(REACHED_COLOR); // Verde se garantiu
         } else {
-            g.setColor(new Color(255, 100, 100)); // Vermelho se ainda não
+            g.setColor(MISSED_COLOR); // Vermelho se ainda não
         }
-        g.setStroke(new BasicStroke(2));
+        g.setStroke(STROKE_2);
         g.drawRoundRect(x, y, width, height, 20, 20);
         
-        // Label "META DA RODADA"
-        g.setColor(new Color(200, 200, 200));
-        g.setFont(new Font("Arial", Font.BOLD, 12));
-        String label = "META DA RODADA";
-        g.drawString(label, x + 20, y + 25);
-        
         // Valor da Meta ($)
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 36));
-        String targetText = "$" + formatValue(gameState.getTargetMoney());
+        g.setFont(TARGET_FONT);
+        String target = targetText.of(gameState.getTargetMoney());
         FontMetrics fmTarget = g.getFontMetrics();
         // Ajusta fonte se for muito grande
-        if (fmTarget.stringWidth(targetText) > 130) {
-            g.setFont(new Font("Arial", Font.BOLD, 28));
+        if (fmTarget.stringWidth(target) > 130) {
+            g.setFont(TARGET_SMALL_FONT);
         }
-        g.drawString(targetText, x + 20, y + 65);
-        
-        // Separador vertical
-        g.setColor(new Color(255, 255, 255, 50));
-        g.drawLine(x + 160, y + 15, x + 160, y + 75);
+        g.drawString(target, x + 20, y + 65);
         
         // Projeção atual
-        g.setFont(new Font("Arial", Font.PLAIN, 12));
-        g.setColor(new Color(180, 180, 180));
-        g.drawString("Mão mínima:", x + 180, y + 25);
-        
-        g.setFont(new Font("Arial", Font.BOLD, 16));
-        g.setColor(new Color(255, 223, 0));
-        String handName = gameState.getRequiredHand().getName();
-        // Trunca se for muito longo
-        if (g.getFontMetrics().stringWidth(handName) > 170) {
-            handName = handName.substring(0, 12) + "...";
+        g.setFont(HAND_NAME_FONT);
+        g.setColor(MULTIPLIER_COLOR);
+        PokerHand requiredHand = gameState.getRequiredHand();
+        if (requiredHand != handNameHand) {
+            handNameHand = requiredHand;
+            handNameText = requiredHand.getName();
+            // Trunca se for muito longo
+            if (g.getFontMetrics().stringWidth(handNameText) > 170) {
+                handNameText = handNameText.substring(0, 12) + "...";
+            }
         }
-        g.drawString(handName, x + 180, y + 45);
+        g.drawString(handNameText, x + 180, y + 45);
         
         // Dinheiro Projetado
-        g.setFont(new Font("Arial", Font.BOLD, 14));
-        if (isReached) g.setColor(new Color(100, 255, 100));
-        else g.setColor(new Color(255, 150, 150));
+        g.setFont(PROJECTED_FONT);
+        if (isReached) g.setColor(REACHED_COLOR);
+        else g.setColor(PROJECTED_MISSED_COLOR);
         
-        g.drawString("D x M: $" + formatValue(currentProjected), x + 180, y + 70);
+        g.drawString(projectedText.of(currentProjected), x + 180, y + 70);
     }
 
     private void drawMoneyPanel(Graphics2D g) {
-        String moneyText = "$" + formatValue(gameState.getMoney());
-        g.setFont(new Font("Arial", Font.BOLD, 28));
+        String money = moneyText.of(gameState.getMoney());
+        g.setFont(MONEY_FONT);
         FontMetrics fm = g.getFontMetrics();
         
-        int textWidth = fm.stringWidth(moneyText);
+        int textWidth = fm.stringWidth(money);
         int padding = 20;
         int width = Math.max(textWidth + padding * 2, 100); // Garante largura mínima
         int height = 50;
@@ -2087,17 +2443,17 @@ public class GameScreen extends Screen {
         int y = 30;
         
         // Fundo estilo etiqueta
-        g.setColor(new Color(20, 60, 20, 200));
+        g.setColor(MONEY_FILL);
         g.fillRoundRect(x, y, width, height, 25, 25);
         
-        g.setColor(new Color(50, 200, 50));
-        g.setStroke(new BasicStroke(2));
+        g.setColor(MONEY_BORDER);
+        g.setStroke(STROKE_2);
         g.drawRoundRect(x, y, width, height, 25, 25);
         
         // Texto
-        g.setColor(new Color(100, 255, 100));
+        g.setColor(RADIO_TEXT);
         // Centraliza texto
-        g.drawString(moneyText, x + (width - textWidth) / 2, y + 35);
+        g.drawString(money, x + (width - textWidth) / 2, y + 35);
 
         int controlsCenter = x + width / 2;
         int controlsTop = y + 60;
@@ -2120,51 +2476,60 @@ public class GameScreen extends Screen {
 
         int restoreLeft = getWidth() - marginRight - restoreSize;
         int restoreCenterX = restoreLeft + restoreSize / 2;
-        drawIconControl(g, restoreOrderButton, "Original", restoreCenterX, baseTop, restoreSize, restoreSize);
+        drawIconControl(g, restoreOrderButton, HOVER_RESTORE, restoreImage, "Original", restoreCenterX, baseTop, restoreSize, restoreSize);
 
         int sortLeft = restoreLeft - gap - sortWidth;
         int sortCenterX = sortLeft + sortWidth / 2;
-        drawIconControl(g, sortOrderButton, "Ordenar", sortCenterX, baseTop, sortWidth, sortHeight);
+        drawIconControl(g, sortOrderButton, HOVER_SORT, sortImage, "Ordenar", sortCenterX, baseTop, sortWidth, sortHeight);
     }
 
-    private void drawIconControl(Graphics2D g, JButton button, String label, int centerX, int topY) {
-        drawIconControl(g, button, label, centerX, topY, 48, 48);
+    private void drawIconControl(Graphics2D g, JButton button, int hoverId, Atlas.Sprite icon, String label, int centerX, int topY) {
+        drawIconControl(g, button, hoverId, icon, label, centerX, topY, 48, 48);
     }
 
-    private void drawIconControl(Graphics2D g, JButton button, String label, int centerX, int topY, int width, int height) {
+    private void drawIconControl(Graphics2D g, JButton button, int hoverId, Atlas.Sprite icon, String label, int centerX, int topY, int width, int height) {
         if (button == null) return;
         int left = centerX - width / 2;
-        button.setBounds(left, topY, width, height);
+        if (button.getX() != left || button.getY() != topY || button.getWidth() != width || button.getHeight() != height) {
+            button.setBounds(left, topY, width, height);
+            hoverTracker.set(hoverId, left, topY, width, height, hoverId == HOVER_PAUSE ? moneyRegion() : orderControlsRegion());
+            hoverTracker.refresh();
+        }
         boolean enabled = button.isEnabled();
-        boolean hover = enabled && mousePos != null && button.getBounds().contains(mousePos);
+        boolean hover = hoverTracker.isHovered(hoverId);
 
         int highlightInset = 1;
         if (hover) {
-            g.setColor(new Color(20, 60, 20, 180));
+            g.setColor(CONTROL_HOVER_FILL);
             drawHighlightShape(g, left - highlightInset, topY - highlightInset, width + highlightInset * 2, height + highlightInset * 2, width, height);
-            g.setColor(new Color(50, 200, 50));
+            g.setColor(MONEY_BORDER);
             Stroke previous = g.getStroke();
-            g.setStroke(new BasicStroke(3));
+            g.setStroke(STROKE_3);
             drawHighlightOutline(g, left - highlightInset, topY - highlightInset, width + highlightInset * 2, height + highlightInset * 2, width, height);
             g.setStroke(previous);
         } else if (!enabled) {
-            g.setColor(new Color(20, 20, 20, 120));
+            g.setColor(CONTROL_DISABLED_FILL);
             drawHighlightShape(g, left - highlightInset, topY - highlightInset, width + highlightInset * 2, height + highlightInset * 2, width, height);
         }
 
-        Graphics2D g2 = (Graphics2D) g.create();
+        // O botão só serve de área de clique; o ícone é desenhado aqui
+        Composite previousComposite = g.getComposite();
         if (!enabled) {
-            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.4f));
+            g.setComposite(DISABLED_COMPOSITE);
         }
-        g2.translate(button.getX(), button.getY());
-        button.paint(g2);
-        g2.dispose();
+        if (icon != null) {
+            icon.draw(g, left, topY, width, height);
+        } else {
+            g.setColor(CONTROL_ICON_FALLBACK);
+            g.fillOval(left + 8, topY + 8, width - 16, height - 16);
+        }
+        g.setComposite(previousComposite);
 
-        g.setFont(new Font("Arial", Font.PLAIN, 12));
+        g.setFont(CONTROL_LABEL_FONT);
         if (!enabled) {
-            g.setColor(new Color(130, 130, 130));
+            g.setColor(CONTROL_LABEL_DISABLED);
         } else {
-            g.setColor(hover ? new Color(150, 255, 150) : new Color(200, 200, 200));
+            g.setColor(hover ? CONTROL_LABEL_HOVER : CONTROL_LABEL);
         }
         if (label != null) {
             FontMetrics fm = g.getFontMetrics();
@@ -2192,11 +2557,11 @@ public class GameScreen extends Screen {
 
     private void drawPauseControl(Graphics2D g, int centerX, int topY) {
         String label = paused ? "Retomar" : "Pausar";
-        drawIconControl(g, pauseButton, label, centerX, topY);
+        drawIconControl(g, pauseButton, HOVER_PAUSE, pauseImage, label, centerX, topY);
     }
 
     private void drawPauseOverlay(Graphics2D g) {
-        g.setColor(new Color(0, 0, 0, 120));
+        g.setColor(PAUSE_DIM);
         g.fillRect(0, 0, getWidth(), getHeight());
 
         int panelWidth = 380;
@@ -2204,41 +2569,89 @@ public class GameScreen extends Screen {
         int panelX = (getWidth() - panelWidth) / 2;
         int panelY = (getHeight() - panelHeight) / 2;
 
-        g.setColor(new Color(0, 0, 0, 160));
+        g.setColor(PAUSE_SHADOW);
         g.fillRoundRect(panelX + 6, panelY + 8, panelWidth, panelHeight, 28, 28);
 
-        GradientPaint gp = new GradientPaint(panelX, panelY, new Color(40, 35, 60, 230), panelX, panelY + panelHeight, new Color(20, 18, 35, 230));
-        g.setPaint(gp);
+        // O gradiente só depende da posição vertical do painel
+        if (pausePanelPaint == null || pausePanelPaintY != panelY) {
+            pausePanelPaintY = panelY;
+            pausePanelPaint = new GradientPaint(0, panelY, new Color(40, 35, 60, 230), 0, panelY + panelHeight, new Color(20, 18, 35, 230));
+        }
+        g.setPaint(pausePanelPaint);
         g.fillRoundRect(panelX, panelY, panelWidth, panelHeight, 28, 28);
 
-        g.setColor(new Color(120, 180, 255, 160));
-        g.setStroke(new BasicStroke(2f));
+        g.setColor(PAUSE_BORDER);
+        g.setStroke(STROKE_2);
         g.drawRoundRect(panelX, panelY, panelWidth, panelHeight, 28, 28);
 
-        g.setColor(new Color(255, 255, 255, 230));
-        g.setFont(new Font("Arial", Font.BOLD, 42));
+        g.setColor(PAUSE_TITLE);
+        g.setFont(PAUSE_TITLE_FONT);
         drawCenteredText(g, "PAUSADO", panelY + 80);
     }
     
+    private void drawDeckChrome(Graphics2D g) {
+        if (deckImage == null) return;
+        
+        // Apenas o rótulo; a pilha e o contador ficam em cache (drawDeck)
+        int x = DECK_X;
+        int y = DECK_Y;
+        int width = DECK_WIDTH;
+        
+        // Label opcional acima
+        g.setFont(new Font("Arial", Font.BOLD, 14));
+        String label = "DECK";
+        int lx = x + (width - g.getFontMetrics().stringWidth(label))/2;
+        int ly = y - 8;
+        g.setColor(Color.BLACK);
+        g.drawString(label, lx+1, ly+1);
+        g.setColor(new Color(200, 200, 200));
+        g.drawString(label, lx, ly);
+    }
+
     private void drawDeck(Graphics2D g) {
         if (deckImage == null) return;
         
-        int x = 840;
-        int y = 350;
-        int width = 110;
-        int height = 150;
+        int remaining = gameState.getGameDeck().getRemainingCards();
+        double scale = ImageUtils.getDeviceScale();
+        if (deckStackImage == null || remaining != deckStackCount || scale != deckStackScale) {
+            renderDeckStack(remaining, scale);
+        }
+        ImageUtils.drawAtDeviceScale(g, deckStackImage, DECK_X, DECK_Y);
+    }
+
+    /**
+     * Pré-renderiza a pilha do deck com o contador; só refeito quando a contagem ou a escala mudam
+     */
+    private void renderDeckStack(int remaining, double scale) {
+        int pixelWidth = (int) Math.ceil(DECK_WIDTH * scale);
+        int pixelHeight = (int) Math.ceil(DECK_HEIGHT * scale);
+        if (deckStackImage == null || deckStackImage.getWidth() != pixelWidth || deckStackImage.getHeight() != pixelHeight) {
+            if (deckStackImage != null) {
+                deckStackImage.flush();
+            }
+            deckStackImage = ImageUtils.createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT);
+        }
+        deckStackCount = remaining;
+        deckStackScale = scale;
+        
+        Graphics2D g = deckStackImage.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, pixelWidth, pixelHeight);
+        g.setComposite(AlphaComposite.SrcOver);
+        g.scale(scale, scale);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         
-        g.drawImage(deckImage, x, y, width, height, this);
+        deckImage.draw(g, 0, 0, DECK_WIDTH, DECK_HEIGHT);
         
         // Contador
-        String count = String.valueOf(gameState.getGameDeck().getRemainingCards());
+        String count = String.valueOf(remaining);
         g.setFont(new Font("Arial", Font.BOLD, 36));
         FontMetrics fm = g.getFontMetrics();
         int textW = fm.stringWidth(count);
         int textH = fm.getAscent();
         
-        int tx = x + (width - textW) / 2;
-        int ty = y + (height + textH) / 2 - 5;
+        int tx = (DECK_WIDTH - textW) / 2;
+        int ty = (DECK_HEIGHT + textH) / 2 - 5;
         
         // Outline text
         g.setColor(Color.BLACK);
@@ -2249,16 +2662,7 @@ public class GameScreen extends Screen {
         }
         g.setColor(Color.WHITE);
         g.drawString(count, tx, ty);
-        
-        // Label opcional acima
-        g.setFont(new Font("Arial", Font.BOLD, 14));
-        String label = "DECK";
-        int lx = x + (width - g.getFontMetrics().stringWidth(label))/2;
-        int ly = y - 8;
-        g.setColor(Color.BLACK);
-        g.drawString(label, lx+1, ly+1);
-        g.setColor(new Color(200, 200, 200));
-        g.drawString(label, lx, ly);
+        g.dispose();
     }
 
     private void drawPlayerHand(Graphics2D g) {
@@ -2285,27 +2689,132 @@ public class GameScreen extends Screen {
             }
             
             // Verifica hover considerando a área expandida da carta
-            Rectangle cardArea = new Rectangle(x, y - 25, cardWidth, cardHeight + 25);
-            boolean isHovered = !paused && (rouletteState == RouletteState.NONE) && cardArea.contains(mousePos);
+            boolean isHovered = hoverTracker.isHovered(HOVER_CARD + i);
             if (isHovered && !isSelected) {
                 y -= 15;
             }
             
             cardRenderer.drawCard(g, card, x, y, cardWidth, cardHeight);
             
-            if (isSelected) {
-                g.setColor(new Color(100, 255, 100));
-                g.setStroke(new BasicStroke(3));
-                g.drawRoundRect(x - 2, y - 2, cardWidth + 4, cardHeight + 4, 8, 8);
-            } else if (isHovered) {
-                g.setColor(new Color(255, 255, 100, 150));
-                g.setStroke(new BasicStroke(2));
-                g.drawRoundRect(x - 1, y - 1, cardWidth + 2, cardHeight + 2, 8, 8);
+            if (isSelected || isHovered) {
+                updateCardOutlines(cardWidth, cardHeight);
+                ImageUtils.drawAtDeviceScale(g, isSelected ? selectedOutline : hoverOutline,
+                    x - OUTLINE_MARGIN, y - OUTLINE_MARGIN);
             }
         }
     }
     
+    /**
+     * Pré-renderiza os contornos de carta selecionada e em hover
+     */
+    private void updateCardOutlines(int cardWidth, int cardHeight) {
+        int key = (cardWidth << 16) | cardHeight;
+        double scale = ImageUtils.getDeviceScale();
+        if (selectedOutline != null && key == outlineKey && scale == outlineScale) return;
+        flushCardOutlines();
+        outlineKey = key;
+        outlineScale = scale;
+        selectedOutline = renderCardOutline(cardWidth, cardHeight, scale, CARD_SELECTED, STROKE_3, 2);
+        hoverOutline = renderCardOutline(cardWidth, cardHeight, scale, CARD_HOVER, STROKE_2, 1);
+    }
+
+    private static BufferedImage renderCardOutline(int cardWidth, int cardHeight, double scale, Color color, Stroke stroke, int inset) {
+        int width = cardWidth + OUTLINE_MARGIN * 2;
+        int height = cardHeight + OUTLINE_MARGIN * 2;
+        BufferedImage image = ImageUtils.createCompatibleImage((int) Math.ceil(width * scale), (int) Math.ceil(height * scale), Transparency.TRANSLUCENT);
+        Graphics2D g = image.createGraphics();
+        g.scale(scale, scale);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(color);
+        g.setStroke(stroke);
+        g.drawRoundRect(OUTLINE_MARGIN - inset, OUTLINE_MARGIN - inset, cardWidth + inset * 2, cardHeight + inset * 2, 8, 8);
+        g.dispose();
+        return image;
+    }
+
+    private void flushCardOutlines() {
+        if (selectedOutline != null) {
+            selectedOutline.flush();
+            selectedOutline = null;
+        }
+        if (hoverOutline != null) {
+            hoverOutline.flush();
+            hoverOutline = null;
+        }
+    }
+
+    /**
+     * Coloca a roleta em um estado fixo, no quadro de animação informado.
+     * Usado pelo RenderBenchmark para medir cada estado sem esperar as cutscenes.
+     */
+    void showRouletteFrame(RouletteState state, int frame) {
+        cutscenes.cancelAll();
+        if (rouletteState == RouletteState.NONE && state != RouletteState.NONE) {
+            setGameButtonsEnabled(false);
+        }
+        rouletteState = state;
+        diceAnimationResult = 3;
+        diceAnimationFrame = frame % 6;
+        loadingBulletIndex = frame % (diceAnimationResult + 1);
+        cylinderAngle = frame * 7.5;
+        currentSpinVelocity = 40.0 * Math.pow(0.985, frame % 240);
+        spinMaxVelocity = 40.0;
+        spinCoverAlpha = Math.min(1.0, (frame % 240) / 240.0);
+        shootingFrame = frame % 21;
+        firingFrame = frame % 16;
+        roundDied = (frame / 16) % 2 == 0;
+        rouletteSuccess = !roundDied;
+        rouletteResultText = roundDied ? "BANG! O tambor parou na bala." : "CLICK! Sobreviveu. Bônus: 16x!";
+        shakeX = frame % 7 - 3;
+        shakeY = (frame * 3) % 7 - 3;
+        if (state == RouletteState.FIRING && firingFrame == 0) {
+            emitGunshot();
+        } else if (state == RouletteState.ROLLING && diceAnimationFrame == 0) {
+            particles.emit(DICE_SPARKS, getWidth() / 2f, getHeight() / 2f);
+        }
+        particles.update(GameLoop.STEP_MS);
+        dirty.addAll();
+    }
+    
+    @Override
+    public int getScheduledTaskCount() {
+        return cutscenes.getActiveCount();
+    }
+    
     @Override
     public void dispose() {
+        staticLayer.flush();
+        if (deckStackImage != null) {
+            deckStackImage.flush();
+            deckStackImage = null;
+        }
+        cylinderRenderer.flush();
+        particles.clear();
+        particles.flush();
+        statusPanel.flush();
+        requiredPanel.flush();
+        moneyPanel.flush();
+        radioPanel.flush();
+        orderControlsPanel.flush();
+        rouletteTitlePanel.flush();
+        rouletteBoxPanel.flush();
+        rouletteHudPanel.flush();
+        diceGlowPanel.flush();
+        revolverPanel.flush();
+        bangPanel.flush();
+        clickPanel.flush();
+        for (CachedPanel panel : firingPanels) {
+            panel.flush();
+        }
+        flushCardOutlines();
+        for (ResultOverlay overlay : new ResultOverlay[] {handResultOverlay, roundCompleteOverlay, gameOverOverlay}) {
+            if (overlay != null) {
+                overlay.flush();
+            }
+        }
+        for (String path : acquiredImages) {
+            ImageCache.getInstance().release(path);
+        }
+        acquiredImages.clear();
     }
 }
@@ -0,0 +1,161 @@
+package game;
+
+import core.*;
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lista de exemplos de mãos do tutorial, com rolagem virtualizada
+ *
+ * Cada linha (nome, multiplicador e as cinco cartas) é pintada uma única vez
+ * em uma imagem; o paint só desenha as linhas que cruzam a área visível.
+ * Imagens de linhas longe da área visível são liberadas, então a lista pode
+ * crescer sem que o custo da rolagem ou a memória cresçam junto.
+ */
+public class HandGallery extends JComponent implements Scrollable {
+    private static final int ROW_WIDTH = 750;
+    private static final int ROW_HEIGHT = 160;
+    private static final int SEPARATOR_HEIGHT = 2;
+    private static final int ROW_STRIDE = ROW_HEIGHT + SEPARATOR_HEIGHT;
+    private static final int INFO_WIDTH = 260; // Coluna do nome e do multiplicador
+    private static final int CARD_GAP = 5;
+    private static final int CARD_TOP = 20;
+    private static final int KEEP_ROWS = 3; // Linhas mantidas em cache além das visíveis
+    private static final int SCROLL_UNIT = 16;
+
+    private static final Font NAME_FONT = new Font("Arial", Font.BOLD, 22);
+    private static final Font MULT_FONT = new Font("Arial", Font.PLAIN, 18);
+    private static final Color NAME_COLOR = new Color(255, 223, 0);
+    private static final Color SEPARATOR_COLOR = new Color(255, 255, 255, 50);
+
+    /**
+     * Um exemplo de mão, com as cartas criadas uma vez e a imagem da linha
+     */
+    private final class Row {
+        final String name;
+        final String multText;
+        final PlayingCard[] cards;
+        final CachedPanel image;
+        int x; // Posição atual da linha (definida antes de desenhar)
+        int y;
+
+        Row(PokerHand hand, PlayingCard[] cards) {
+            this.name = hand.getName();
+            this.multText = "Mult: " + hand.getMultiplier() + "x";
+            this.cards = cards;
+            this.image = new CachedPanel(this::paint);
+        }
+
+        private void paint(Graphics2D g) {
+            drawLabel(g, name, NAME_FONT, NAME_COLOR, x + 20, y + 10);
+            drawLabel(g, multText, MULT_FONT, Color.WHITE, x + 20, y + 10 + (ROW_HEIGHT - 20) / 2);
+            for (int i = 0; i < cards.length; i++) {
+                cardRenderer.drawCard(g, cards[i], x + INFO_WIDTH + i * (cardWidth + CARD_GAP), y + CARD_TOP, cardWidth, cardHeight);
+            }
+            g.setColor(SEPARATOR_COLOR);
+            g.fillRect(x, y + ROW_HEIGHT, ROW_WIDTH, SEPARATOR_HEIGHT);
+        }
+    }
+
+    private final CardRenderer cardRenderer;
+    private final int cardWidth;
+    private final int cardHeight;
+    private final List<Row> rows = new ArrayList<>();
+    private final Rectangle clipScratch = new Rectangle();
+
+    public HandGallery(int cardWidth, int cardHeight) {
+        this.cardRenderer = CardRenderer.getInstance();
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+        setOpaque(false);
+    }
+
+    /**
+     * Adiciona um exemplo; sem naipe informado, os naipes variam carta a carta
+     */
+    public void addExample(PokerHand hand, Rank[] ranks, Suit suit) {
+        PlayingCard[] cards = new PlayingCard[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            cards[i] = new PlayingCard(ranks[i], suit != null ? suit : Suit.values()[i % 4]);
+        }
+        rows.add(new Row(hand, cards));
+        revalidate();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(ROW_WIDTH, rows.size() * ROW_STRIDE);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (rows.isEmpty()) return;
+        Graphics2D g2 = (Graphics2D) g;
+        Rectangle clip = g2.getClipBounds(clipScratch);
+        if (clip == null) {
+            clip = clipScratch;
+            clip.setBounds(0, 0, getWidth(), getHeight());
+        }
+        int first = Math.max(0, clip.y / ROW_STRIDE);
+        int last = Math.min(rows.size() - 1, (clip.y + clip.height - 1) / ROW_STRIDE);
+        int rowX = Math.max(0, (getWidth() - ROW_WIDTH) / 2);
+        for (int i = first; i <= last; i++) {
+            Row row = rows.get(i);
+            row.x = rowX;
+            row.y = i * ROW_STRIDE;
+            row.image.draw(g2, row.x, row.y, ROW_WIDTH, ROW_STRIDE, 0);
+        }
+
+        // Libera as linhas que ficaram longe da área visível
+        for (int i = 0; i < rows.size(); i++) {
+            if (i < first - KEEP_ROWS || i > last + KEEP_ROWS) {
+                rows.get(i).image.flush();
+            }
+        }
+    }
+
+    /**
+     * Libera todas as imagens em cache
+     */
+    public void flush() {
+        for (Row row : rows) {
+            row.image.flush();
+        }
+    }
+
+    private static void drawLabel(Graphics2D g, String text, Font font, Color color, int x, int y) {
+        // Centralizado verticalmente na metade da linha, como nas células de um GridLayout(2, 1)
+        int cellHeight = (ROW_HEIGHT - 20) / 2;
+        g.setFont(font);
+        g.setColor(color);
+        FontMetrics fm = g.getFontMetrics();
+        g.drawString(text, x, y + (cellHeight - fm.getAscent() - fm.getDescent()) / 2 + fm.getAscent());
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return SCROLL_UNIT;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
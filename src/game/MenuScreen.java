@@ -5,13 +5,14 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
 /**
  * Tela do menu principal
  */
 public class MenuScreen extends Screen {
+    private static final Font MENU_BUTTON_FONT = new Font("Arial", Font.BOLD, 28);
+    private static final Color BUTTON_ROLLOVER_TEXT = new Color(255, 255, 100);
+    
     private JButton playButton;
     private JButton optionsButton;
     private JButton exitButton;
@@ -26,12 +27,7 @@ public class MenuScreen extends Screen {
      * Carrega a imagem de fundo
      */
     private void loadBackground() {
-        try {
-            backgroundImage = ImageIO.read(getClass().getResourceAsStream("/assets/bg-menu.png"));
-        } catch (IOException e) {
-            System.err.println("Erro ao carregar imagem de fundo: " + e.getMessage());
-            backgroundImage = null;
-        }
+        backgroundImage = ImageCache.getInstance().acquire("/assets/bg-menu.png");
     }
     
     @Override
@@ -93,52 +89,11 @@ public class MenuScreen extends Screen {
      * Cria um botão estilizado para o menu
      */
     private JButton createMenuButton(String text, int x, int y) {
-        JButton button = new JButton(text) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Desenha o fundo com gradiente
-                if (getModel().isRollover()) {
-                    g2.setColor(new Color(90, 140, 190, 230));
-                } else {
-                    g2.setColor(new Color(50, 90, 140, 210));
-                }
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 15, 15);
-                
-                // Desenha a borda
-                g2.setStroke(new BasicStroke(getModel().isRollover() ? 3 : 2));
-                g2.setColor(new Color(255, 223, 0));
-                g2.drawRoundRect(1, 1, getWidth() - 3, getHeight() - 3, 15, 15);
-                
-                g2.dispose();
-                super.paintComponent(g);
-            }
-        };
-        
+        SkinnedButton button = new SkinnedButton(text, ButtonSkin.MENU);
         button.setBounds(x, y, 300, 65);
-        button.setFont(new Font("Arial", Font.BOLD, 28));
-        button.setForeground(new Color(255, 255, 255));
-        button.setFocusPainted(false);
-        button.setBorderPainted(false);
-        button.setContentAreaFilled(false);
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        button.setOpaque(false);
-        
-        // Efeito hover com mudança de cor do texto
-        button.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                button.setForeground(new Color(255, 255, 100));
-            }
-            
-            @Override
-            public void mouseExited(MouseEvent e) {
-                button.setForeground(Color.WHITE);
-            }
-        });
-        
+        button.setFont(MENU_BUTTON_FONT);
+        button.setForeground(Color.WHITE);
+        button.setRolloverForeground(BUTTON_ROLLOVER_TEXT); // Efeito hover no texto
         return button;
     }
     
@@ -149,6 +104,7 @@ public class MenuScreen extends Screen {
     
     @Override
     protected void render(Graphics2D g) {
+        StartupTimeline.firstFrame();
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
         // Desenha a imagem de fundo
@@ -165,6 +121,9 @@ public class MenuScreen extends Screen {
     
     @Override
     public void dispose() {
-        // Limpa recursos se necessário
+        if (backgroundImage != null) {
+            ImageCache.getInstance().release("/assets/bg-menu.png");
+            backgroundImage = null;
+        }
     }
 }
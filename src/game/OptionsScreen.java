@@ -10,9 +10,15 @@ import java.awt.event.*;
  * Tela de opções do jogo
  */
 public class OptionsScreen extends Screen {
+    private static final int[] FPS_CAPS = {30, 60, 120, 144, 0}; // 0 = monitor
+    private static final Font BUTTON_FONT = new Font("Arial", Font.BOLD, 24);
+    private static final Color BUTTON_ROLLOVER_TEXT = new Color(255, 255, 100);
+    
     private JButton backButton;
     private JSlider volumeSlider;
     private JLabel volumeValueLabel;
+    private JButton renderModeButton;
+    private JButton fpsCapButton;
     private Settings settings;
     
     public OptionsScreen(ScreenManager screenManager) {
@@ -64,8 +70,37 @@ public class OptionsScreen extends Screen {
         });
         add(volumeSlider);
         
+        // Modo de renderização (Swing ou ativa com BufferStrategy)
+        JLabel renderLabel = new JLabel("Renderização:");
+        renderLabel.setFont(new Font("Arial", Font.BOLD, 24));
+        renderLabel.setForeground(Color.WHITE);
+        renderLabel.setBounds(300, 312, 200, 30);
+        add(renderLabel);
+        
+        renderModeButton = createButton(renderModeText(), 520, 300, 200);
+        renderModeButton.addActionListener(e -> {
+            // Sem BufferStrategy a configuração volta sozinha para o Swing
+            settings.setActiveRendering(!settings.isActiveRendering());
+            renderModeButton.setText(renderModeText());
+        });
+        add(renderModeButton);
+        
+        // Limite de FPS da renderização ativa
+        JLabel fpsLabel = new JLabel("Limite de FPS:");
+        fpsLabel.setFont(new Font("Arial", Font.BOLD, 24));
+        fpsLabel.setForeground(Color.WHITE);
+        fpsLabel.setBounds(300, 382, 200, 30);
+        add(fpsLabel);
+        
+        fpsCapButton = createButton(fpsCapText(), 520, 370, 200);
+        fpsCapButton.addActionListener(e -> {
+            settings.setFpsCap(nextFpsCap(settings.getFpsCap()));
+            fpsCapButton.setText(fpsCapText());
+        });
+        add(fpsCapButton);
+        
         // Botão Voltar
-        backButton = createButton("VOLTAR", 400, 380);
+        backButton = createButton("VOLTAR", 400, 470);
         backButton.addActionListener(e -> {
             screenManager.changeScreen("menu");
         });
@@ -75,50 +110,34 @@ public class OptionsScreen extends Screen {
         repaint();
     }
     
-    private JButton createButton(String text, int x, int y) {
-        JButton button = new JButton(text) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                if (getModel().isRollover()) {
-                    g2.setColor(new Color(90, 140, 190, 230));
-                } else {
-                    g2.setColor(new Color(50, 90, 140, 210));
-                }
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 15, 15);
-                
-                g2.setStroke(new BasicStroke(getModel().isRollover() ? 3 : 2));
-                g2.setColor(new Color(255, 223, 0));
-                g2.drawRoundRect(1, 1, getWidth() - 3, getHeight() - 3, 15, 15);
-                
-                g2.dispose();
-                super.paintComponent(g);
+    private String renderModeText() {
+        return settings.isActiveRendering() ? "ATIVA" : "SWING";
+    }
+    
+    private String fpsCapText() {
+        int cap = settings.getFpsCap();
+        return cap > 0 ? String.valueOf(cap) : "MONITOR";
+    }
+    
+    private static int nextFpsCap(int current) {
+        for (int i = 0; i < FPS_CAPS.length; i++) {
+            if (FPS_CAPS[i] == current) {
+                return FPS_CAPS[(i + 1) % FPS_CAPS.length];
             }
-        };
-        
-        button.setBounds(x, y, 200, 55);
-        button.setFont(new Font("Arial", Font.BOLD, 24));
+        }
+        return FPS_CAPS[0];
+    }
+    
+    private JButton createButton(String text, int x, int y) {
+        return createButton(text, x, y, 200);
+    }
+    
+    private JButton createButton(String text, int x, int y, int width) {
+        SkinnedButton button = new SkinnedButton(text, ButtonSkin.MENU);
+        button.setBounds(x, y, width, 55);
+        button.setFont(BUTTON_FONT);
         button.setForeground(Color.WHITE);
-        button.setFocusPainted(false);
-        button.setBorderPainted(false);
-        button.setContentAreaFilled(false);
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        button.setOpaque(false);
-        
-        button.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                button.setForeground(new Color(255, 255, 100));
-            }
-            
-            @Override
-            public void mouseExited(MouseEvent e) {
-                button.setForeground(Color.WHITE);
-            }
-        });
-        
+        button.setRolloverForeground(BUTTON_ROLLOVER_TEXT);
         return button;
     }
     
@@ -0,0 +1,252 @@
+package game;
+
+import core.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark de renderização offscreen, sem janela
+ *
+ * Monta cada tela sem JFrame, coloca o GameScreen em estados representativos
+ * (mão parada, hover, cada estado da roleta, pausa e telas de resultado) e
+ * pinta repetidamente em uma BufferedImage, medindo ms/frame e bytes
+ * alocados por frame. Uso:
+ *
+ *   mvn -B compile
+ *   java -Djava.awt.headless=true -cp target/classes game.RenderBenchmark [--frames N] [--warmup N] [--max-ms X]
+ *
+ * Com --max-ms o processo termina com código 1 se a média de algum estado
+ * passar do limite. Com --assert-zero-alloc, os estados "render/..." (apenas
+ * o render() do GameScreen em regime, sem os componentes Swing: mão parada,
+ * hover, giro e disparo da roleta) precisam alocar zero bytes por frame.
+ * Esses estados aquecem por pelo menos {@link #STEADY_WARMUP} frames: até o
+ * JIT compilar o drawImage do Java2D, cada chamada ainda aloca alguns bytes.
+ */
+public class RenderBenchmark {
+    private static final int STEADY_WARMUP = 3000;
+
+    /**
+     * Prepara o estado da tela antes de cada frame medido
+     */
+    private interface FrameSetup {
+        void prepare(int frame);
+    }
+
+    /**
+     * Desenha um frame da tela
+     */
+    private interface FramePainter {
+        void paint(Graphics2D g);
+    }
+
+    private static class Scenario {
+        final String name;
+        final Screen screen;
+        final Runnable enter;
+        final FrameSetup setup;
+        final FramePainter painter;
+        final boolean steady; // Caminho que deve rodar sem alocar
+
+        Scenario(String name, Screen screen, Runnable enter, FrameSetup setup) {
+            this(name, screen, enter, setup, screen::paint, false);
+        }
+
+        Scenario(String name, Screen screen, Runnable enter, FrameSetup setup, FramePainter painter, boolean steady) {
+            this.name = name;
+            this.screen = screen;
+            this.enter = enter;
+            this.setup = setup;
+            this.painter = painter;
+            this.steady = steady;
+        }
+    }
+
+    private static class Result {
+        final String name;
+        final double avgMs;
+        final double p99Ms;
+        final double bytesPerFrame;
+        final boolean steady;
+
+        Result(String name, double avgMs, double p99Ms, double bytesPerFrame, boolean steady) {
+            this.name = name;
+            this.avgMs = avgMs;
+            this.p99Ms = p99Ms;
+            this.bytesPerFrame = bytesPerFrame;
+            this.steady = steady;
+        }
+    }
+
+    private final int frames;
+    private final int warmup;
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    private RenderBenchmark(int frames, int warmup) {
+        this.frames = frames;
+        this.warmup = warmup;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            this.threadBean = (com.sun.management.ThreadMXBean) bean;
+            this.threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.threadBean = null;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        int frames = 300;
+        int warmup = 100;
+        double maxMs = -1;
+        boolean assertZeroAlloc = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--frames": frames = Integer.parseInt(args[++i]); break;
+                case "--warmup": warmup = Integer.parseInt(args[++i]); break;
+                case "--max-ms": maxMs = Double.parseDouble(args[++i]); break;
+                case "--assert-zero-alloc": assertZeroAlloc = true; break;
+                default:
+                    System.err.println("Argumento desconhecido: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        RenderBenchmark benchmark = new RenderBenchmark(frames, warmup);
+        List<Result> results = new ArrayList<>();
+        SwingUtilities.invokeAndWait(() -> benchmark.runAll(results));
+
+        System.out.printf("%-28s %10s %10s %12s%n", "estado", "ms/frame", "p99 ms", "bytes/frame");
+        boolean failed = false;
+        for (Result r : results) {
+            String bytes = r.bytesPerFrame < 0 ? "n/d" : String.format("%.0f", r.bytesPerFrame);
+            System.out.printf("%-28s %10.3f %10.3f %12s%n", r.name, r.avgMs, r.p99Ms, bytes);
+            if (maxMs > 0 && r.avgMs > maxMs) {
+                System.err.println("Acima do limite de " + maxMs + " ms: " + r.name);
+                failed = true;
+            }
+            if (assertZeroAlloc && r.steady && r.bytesPerFrame != 0) {
+                System.err.println("Alocação em regime (esperado 0 bytes/frame): " + r.name);
+                failed = true;
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private void runAll(List<Result> results) {
+        GameManager.getInstance().startNewGame();
+        for (Scenario scenario : buildScenarios()) {
+            results.add(run(scenario));
+        }
+    }
+
+    private List<Scenario> buildScenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+
+        MenuScreen menu = new MenuScreen(null);
+        scenarios.add(new Scenario("menu", menu, menu::initialize, null));
+
+        OptionsScreen options = new OptionsScreen(null);
+        scenarios.add(new Scenario("opcoes", options, options::initialize, null));
+
+        TutorialScreen tutorial = new TutorialScreen(null);
+        scenarios.add(new Scenario("tutorial/menu", tutorial, tutorial::initialize, null));
+        scenarios.add(new Scenario("tutorial/logica", tutorial, tutorial::showLogic, null));
+        scenarios.add(new Scenario("tutorial/maos", tutorial, tutorial::showHandsList, null));
+
+        GameScreen game = new GameScreen(null);
+        scenarios.add(new Scenario("jogo/mao", game, game::initialize, null));
+        scenarios.add(new Scenario("jogo/hover", game, game::initialize,
+            frame -> moveMouse(game, frame % 2 == 0 ? 300 : 600, 510)));
+        scenarios.add(new Scenario("render/mao", game, game::initialize, null, game::render, true));
+        scenarios.add(new Scenario("render/hover", game, game::initialize,
+            frame -> moveMouse(game, frame % 2 == 0 ? 300 : 600, 510), game::render, true));
+        scenarios.add(new Scenario("render/roleta-giro", game, game::initialize,
+            frame -> game.showRouletteFrame(GameScreen.RouletteState.SPINNING, frame), game::render, true));
+        scenarios.add(new Scenario("render/roleta-disparo", game, game::initialize,
+            frame -> game.showRouletteFrame(GameScreen.RouletteState.FIRING, frame), game::render, true));
+        for (GameScreen.RouletteState state : GameScreen.RouletteState.values()) {
+            if (state == GameScreen.RouletteState.NONE) continue;
+            scenarios.add(new Scenario("roleta/" + state.name().toLowerCase(), game, game::initialize,
+                frame -> game.showRouletteFrame(state, frame)));
+        }
+        scenarios.add(new Scenario("jogo/pausa", game, () -> {
+            game.initialize();
+            game.togglePause();
+        }, null));
+        scenarios.add(new Scenario("resultado/mao", game, () -> {
+            game.initialize();
+            game.showHandResultScreen(PokerHand.FLUSH, PokerHand.FLUSH.getMultiplier(), true);
+        }, null));
+        scenarios.add(new Scenario("resultado/rodada", game, () -> {
+            game.initialize();
+            game.showRoundCompleteScreen();
+        }, null));
+        scenarios.add(new Scenario("resultado/fim-de-jogo", game, () -> {
+            game.initialize();
+            game.showGameOverScreen();
+        }, null));
+        return scenarios;
+    }
+
+    private static void moveMouse(Screen screen, int x, int y) {
+        screen.dispatchEvent(new MouseEvent(screen, MouseEvent.MOUSE_MOVED, 0, 0, x, y, 0, false));
+    }
+
+    private Result run(Scenario scenario) {
+        Screen screen = scenario.screen;
+        screen.setSize(Settings.GAME_WIDTH, Settings.GAME_HEIGHT);
+        scenario.enter.run();
+        layoutTree(screen);
+
+        BufferedImage target = ImageUtils.createCompatibleImage(screen.getWidth(), screen.getHeight(), Transparency.OPAQUE);
+        long threadId = Thread.currentThread().getId();
+        long[] times = new long[frames];
+        long allocated = 0;
+
+        int warmupFrames = scenario.steady ? Math.max(warmup, STEADY_WARMUP) : warmup;
+        for (int i = -warmupFrames; i < frames; i++) {
+            if (scenario.setup != null) {
+                scenario.setup.prepare(i + warmupFrames);
+            }
+            Graphics2D g = target.createGraphics();
+            long bytesBefore = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+            long start = System.nanoTime();
+            scenario.painter.paint(g);
+            long elapsed = System.nanoTime() - start;
+            long bytesAfter = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+            g.dispose();
+            if (i >= 0) {
+                times[i] = elapsed;
+                allocated += bytesAfter - bytesBefore;
+            }
+        }
+
+        double total = 0;
+        for (long t : times) total += t;
+        Arrays.sort(times);
+        double p99 = times[Math.min(frames - 1, (int) Math.ceil(frames * 0.99) - 1)];
+        double bytesPerFrame = threadBean != null ? (double) allocated / frames : -1;
+        return new Result(scenario.name, total / frames / 1e6, p99 / 1e6, bytesPerFrame, scenario.steady);
+    }
+
+    /**
+     * Valida a hierarquia como se a tela estivesse em uma janela
+     */
+    private static void layoutTree(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layoutTree((Container) child);
+            }
+        }
+    }
+}
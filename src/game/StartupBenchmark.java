@@ -0,0 +1,210 @@
+package game;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark de inicialização: abre o jar do jogo várias vezes e mede as fases
+ *
+ * Cada execução roda com -Dluck.startup=tsv e -Dluck.startup.exit=true, então
+ * o jogo imprime a linha do tempo (StartupTimeline) ao pintar o primeiro frame
+ * do menu e fecha. As execuções "frio" usam um cache de pixels vazio (uma
+ * pasta nova a cada vez). As "quente" reaproveitam um cache já preenchido.
+ * Para cada fase são mostrados p50 e p90 da duração. A linha "primeiro frame
+ * do menu" mostra o tempo desde o início da JVM. Precisa de uma tela (não roda
+ * headless). Uso:
+ *
+ *   mvn -B package
+ *   java -cp target/classes game.StartupBenchmark [--jar target/LUCK-1.0-SNAPSHOT.jar] [--runs N] [--max-ms X]
+ *
+ * Com --max-ms o processo termina com código 1 se o p50 quente até o primeiro
+ * frame passar do limite. Com --runtime target/runtime (gerado por
+ * "mvn -Pruntime package") o jogo roda no runtime reduzido, com o arquivo
+ * CDS; --no-cds roda no mesmo runtime sem ele, para comparar.
+ */
+public class StartupBenchmark {
+    private static final String FIRST_FRAME = "primeiro frame do menu";
+    private static final long TIMEOUT_S = 60;
+    private static final String RUNTIME_JAR = "app/LUCK.jar";
+    private static final String RUNTIME_CDS = "lib/luck.jsa";
+
+    /**
+     * Medidas de uma fase ao longo das execuções
+     */
+    private static class Samples {
+        final List<Double> cold = new ArrayList<>();
+        final List<Double> warm = new ArrayList<>();
+    }
+
+    private final String jar;
+    private final File runtime; // null: JVM atual com -jar
+    private final boolean cds;
+    private final Map<String, Samples> phases = new LinkedHashMap<>();
+
+    private StartupBenchmark(String jar, File runtime, boolean cds) {
+        this.jar = jar;
+        this.runtime = runtime;
+        this.cds = cds;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String jar = "target/LUCK-1.0-SNAPSHOT.jar";
+        int runs = 10;
+        double maxMs = -1;
+        File runtime = null;
+        boolean cds = true;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--jar": jar = args[++i]; break;
+                case "--runs": runs = Integer.parseInt(args[++i]); break;
+                case "--max-ms": maxMs = Double.parseDouble(args[++i]); break;
+                case "--runtime": runtime = new File(args[++i]); break;
+                case "--no-cds": cds = false; break;
+                default:
+                    System.err.println("Argumento desconhecido: " + args[i]);
+                    System.exit(2);
+            }
+        }
+        if (runtime != null) {
+            if (!new File(runtime, RUNTIME_JAR).isFile()) {
+                System.err.println("Runtime não encontrado (rode mvn -Pruntime package): " + runtime);
+                System.exit(2);
+            }
+        } else if (!new File(jar).isFile()) {
+            System.err.println("Jar não encontrado (rode mvn package): " + jar);
+            System.exit(2);
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(jar, runtime, cds);
+        for (int i = 0; i < runs; i++) {
+            Path cache = Files.createTempDirectory("luck-frio");
+            try {
+                benchmark.record(benchmark.launch(cache), true);
+            } finally {
+                deleteTree(cache);
+            }
+        }
+        Path warmCache = Files.createTempDirectory("luck-quente");
+        try {
+            benchmark.launch(warmCache); // Preenche o cache
+            for (int i = 0; i < runs; i++) {
+                benchmark.record(benchmark.launch(warmCache), false);
+            }
+        } finally {
+            deleteTree(warmCache);
+        }
+
+        System.out.printf("%-40s %10s %10s %10s %10s%n", "fase (ms)", "frio p50", "frio p90", "quente p50", "quente p90");
+        for (Map.Entry<String, Samples> e : benchmark.phases.entrySet()) {
+            Samples s = e.getValue();
+            System.out.printf("%-40s %10s %10s %10s %10s%n", e.getKey(),
+                format(percentile(s.cold, 0.5)), format(percentile(s.cold, 0.9)),
+                format(percentile(s.warm, 0.5)), format(percentile(s.warm, 0.9)));
+        }
+
+        Samples first = benchmark.phases.get(FIRST_FRAME);
+        double warmFirst = first != null ? percentile(first.warm, 0.5) : Double.NaN;
+        if (maxMs > 0 && !(warmFirst <= maxMs)) {
+            System.err.println("Primeiro frame acima do limite de " + maxMs + " ms: " + format(warmFirst));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Abre o jogo uma vez e devolve as linhas "fase, início, duração" impressas por ele
+     */
+    private List<String[]> launch(Path cache) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        ProcessBuilder builder = new ProcessBuilder(command);
+        if (runtime != null) {
+            // Mesma linha de comando do lançador "luck": o CDS guarda o caminho relativo do jar
+            command.add(new File(runtime, "bin" + File.separator + "java").getAbsolutePath());
+            if (cds) {
+                command.add("-XX:SharedArchiveFile=" + RUNTIME_CDS);
+                command.add("-Xshare:auto");
+            } else {
+                command.add("-Xshare:off");
+            }
+            builder.directory(runtime);
+        } else {
+            command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        }
+        command.add("-Dluck.startup=tsv");
+        command.add("-Dluck.startup.exit=true");
+        command.add("-Dluck.cache.dir=" + cache.toAbsolutePath());
+        if (runtime != null) {
+            command.addAll(List.of("-cp", RUNTIME_JAR, "Main"));
+        } else {
+            command.addAll(List.of("-jar", jar));
+        }
+        // A saída vai para um arquivo: lendo o pipe, readLine bloquearia até o
+        // jogo fechar e o limite de tempo nunca valeria
+        Path log = Files.createTempFile("luck-startup", ".log");
+        try {
+            builder.redirectErrorStream(true);
+            builder.redirectOutput(log.toFile());
+            Process process = builder.start();
+            if (!process.waitFor(TIMEOUT_S, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+                throw new IOException("O jogo não terminou em " + TIMEOUT_S + " s");
+            }
+            List<String[]> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(log), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("STARTUP\t")) {
+                        lines.add(line.split("\t"));
+                    }
+                }
+            }
+            if (lines.isEmpty()) {
+                throw new IOException("O jogo não imprimiu a linha do tempo (código " + process.exitValue() + ")");
+            }
+            return lines;
+        } finally {
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private void record(List<String[]> lines, boolean cold) {
+        for (String[] f : lines) {
+            String name = f[1];
+            // Para o primeiro frame interessa o instante; para as outras fases, a duração
+            double value = Double.parseDouble(name.equals(FIRST_FRAME) ? f[2] : f[3]);
+            Samples samples = phases.computeIfAbsent(name, n -> new Samples());
+            (cold ? samples.cold : samples.warm).add(value);
+        }
+    }
+
+    private static double percentile(List<Double> values, double p) {
+        if (values.isEmpty()) return Double.NaN;
+        double[] sorted = values.stream().mapToDouble(Double::doubleValue).toArray();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p) - 1)];
+    }
+
+    private static String format(double ms) {
+        return Double.isNaN(ms) ? "-" : String.format("%.1f", ms);
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path p : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+}
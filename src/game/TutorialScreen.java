@@ -5,8 +5,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -21,21 +19,23 @@ public class TutorialScreen extends Screen {
     
     // Conteúdo de rolagem para mãos de poker
     private JScrollPane scrollPane;
-    private JPanel handsContentPanel;
+    private HandGallery handGallery;
+    
+    // Tamanho das cartas nos exemplos de mãos
+    private static final int CARD_WIDTH = 70;
+    private static final int CARD_HEIGHT = 96;
+    private static final Color BACKGROUND_DIM = new Color(0, 0, 0, 180);
+    private static final Font BUTTON_FONT = new Font("Arial", Font.BOLD, 18);
     
     public TutorialScreen(ScreenManager screenManager) {
         super(screenManager);
         this.cardRenderer = CardRenderer.getInstance();
+        this.cardRenderer.prewarm(CARD_WIDTH, CARD_HEIGHT);
         loadBackground();
     }
     
     private void loadBackground() {
-        try {
-            backgroundImage = ImageIO.read(getClass().getResourceAsStream("/assets/bg-menu.png"));
-        } catch (IOException e) {
-            System.err.println("Erro ao carregar imagem de fundo: " + e.getMessage());
-            backgroundImage = null;
-        }
+        backgroundImage = ImageCache.getInstance().acquire("/assets/bg-menu.png");
     }
     
     @Override
@@ -74,7 +74,7 @@ public class TutorialScreen extends Screen {
         repaint();
     }
     
-    private void showLogic() {
+    void showLogic() {
         removeAll();
         currentSection = 1;
         
@@ -142,7 +142,7 @@ public class TutorialScreen extends Screen {
         repaint();
     }
     
-    private void showHandsList() {
+    void showHandsList() {
         removeAll();
         currentSection = 2;
         
@@ -152,28 +152,28 @@ public class TutorialScreen extends Screen {
         titleLabel.setBounds(200, 20, 600, 50);
         add(titleLabel);
         
-        handsContentPanel = new JPanel();
-        handsContentPanel.setLayout(new BoxLayout(handsContentPanel, BoxLayout.Y_AXIS));
-        handsContentPanel.setOpaque(false);
-        
-        // Adiciona cada mão
-        addHandExample(PokerHand.ROYAL_FLUSH, new Rank[]{Rank.ACE, Rank.KING, Rank.QUEEN, Rank.JACK, Rank.TEN}, Suit.HEARTS);
-        addHandExample(PokerHand.STRAIGHT_FLUSH, new Rank[]{Rank.NINE, Rank.EIGHT, Rank.SEVEN, Rank.SIX, Rank.FIVE}, Suit.SPADES);
-        addHandExample(PokerHand.FOUR_OF_KIND, new Rank[]{Rank.ACE, Rank.ACE, Rank.ACE, Rank.ACE, Rank.KING}, Suit.DIAMONDS);
-        addHandExample(PokerHand.FULL_HOUSE, new Rank[]{Rank.KING, Rank.KING, Rank.KING, Rank.NINE, Rank.NINE}, Suit.CLUBS);
-        addHandExample(PokerHand.FLUSH, new Rank[]{Rank.ACE, Rank.JACK, Rank.EIGHT, Rank.SIX, Rank.TWO}, Suit.HEARTS);
-        addHandExample(PokerHand.STRAIGHT, new Rank[]{Rank.TEN, Rank.NINE, Rank.EIGHT, Rank.SEVEN, Rank.SIX}, null);
-        addHandExample(PokerHand.THREE_OF_KIND, new Rank[]{Rank.QUEEN, Rank.QUEEN, Rank.QUEEN, Rank.SEVEN, Rank.TWO}, null);
-        addHandExample(PokerHand.TWO_PAIR, new Rank[]{Rank.JACK, Rank.JACK, Rank.TEN, Rank.TEN, Rank.ACE}, null);
-        addHandExample(PokerHand.PAIR, new Rank[]{Rank.ACE, Rank.ACE, Rank.KING, Rank.QUEEN, Rank.JACK}, null);
-        addHandExample(PokerHand.HIGH_CARD, new Rank[]{Rank.ACE, Rank.JACK, Rank.NINE, Rank.FIVE, Rank.TWO}, null);
-        
-        scrollPane = new JScrollPane(handsContentPanel);
-        scrollPane.setBounds(100, 80, 800, 500);
-        scrollPane.setOpaque(false);
-        scrollPane.getViewport().setOpaque(false);
-        scrollPane.setBorder(null);
-        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        // Galeria montada uma vez; as linhas ficam em cache entre as visitas
+        if (handGallery == null) {
+            handGallery = new HandGallery(CARD_WIDTH, CARD_HEIGHT);
+            addHandExample(PokerHand.ROYAL_FLUSH, new Rank[]{Rank.ACE, Rank.KING, Rank.QUEEN, Rank.JACK, Rank.TEN}, Suit.HEARTS);
+            addHandExample(PokerHand.STRAIGHT_FLUSH, new Rank[]{Rank.NINE, Rank.EIGHT, Rank.SEVEN, Rank.SIX, Rank.FIVE}, Suit.SPADES);
+            addHandExample(PokerHand.FOUR_OF_KIND, new Rank[]{Rank.ACE, Rank.ACE, Rank.ACE, Rank.ACE, Rank.KING}, Suit.DIAMONDS);
+            addHandExample(PokerHand.FULL_HOUSE, new Rank[]{Rank.KING, Rank.KING, Rank.KING, Rank.NINE, Rank.NINE}, Suit.CLUBS);
+            addHandExample(PokerHand.FLUSH, new Rank[]{Rank.ACE, Rank.JACK, Rank.EIGHT, Rank.SIX, Rank.TWO}, Suit.HEARTS);
+            addHandExample(PokerHand.STRAIGHT, new Rank[]{Rank.TEN, Rank.NINE, Rank.EIGHT, Rank.SEVEN, Rank.SIX}, null);
+            addHandExample(PokerHand.THREE_OF_KIND, new Rank[]{Rank.QUEEN, Rank.QUEEN, Rank.QUEEN, Rank.SEVEN, Rank.TWO}, null);
+            addHandExample(PokerHand.TWO_PAIR, new Rank[]{Rank.JACK, Rank.JACK, Rank.TEN, Rank.TEN, Rank.ACE}, null);
+            addHandExample(PokerHand.PAIR, new Rank[]{Rank.ACE, Rank.ACE, Rank.KING, Rank.QUEEN, Rank.JACK}, null);
+            addHandExample(PokerHand.HIGH_CARD, new Rank[]{Rank.ACE, Rank.JACK, Rank.NINE, Rank.FIVE, Rank.TWO}, null);
+            
+            scrollPane = new JScrollPane(handGallery);
+            scrollPane.setBounds(100, 80, 800, 500);
+            scrollPane.setOpaque(false);
+            scrollPane.getViewport().setOpaque(false);
+            scrollPane.setBorder(null);
+            scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        }
+        scrollPane.getViewport().setViewPosition(new Point(0, 0));
         add(scrollPane);
         
         JButton backButton = createStyledButton("VOLTAR", 350, 600);
@@ -185,98 +185,14 @@ public class TutorialScreen extends Screen {
     }
     
     private void addHandExample(PokerHand handType, Rank[] ranks, Suit suit) {
-        JPanel panel = new JPanel();
-        panel.setLayout(new BorderLayout());
-        panel.setOpaque(false);
-        panel.setPreferredSize(new Dimension(750, 160));
-        panel.setMaximumSize(new Dimension(750, 160));
-        
-        // Título e Descrição
-        JPanel infoPanel = new JPanel();
-        infoPanel.setLayout(new GridLayout(2, 1));
-        infoPanel.setOpaque(false);
-        infoPanel.setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 10));
-        
-        JLabel nameLabel = new JLabel(handType.getName());
-        nameLabel.setFont(new Font("Arial", Font.BOLD, 22));
-        nameLabel.setForeground(new Color(255, 223, 0));
-        
-        JLabel scoreLabel = new JLabel("Mult: " + handType.getMultiplier() + "x");
-        scoreLabel.setFont(new Font("Arial", Font.PLAIN, 18));
-        scoreLabel.setForeground(Color.WHITE);
-        
-        infoPanel.add(nameLabel);
-        infoPanel.add(scoreLabel);
-        
-        // Cartas
-        JPanel cardsPanel = new JPanel() {
-             @Override
-             protected void paintComponent(Graphics g) {
-                 super.paintComponent(g);
-                 int x = 0;
-                 int width = 70;  // Carta menor para caber
-                 int height = 96;
-                 
-                 for (int i = 0; i < ranks.length; i++) {
-                     PlayingCard card;
-                     if (suit != null) {
-                        card = new PlayingCard(ranks[i], suit);
-                     } else {
-                        // Varia os naipes se não for flush
-                        Suit currentSuit = Suit.values()[i % 4];
-                        card = new PlayingCard(ranks[i], currentSuit);
-                     }
-                     cardRenderer.drawCard((Graphics2D)g, card, x + (i * (width + 5)), 20, width, height);
-                 }
-             }
-        };
-        cardsPanel.setPreferredSize(new Dimension(400, 140));
-        cardsPanel.setOpaque(false);
-        
-        panel.add(infoPanel, BorderLayout.WEST);
-        panel.add(cardsPanel, BorderLayout.CENTER);
-        
-        // Separador
-        JSeparator sep = new JSeparator();
-        sep.setForeground(new Color(255, 255, 255, 50));
-        
-        handsContentPanel.add(panel);
-        handsContentPanel.add(sep);
+        handGallery.addExample(handType, ranks, suit);
     }
     
     private JButton createStyledButton(String text, int x, int y) {
-        JButton button = new JButton(text) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Desenha o fundo estilo MenuScreen
-                if (getModel().isRollover()) {
-                    g2.setColor(new Color(90, 140, 190, 230));
-                } else {
-                    g2.setColor(new Color(50, 90, 140, 210));
-                }
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 15, 15);
-                
-                // Borda
-                g2.setStroke(new BasicStroke(2));
-                g2.setColor(new Color(255, 223, 0));
-                g2.drawRoundRect(1, 1, getWidth() - 3, getHeight() - 3, 15, 15);
-                
-                g2.dispose();
-                super.paintComponent(g);
-            }
-        };
-        
+        SkinnedButton button = new SkinnedButton(text, ButtonSkin.PANEL);
         button.setBounds(x, y, 300, 50);
-        button.setFont(new Font("Arial", Font.BOLD, 18));
+        button.setFont(BUTTON_FONT);
         button.setForeground(Color.WHITE);
-        button.setFocusPainted(false);
-        button.setBorderPainted(false);
-        button.setContentAreaFilled(false);
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        
         return button;
     }
     
@@ -289,7 +205,7 @@ public class TutorialScreen extends Screen {
         if (backgroundImage != null) {
             // Desenha com um overlay escuro para melhorar legibilidade
             g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-            g.setColor(new Color(0, 0, 0, 180));
+            g.setColor(BACKGROUND_DIM);
             g.fillRect(0, 0, getWidth(), getHeight());
         } else {
              g.setColor(new Color(20, 25, 35));
@@ -299,5 +215,12 @@ public class TutorialScreen extends Screen {
     
     @Override
     public void dispose() {
+        if (handGallery != null) {
+            handGallery.flush();
+        }
+        if (backgroundImage != null) {
+            ImageCache.getInstance().release("/assets/bg-menu.png");
+            backgroundImage = null;
+        }
     }
 }